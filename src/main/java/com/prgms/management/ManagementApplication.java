@@ -2,14 +2,37 @@ package com.prgms.management;
 
 //import com.prgms.management.command.CommandLineApplication;
 
+import com.prgms.management.command.CommandScriptRunner;
+import com.prgms.management.config.CommandLineExcludeFilter;
 import org.springframework.boot.SpringApplication;
-import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.context.ApplicationContext;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationExcludeFilter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
 
-@SpringBootApplication
+import java.io.IOException;
+
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@ComponentScan(excludeFilters = {
+    @ComponentScan.Filter(type = FilterType.CUSTOM, classes = TypeExcludeFilter.class),
+    @ComponentScan.Filter(type = FilterType.CUSTOM, classes = AutoConfigurationExcludeFilter.class),
+    @ComponentScan.Filter(type = FilterType.CUSTOM, classes = CommandLineExcludeFilter.class)})
 public class ManagementApplication {
-    public static void main(String[] args) {
-        ApplicationContext applicationContext = SpringApplication.run(ManagementApplication.class, args);
+    public static void main(String[] args) throws IOException {
+        ConfigurableApplicationContext applicationContext = SpringApplication.run(ManagementApplication.class, args);
 //        applicationContext.getBean(CommandLineApplication.class).run();
+
+        // --command.script=<파일 경로> 또는 '-'(표준 입력)로 실행하면 스크립트의 명령을 모두 실행한 뒤 종료한다.
+        // --command.enabled=false 로 실행하면 CLI 빈이 만들어지지 않으므로 스크립트도 실행되지 않는다.
+        String script = applicationContext.getEnvironment().getProperty("command.script");
+        CommandScriptRunner runner = applicationContext.getBeanProvider(CommandScriptRunner.class).getIfAvailable();
+        if (script != null && runner != null) {
+            runner.run(script, System.out);
+            System.exit(SpringApplication.exit(applicationContext));
+        }
     }
 }
@@ -0,0 +1,70 @@
+package com.prgms.management.campaign.controller;
+
+import com.prgms.management.campaign.dto.CampaignRequest;
+import com.prgms.management.campaign.dto.CampaignResponse;
+import com.prgms.management.campaign.model.Campaign;
+import com.prgms.management.campaign.service.CampaignService;
+import com.prgms.management.common.dto.Response;
+import com.prgms.management.common.ratelimit.AdmissionCategory;
+import com.prgms.management.common.ratelimit.RateLimit;
+import com.prgms.management.voucher.dto.VoucherResponse;
+import com.prgms.management.voucher.model.Voucher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("api/v1/campaigns")
+@Profile({"default"})
+public class APICampaignController {
+    private final CampaignService campaignService;
+
+    public APICampaignController(CampaignService campaignService) {
+        this.campaignService = campaignService;
+    }
+
+    @GetMapping
+    @RateLimit(AdmissionCategory.LIST)
+    public ResponseEntity<Response> campaignList() {
+        List<CampaignResponse> resultList = campaignService.findCampaigns().stream().map(CampaignResponse::of).toList();
+        Response response = new Response(HttpStatus.OK.value(), "캠페인 목록 조회 성공", resultList);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping
+    @RateLimit(AdmissionCategory.WRITE)
+    public ResponseEntity<Response> campaignAdd(@RequestBody CampaignRequest request) {
+        Campaign campaign = campaignService.addCampaign(request.toCampaign());
+        Response response = new Response(HttpStatus.CREATED.value(), "캠페인 등록 성공", CampaignResponse.of(campaign));
+        return ResponseEntity.created(URI.create("/api/v1/campaigns/" + campaign.getId().toString())).body(response);
+    }
+
+    @GetMapping("{id}")
+    @RateLimit(AdmissionCategory.READ)
+    public ResponseEntity<Response> campaignDetail(@PathVariable("id") UUID id) {
+        Campaign campaign = campaignService.findCampaignById(id);
+        Response response = new Response(HttpStatus.OK.value(), "캠페인 조회 성공", CampaignResponse.of(campaign));
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("{id}/stock")
+    @RateLimit(AdmissionCategory.READ)
+    public ResponseEntity<Response> campaignStock(@PathVariable("id") UUID id) {
+        Response response = new Response(HttpStatus.OK.value(), "캠페인 재고 조회 성공",
+            campaignService.findCampaignStock(id));
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("{id}/vouchers")
+    @RateLimit(AdmissionCategory.WRITE)
+    public ResponseEntity<Response> campaignIssue(@PathVariable("id") UUID id) {
+        Voucher voucher = campaignService.issueVoucher(id);
+        Response response = new Response(HttpStatus.CREATED.value(), "캠페인 바우처 발급 성공", VoucherResponse.of(voucher));
+        return ResponseEntity.created(URI.create("/api/v1/vouchers/" + voucher.getId().toString())).body(response);
+    }
+}
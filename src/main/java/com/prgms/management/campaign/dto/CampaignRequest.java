@@ -0,0 +1,15 @@
+package com.prgms.management.campaign.dto;
+
+import com.prgms.management.campaign.model.Campaign;
+import com.prgms.management.voucher.model.VoucherType;
+
+public record CampaignRequest(
+    String name,
+    String type,
+    Integer figure,
+    Integer stock
+) {
+    public Campaign toCampaign() {
+        return new Campaign(name, type == null ? null : VoucherType.of(type), figure, stock);
+    }
+}
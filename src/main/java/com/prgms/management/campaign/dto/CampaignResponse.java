@@ -0,0 +1,26 @@
+package com.prgms.management.campaign.dto;
+
+import com.prgms.management.campaign.model.Campaign;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+public record CampaignResponse(
+    UUID id,
+    String name,
+    String type,
+    Integer figure,
+    Integer stock,
+    Timestamp createdAt
+) {
+    public static CampaignResponse of(Campaign campaign) {
+        return new CampaignResponse(
+            campaign.getId(),
+            campaign.getName(),
+            campaign.getType().toString(),
+            campaign.getFigure(),
+            campaign.getStock(),
+            campaign.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.prgms.management.campaign.dto;
+
+import java.util.UUID;
+
+public record CampaignStockResponse(
+    UUID campaignId,
+    Long stock,
+    Long issued,
+    Long reserved,
+    Long available,
+    Long localRemaining
+) {
+
+}
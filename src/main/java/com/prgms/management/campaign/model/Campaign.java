@@ -0,0 +1,50 @@
+package com.prgms.management.campaign.model;
+
+import com.prgms.management.common.exception.InvalidParameterException;
+import com.prgms.management.voucher.model.FixedAmountVoucher;
+import com.prgms.management.voucher.model.PercentDiscountVoucher;
+import com.prgms.management.voucher.model.Voucher;
+import com.prgms.management.voucher.model.VoucherType;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@ToString
+public class Campaign {
+    private final UUID id;
+    private final String name;
+    private final VoucherType type;
+    private final Integer figure;
+    private final Integer stock;
+    private final Timestamp createdAt;
+
+    public Campaign(String name, VoucherType type, Integer figure, Integer stock) {
+        this(UUID.randomUUID(), name, type, figure, stock, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    public Campaign(UUID id, String name, VoucherType type, Integer figure, Integer stock, Timestamp createdAt) {
+        if (type == null || type == VoucherType.ERROR) {
+            throw new InvalidParameterException("유효하지 않은 타입입니다.");
+        }
+        if (stock == null || stock <= 0) {
+            throw new InvalidParameterException("수량은 1 이상이어야 합니다.");
+        }
+        this.id = id;
+        this.name = name;
+        this.type = type;
+        this.figure = figure;
+        this.stock = stock;
+        this.createdAt = createdAt;
+    }
+
+    public Voucher issue() {
+        Voucher voucher = type == VoucherType.FIXED ? new FixedAmountVoucher(name, figure) :
+            new PercentDiscountVoucher(name, figure);
+        voucher.setCampaignId(id);
+        return voucher;
+    }
+}
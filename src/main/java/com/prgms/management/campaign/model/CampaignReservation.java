@@ -0,0 +1,11 @@
+package com.prgms.management.campaign.model;
+
+// unclaimed는 재고에서 발급 수와 다른 서버의 임대를 뺀 수량으로, 요청한 서버가 들고 있는 수량도 포함한다.
+public record CampaignReservation(
+    long granted,
+    long unclaimed
+) {
+    public boolean exhausted() {
+        return unclaimed <= 0;
+    }
+}
@@ -0,0 +1,13 @@
+package com.prgms.management.campaign.model;
+
+// issued는 서버가 쓴 것으로 보고한 수량과 만료된 임대의 수량을 더한 값으로, 바우처를 지워도 줄지 않는다.
+// reserved는 아직 정리되지 않은 임대로 각 서버에 나가 있는 수량이다.
+public record CampaignStock(
+    long stock,
+    long issued,
+    long reserved
+) {
+    public long available() {
+        return Math.max(0, stock - issued - reserved);
+    }
+}
@@ -0,0 +1,26 @@
+package com.prgms.management.campaign.repository;
+
+import com.prgms.management.campaign.model.Campaign;
+import com.prgms.management.campaign.model.CampaignReservation;
+import com.prgms.management.campaign.model.CampaignStock;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface CampaignRepository {
+    Campaign save(Campaign campaign);
+
+    Campaign findById(UUID campaignId);
+
+    List<Campaign> findAll();
+
+    // holder가 쓰지 않고 들고 있는 remaining에 더해 최대 amount개를 새로 임대하고, 실제로 임대한 수량을 반환한다.
+    CampaignReservation reserve(UUID campaignId, String holder, long remaining, long amount, long leaseMillis);
+
+    // 임대가 아직 유효할 때만 남은 수량을 remaining으로 바꾸고 연장한다. 이미 만료되었다면 false를 반환한다.
+    boolean renew(UUID campaignId, String holder, long remaining, long leaseMillis);
+
+    int removeExpiredLeases(long leaseMillis);
+
+    CampaignStock findStock(UUID campaignId, long leaseMillis);
+}
@@ -0,0 +1,213 @@
+package com.prgms.management.campaign.repository;
+
+import com.prgms.management.campaign.model.Campaign;
+import com.prgms.management.campaign.model.CampaignReservation;
+import com.prgms.management.campaign.model.CampaignStock;
+import com.prgms.management.common.exception.FindFailException;
+import com.prgms.management.common.exception.SaveFailException;
+import com.prgms.management.voucher.model.VoucherType;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.util.*;
+
+@Repository
+@Profile({"default"})
+public class JdbcCampaignRepository implements CampaignRepository {
+    private static final String CAMPAIGN_COLUMNS = "id, name, type, figure, stock, created_at";
+    // 임대 만료는 서버마다 다른 시계가 아니라 DB 시계를 기준으로 판단한다.
+    private static final String LIVE_LEASE = "renewed_at >= NOW(3) - INTERVAL (:leaseMillis * 1000) MICROSECOND";
+    private static final String LEASE_CUTOFF = "SELECT NOW(3) - INTERVAL (:leaseMillis * 1000) MICROSECOND";
+    private static final RowMapper<Campaign> CAMPAIGN_ROW_MAPPER = (rs, rowNum) -> new Campaign(
+        toUUID(rs.getBytes(1)), rs.getString(2), VoucherType.valueOf(rs.getString(3)), rs.getInt(4), rs.getInt(5),
+        rs.getTimestamp(6));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcCampaignRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Campaign save(Campaign campaign) {
+        Map<String, Object> paramMap = new HashMap<>() {{
+            put("id", campaign.getId().toString());
+            put("name", campaign.getName());
+            put("type", campaign.getType().toString());
+            put("figure", campaign.getFigure());
+            put("stock", campaign.getStock());
+            put("createdAt", campaign.getCreatedAt());
+        }};
+        int result = jdbcTemplate.update("INSERT INTO voucher_campaign(" + CAMPAIGN_COLUMNS + ") " +
+                "VALUES (UNHEX(REPLACE(:id, '-', '')), :name, :type, :figure, :stock, :createdAt)",
+            paramMap);
+        if (result == 1) {
+            return campaign;
+        }
+        throw new SaveFailException("캠페인 저장에 실패하였습니다.");
+    }
+
+    @Override
+    public Campaign findById(UUID campaignId) {
+        try {
+            return jdbcTemplate.queryForObject("SELECT " + CAMPAIGN_COLUMNS + " from voucher_campaign " +
+                    "WHERE id = UNHEX(REPLACE(:id, '-', ''))",
+                Collections.singletonMap("id", campaignId.toString()),
+                CAMPAIGN_ROW_MAPPER);
+        } catch (EmptyResultDataAccessException e) {
+            throw new FindFailException("찾는 ID에 대한 캠페인이 없습니다.");
+        }
+    }
+
+    @Override
+    public List<Campaign> findAll() {
+        return jdbcTemplate.query("SELECT " + CAMPAIGN_COLUMNS + " from voucher_campaign ORDER BY created_at DESC",
+            CAMPAIGN_ROW_MAPPER);
+    }
+
+    // 캠페인 행은 묶음을 임대하거나 연장할 때만 잠그므로, 바우처 한 장을 발급할 때마다 같은 행을 두고 다투지 않는다.
+    // 발급 수는 바우처 행을 세지 않고 issued에 더해 가므로, 발급한 바우처를 지워도 그만큼 다시 팔리지 않는다.
+    @Override
+    @Transactional
+    public CampaignReservation reserve(UUID campaignId, String holder, long remaining, long amount, long leaseMillis) {
+        Map<String, Object> paramMap = getLeaseMap(campaignId, holder, leaseMillis);
+        int stock = lockStock(paramMap);
+        foldExpiredLeases(paramMap);
+        commitUsed(paramMap, remaining);
+        long issued = findIssued(paramMap);
+        Long others = jdbcTemplate.queryForObject("SELECT COALESCE(SUM(amount), 0) from voucher_campaign_lease " +
+                "WHERE campaign_id = UNHEX(REPLACE(:campaignId, '-', '')) AND holder <> :holder AND " + LIVE_LEASE,
+            paramMap, Long.class);
+
+        long unclaimed = stock - issued - others;
+        long granted = Math.max(0, Math.min(amount, unclaimed - remaining));
+        paramMap.put("amount", remaining + granted);
+        jdbcTemplate.update("INSERT INTO voucher_campaign_lease(campaign_id, holder, amount, renewed_at) " +
+                "VALUES (UNHEX(REPLACE(:campaignId, '-', '')), :holder, :amount, NOW(3)) " +
+                "ON DUPLICATE KEY UPDATE amount = VALUES(amount), renewed_at = VALUES(renewed_at)",
+            paramMap);
+        return new CampaignReservation(granted, unclaimed);
+    }
+
+    // 임대한 수량에서 남은 수량을 뺀 만큼을 issued에 더한 뒤 임대를 줄인다.
+    @Override
+    @Transactional
+    public boolean renew(UUID campaignId, String holder, long remaining, long leaseMillis) {
+        Map<String, Object> paramMap = getLeaseMap(campaignId, holder, leaseMillis);
+        lockStock(paramMap);
+        if (!commitUsed(paramMap, remaining)) {
+            return false;
+        }
+        if (remaining == 0) {
+            jdbcTemplate.update("DELETE FROM voucher_campaign_lease " +
+                    "WHERE campaign_id = UNHEX(REPLACE(:campaignId, '-', '')) AND holder = :holder",
+                paramMap);
+            return true;
+        }
+        paramMap.put("amount", remaining);
+        return jdbcTemplate.update("UPDATE voucher_campaign_lease SET amount = :amount, renewed_at = NOW(3) " +
+                "WHERE campaign_id = UNHEX(REPLACE(:campaignId, '-', '')) AND holder = :holder AND " + LIVE_LEASE,
+            paramMap) == 1;
+    }
+
+    // 만료된 임대는 서버가 얼마나 썼는지 알 수 없으므로 모두 쓴 것으로 보고 issued에 더한다.
+    @Override
+    @Transactional
+    public int removeExpiredLeases(long leaseMillis) {
+        List<UUID> campaignIds = jdbcTemplate.query("SELECT DISTINCT campaign_id from voucher_campaign_lease " +
+                "WHERE renewed_at < NOW(3) - INTERVAL (:leaseMillis * 1000) MICROSECOND",
+            Collections.singletonMap("leaseMillis", leaseMillis), (rs, rowNum) -> toUUID(rs.getBytes(1)));
+        int removed = 0;
+        for (UUID campaignId : campaignIds.stream().sorted().toList()) {
+            Map<String, Object> paramMap = getLeaseMap(campaignId, null, leaseMillis);
+            try {
+                lockStock(paramMap);
+            } catch (FindFailException e) {
+                continue;
+            }
+            removed += foldExpiredLeases(paramMap);
+        }
+        return removed;
+    }
+
+    @Override
+    public CampaignStock findStock(UUID campaignId, long leaseMillis) {
+        Map<String, Object> paramMap = getLeaseMap(campaignId, null, leaseMillis);
+        Campaign campaign = findById(campaignId);
+        Long reserved = jdbcTemplate.queryForObject("SELECT COALESCE(SUM(amount), 0) from voucher_campaign_lease " +
+                "WHERE campaign_id = UNHEX(REPLACE(:campaignId, '-', '')) AND " + LIVE_LEASE,
+            paramMap, Long.class);
+        return new CampaignStock(campaign.getStock(), findIssued(paramMap), reserved);
+    }
+
+    private int lockStock(Map<String, Object> paramMap) {
+        try {
+            Integer stock = jdbcTemplate.queryForObject("SELECT stock from voucher_campaign " +
+                    "WHERE id = UNHEX(REPLACE(:campaignId, '-', '')) FOR UPDATE",
+                paramMap, Integer.class);
+            return stock == null ? 0 : stock;
+        } catch (EmptyResultDataAccessException e) {
+            throw new FindFailException("찾는 ID에 대한 캠페인이 없습니다.");
+        }
+    }
+
+    private long findIssued(Map<String, Object> paramMap) {
+        Long issued = jdbcTemplate.queryForObject("SELECT issued from voucher_campaign " +
+                "WHERE id = UNHEX(REPLACE(:campaignId, '-', ''))",
+            paramMap, Long.class);
+        return issued == null ? 0 : issued;
+    }
+
+    // holder의 임대가 아직 유효하면 임대 수량 중 remaining을 뺀 만큼을 issued에 더하고 true를 반환한다.
+    // 캠페인 행을 잠근 뒤에 호출해야 한다.
+    private boolean commitUsed(Map<String, Object> paramMap, long remaining) {
+        paramMap.put("remaining", remaining);
+        List<Long> leased = jdbcTemplate.queryForList("SELECT amount from voucher_campaign_lease " +
+                "WHERE campaign_id = UNHEX(REPLACE(:campaignId, '-', '')) AND holder = :holder AND " + LIVE_LEASE +
+                " FOR UPDATE",
+            paramMap, Long.class);
+        if (leased.isEmpty()) {
+            return false;
+        }
+        paramMap.put("used", Math.max(0, leased.get(0) - remaining));
+        jdbcTemplate.update("UPDATE voucher_campaign SET issued = issued + :used " +
+                "WHERE id = UNHEX(REPLACE(:campaignId, '-', ''))",
+            paramMap);
+        jdbcTemplate.update("UPDATE voucher_campaign_lease SET amount = LEAST(amount, :remaining) " +
+                "WHERE campaign_id = UNHEX(REPLACE(:campaignId, '-', '')) AND holder = :holder",
+            paramMap);
+        return true;
+    }
+
+    // 두 문장이 같은 임대를 보도록 만료 기준 시각을 한 번만 정한다. 캠페인 행을 잠근 뒤에 호출해야 한다.
+    private int foldExpiredLeases(Map<String, Object> paramMap) {
+        paramMap.put("cutoff", jdbcTemplate.queryForObject(LEASE_CUTOFF, paramMap, Timestamp.class));
+        jdbcTemplate.update("UPDATE voucher_campaign SET issued = issued + " +
+                "(SELECT COALESCE(SUM(amount), 0) from voucher_campaign_lease " +
+                "WHERE campaign_id = UNHEX(REPLACE(:campaignId, '-', '')) AND renewed_at < :cutoff) " +
+                "WHERE id = UNHEX(REPLACE(:campaignId, '-', ''))",
+            paramMap);
+        return jdbcTemplate.update("DELETE FROM voucher_campaign_lease " +
+                "WHERE campaign_id = UNHEX(REPLACE(:campaignId, '-', '')) AND renewed_at < :cutoff",
+            paramMap);
+    }
+
+    private static Map<String, Object> getLeaseMap(UUID campaignId, String holder, long leaseMillis) {
+        return new HashMap<>() {{
+            put("campaignId", campaignId.toString());
+            put("holder", holder);
+            put("leaseMillis", leaseMillis);
+        }};
+    }
+
+    private static UUID toUUID(byte[] bytes) {
+        var buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
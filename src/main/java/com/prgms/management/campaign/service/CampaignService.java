@@ -0,0 +1,20 @@
+package com.prgms.management.campaign.service;
+
+import com.prgms.management.campaign.dto.CampaignStockResponse;
+import com.prgms.management.campaign.model.Campaign;
+import com.prgms.management.voucher.model.Voucher;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface CampaignService {
+    Campaign addCampaign(Campaign campaign);
+
+    Campaign findCampaignById(UUID id);
+
+    List<Campaign> findCampaigns();
+
+    Voucher issueVoucher(UUID campaignId);
+
+    CampaignStockResponse findCampaignStock(UUID campaignId);
+}
@@ -0,0 +1,223 @@
+package com.prgms.management.campaign.service;
+
+import com.prgms.management.campaign.dto.CampaignStockResponse;
+import com.prgms.management.campaign.model.Campaign;
+import com.prgms.management.campaign.model.CampaignReservation;
+import com.prgms.management.campaign.model.CampaignStock;
+import com.prgms.management.campaign.repository.CampaignRepository;
+import com.prgms.management.common.exception.SoldOutException;
+import com.prgms.management.common.util.StripedCounter;
+import com.prgms.management.voucher.model.Voucher;
+import com.prgms.management.voucher.service.SimpleVoucherService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 캠페인 수량은 DB에서 묶음 단위로 임대해 스레드별 칸에 나누어 두고, 대부분의 발급은 메모리에서만 수량을 줄인다.
+// 임대 수량과 발급 수(voucher_campaign.issued)의 합이 재고를 넘지 않도록 DB가 보장하고, 만료된 임대는 모두 쓴 것으로 세므로
+// 재시작이나 장애가 있어도 초과 발급되지 않는다.
+@Service
+@Profile({"default"})
+public class SimpleCampaignService implements CampaignService {
+    private static final Logger logger = LoggerFactory.getLogger(SimpleCampaignService.class);
+
+    private final CampaignRepository campaignRepository;
+    // 쓰기 지연 저장을 거치면 발급한 바우처가 잠시 어디에도 집계되지 않으므로, 바로 저장하는 서비스를 사용한다.
+    private final SimpleVoucherService voucherService;
+    private final String holder = UUID.randomUUID().toString();
+    private final int blockSize;
+    private final long leaseMillis;
+    private final long reconcileIntervalMillis;
+    private final int stripes;
+    private final Map<UUID, Allocation> allocations = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    public SimpleCampaignService(CampaignRepository campaignRepository, SimpleVoucherService voucherService,
+                                 @Value("${voucher.campaign.block-size:1000}") int blockSize,
+                                 @Value("${voucher.campaign.lease-ms:30000}") long leaseMillis,
+                                 @Value("${voucher.campaign.reconcile-interval-ms:5000}") long reconcileIntervalMillis) {
+        this.campaignRepository = campaignRepository;
+        this.voucherService = voucherService;
+        this.blockSize = blockSize;
+        this.leaseMillis = leaseMillis;
+        this.reconcileIntervalMillis = reconcileIntervalMillis;
+        this.stripes = Runtime.getRuntime().availableProcessors();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "campaign-reconcile");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::reconcile, reconcileIntervalMillis, reconcileIntervalMillis,
+            TimeUnit.MILLISECONDS);
+    }
+
+    // 쓰지 않은 수량은 임대를 반납해 다른 서버가 바로 가져갈 수 있게 한다.
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        allocations.forEach((campaignId, allocation) -> {
+            synchronized (allocation) {
+                allocation.counter.drain();
+                try {
+                    campaignRepository.renew(campaignId, holder, allocation.inFlight.sum(), leaseMillis);
+                } catch (Exception e) {
+                    logger.error("캠페인 {}의 임대 수량을 반납하지 못했습니다. {}", campaignId, e.getMessage());
+                }
+            }
+        });
+    }
+
+    @Override
+    public Campaign addCampaign(Campaign campaign) {
+        return campaignRepository.save(campaign);
+    }
+
+    @Override
+    public Campaign findCampaignById(UUID id) {
+        return campaignRepository.findById(id);
+    }
+
+    @Override
+    public List<Campaign> findCampaigns() {
+        return campaignRepository.findAll();
+    }
+
+    @Override
+    public Voucher issueVoucher(UUID campaignId) {
+        Allocation allocation = allocations.computeIfAbsent(campaignId,
+            id -> new Allocation(campaignRepository.findById(id), stripes));
+        if (!allocation.tryAcquire()) {
+            if (allocation.isSoldOut(System.nanoTime())) {
+                throw new SoldOutException();
+            }
+            refill(allocation);
+        }
+        try {
+            return voucherService.addVoucher(allocation.campaign.issue());
+        } catch (RuntimeException e) {
+            allocation.counter.release();
+            throw e;
+        } finally {
+            allocation.inFlight.decrement();
+        }
+    }
+
+    @Override
+    public CampaignStockResponse findCampaignStock(UUID campaignId) {
+        CampaignStock stock = campaignRepository.findStock(campaignId, leaseMillis);
+        Allocation allocation = allocations.get(campaignId);
+        return new CampaignStockResponse(campaignId, stock.stock(), stock.issued(), stock.reserved(), stock.available(),
+            allocation == null ? 0 : allocation.counter.sum());
+    }
+
+    // 칸이 모두 비었을 때만 한 스레드가 다음 묶음을 임대하고, 나머지는 그 결과를 기다렸다가 다시 꺼내 본다.
+    private void refill(Allocation allocation) {
+        synchronized (allocation) {
+            while (!allocation.tryAcquire()) {
+                long start = System.nanoTime();
+                if (!allocation.isLeaseValid(start)) {
+                    allocation.counter.drain();
+                }
+                CampaignReservation reservation = campaignRepository.reserve(allocation.campaign.getId(), holder,
+                    allocation.remaining(), blockSize, leaseMillis);
+                allocation.validUntilNanos = start + TimeUnit.MILLISECONDS.toNanos(leaseMillis);
+                if (reservation.granted() == 0) {
+                    // 꺼내려던 다른 스레드 때문에 남은 수량이 잠시 크게 보일 수 있으므로, 재고가 정말 바닥났을 때만 품절로 기억한다.
+                    if (reservation.exhausted()) {
+                        allocation.soldOutUntilNanos = start + TimeUnit.MILLISECONDS.toNanos(reconcileIntervalMillis);
+                    }
+                    throw new SoldOutException();
+                }
+                allocation.counter.add(reservation.granted());
+            }
+        }
+    }
+
+    // 남은 수량을 DB의 임대에 반영하며 임대를 연장하고, 다른 서버가 남긴 만료된 임대는 정리해 재고로 되돌린다.
+    public void reconcile() {
+        allocations.forEach((campaignId, allocation) -> {
+            synchronized (allocation) {
+                long start = System.nanoTime();
+                try {
+                    if (!allocation.isLeaseValid(start)) {
+                        allocation.counter.drain();
+                    }
+                    if (campaignRepository.renew(campaignId, holder, allocation.remaining(), leaseMillis)) {
+                        allocation.validUntilNanos = start + TimeUnit.MILLISECONDS.toNanos(leaseMillis);
+                    } else {
+                        long revoked = allocation.counter.drain();
+                        logger.warn("캠페인 {}의 임대가 만료되어 남은 수량 {}개를 버립니다.", campaignId, revoked);
+                    }
+                } catch (Exception e) {
+                    logger.error("캠페인 {}의 임대를 연장하지 못했습니다. {}", campaignId, e.getMessage());
+                }
+            }
+        });
+        try {
+            int removed = campaignRepository.removeExpiredLeases(leaseMillis);
+            if (removed > 0) {
+                logger.info("만료된 캠페인 임대 {}건을 정리하였습니다.", removed);
+            }
+        } catch (Exception e) {
+            logger.error("만료된 캠페인 임대를 정리하지 못했습니다. {}", e.getMessage());
+        }
+    }
+
+    // inFlight는 칸에서 꺼냈지만 아직 바우처로 저장되지 않은 수량이다. 칸을 먼저 읽고 inFlight를 나중에 읽어야 옮겨 가는 수량을 놓치지 않는다.
+    private static class Allocation {
+        private final Campaign campaign;
+        private final StripedCounter counter;
+        private final LongAdder inFlight = new LongAdder();
+        private volatile long validUntilNanos = Long.MIN_VALUE;
+        // 품절을 확인한 뒤 한 조정 주기 동안은 DB에 다시 묻지 않는다. 다른 서버가 반납한 수량은 그다음에 가져간다.
+        private volatile long soldOutUntilNanos = Long.MIN_VALUE;
+
+        private Allocation(Campaign campaign, int stripes) {
+            this.campaign = campaign;
+            this.counter = new StripedCounter(stripes);
+        }
+
+        private boolean isLeaseValid(long now) {
+            return validUntilNanos != Long.MIN_VALUE && now - validUntilNanos < 0;
+        }
+
+        private boolean isSoldOut(long now) {
+            return soldOutUntilNanos != Long.MIN_VALUE && now - soldOutUntilNanos < 0;
+        }
+
+        private boolean tryAcquire() {
+            if (!isLeaseValid(System.nanoTime())) {
+                return false;
+            }
+            inFlight.increment();
+            if (counter.tryAcquire()) {
+                return true;
+            }
+            inFlight.decrement();
+            return false;
+        }
+
+        private long remaining() {
+            long remaining = counter.sum();
+            return remaining + inFlight.sum();
+        }
+    }
+}
@@ -8,6 +8,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class CommandLineApplication implements Runnable {
     private static final Logger logger = LoggerFactory.getLogger(CommandLineApplication.class);
@@ -26,8 +28,9 @@ public class CommandLineApplication implements Runnable {
     public void run() {
         while (true) {
             try {
-                CommandType command = CommandType.of(console.getCommand());
-                command.execute(voucherService, customerService, console);
+                List<String> tokens = List.of(console.getCommand().trim().split("\\s+"));
+                CommandType command = CommandType.of(tokens.get(0));
+                command.execute(voucherService, customerService, console, tokens.subList(1, tokens.size()));
             } catch (Exception e) {
                 console.printString(e.getMessage());
                 logger.error(e.getMessage());
@@ -0,0 +1,124 @@
+package com.prgms.management.command;
+
+import com.prgms.management.command.exception.WrongCommandException;
+import com.prgms.management.command.io.CommandType;
+import com.prgms.management.command.io.PrintStreamConsole;
+import com.prgms.management.customer.service.BlackCustomerService;
+import com.prgms.management.voucher.model.FixedAmountVoucher;
+import com.prgms.management.voucher.model.PercentDiscountVoucher;
+import com.prgms.management.voucher.model.Voucher;
+import com.prgms.management.voucher.model.VoucherType;
+import com.prgms.management.voucher.service.VoucherService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class CommandScriptRunner {
+    private static final Logger logger = LoggerFactory.getLogger(CommandScriptRunner.class);
+    private static final String STDIN = "-";
+    private static final int BATCH_SIZE = 1000;
+
+    private final VoucherService voucherService;
+    private final BlackCustomerService customerService;
+
+    public CommandScriptRunner(VoucherService voucherService, BlackCustomerService customerService) {
+        this.voucherService = voucherService;
+        this.customerService = customerService;
+    }
+
+    public Summary run(String script, PrintStream out) throws IOException {
+        if (STDIN.equals(script)) {
+            return run(new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)), out);
+        }
+        try (BufferedReader reader = Files.newBufferedReader(Path.of(script), StandardCharsets.UTF_8)) {
+            return run(reader, out);
+        }
+    }
+
+    public Summary run(BufferedReader reader, PrintStream out) throws IOException {
+        PrintStreamConsole console = new PrintStreamConsole(out);
+        long start = System.nanoTime();
+        Tally tally = new Tally();
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            String[] tokens = line.trim().split("\\s+");
+            if (tokens[0].isEmpty() || tokens[0].startsWith("#")) {
+                continue;
+            }
+            tally.commands++;
+            try {
+                CommandType command = CommandType.of(tokens[0]);
+                List<String> arguments = List.of(tokens).subList(1, tokens.length);
+                if (command == CommandType.EXIT) {
+                    break;
+                }
+                // 생성은 개수를 받아 일괄 저장하는 스크립트 전용 형식을 쓰고, 나머지는 대화형 명령과 같은 처리를 쓴다.
+                switch (command) {
+                    case CREATE -> create(tokens, tally);
+                    case ERROR -> throw new WrongCommandException();
+                    default -> command.execute(voucherService, customerService, console, arguments);
+                }
+            } catch (Exception e) {
+                tally.failed++;
+                logger.error("{}번째 줄 '{}' 실행에 실패하였습니다. {}", lineNumber, line.trim(), e.getMessage());
+            }
+        }
+
+        Summary summary = new Summary(tally.commands, tally.created, tally.failed, System.nanoTime() - start);
+        out.println(summary.toLine());
+        return summary;
+    }
+
+    // create <fixed|percent> <figure> [x <count>]
+    // 묶음마다 저장되는 즉시 집계하므로, 중간 묶음이 실패해도 앞서 저장된 바우처는 생성 개수에 들어간다.
+    private void create(String[] tokens, Tally tally) {
+        if (tokens.length != 3 && !(tokens.length == 5 && tokens[3].equalsIgnoreCase("x"))) {
+            throw new WrongCommandException();
+        }
+        VoucherType type = VoucherType.of(tokens[1]);
+        if (type == VoucherType.ERROR) {
+            throw new WrongCommandException();
+        }
+        int figure = Integer.parseInt(tokens[2]);
+        long count = tokens.length == 5 ? Long.parseLong(tokens[4]) : 1;
+
+        long created = 0;
+        while (created < count) {
+            int size = (int) Math.min(BATCH_SIZE, count - created);
+            List<Voucher> batch = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                batch.add(type == VoucherType.FIXED ? new FixedAmountVoucher(figure) : new PercentDiscountVoucher(figure));
+            }
+            voucherService.addVouchers(batch);
+            created += size;
+            tally.created += size;
+        }
+    }
+
+    private static final class Tally {
+        private long commands;
+        private long created;
+        private long failed;
+    }
+
+    public record Summary(long commands, long created, long failed, long elapsedNanos) {
+        public String toLine() {
+            double seconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+            long throughput = seconds > 0 ? (long) (created / seconds) : created;
+            return String.format("명령 %d개, 바우처 %d개 생성, 실패 %d건, %.2fs (%d vouchers/s)",
+                commands, created, failed, seconds, throughput);
+        }
+    }
+}
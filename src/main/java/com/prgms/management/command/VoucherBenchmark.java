@@ -0,0 +1,144 @@
+package com.prgms.management.command;
+
+import com.prgms.management.command.exception.WrongCommandException;
+import com.prgms.management.common.util.LatencyHistogram;
+import com.prgms.management.voucher.model.FixedAmountVoucher;
+import com.prgms.management.voucher.model.PercentDiscountVoucher;
+import com.prgms.management.voucher.model.Voucher;
+import com.prgms.management.voucher.service.VoucherService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntConsumer;
+
+// bench [--threads=N] [--count=N] [--keep] : 바우처 생성, 단건 조회, 목록 조회를 차례로 실행하고 구간별 처리량과 지연 시간을 보고한다.
+public class VoucherBenchmark {
+    private static final int DEFAULT_THREADS = 4;
+    private static final int DEFAULT_COUNT = 10_000;
+    private static final int LIST_PAGE_SIZE = 100;
+
+    private final VoucherService voucherService;
+    private final int threads;
+    private final int count;
+    private final boolean keep;
+
+    public VoucherBenchmark(VoucherService voucherService, int threads, int count, boolean keep) {
+        if (threads < 1 || count < 1) {
+            throw new WrongCommandException();
+        }
+        this.voucherService = voucherService;
+        this.threads = threads;
+        this.count = count;
+        this.keep = keep;
+    }
+
+    public static VoucherBenchmark of(VoucherService voucherService, List<String> arguments) {
+        int threads = DEFAULT_THREADS;
+        int count = DEFAULT_COUNT;
+        boolean keep = false;
+        try {
+            for (String argument : arguments) {
+                String option = argument.toLowerCase();
+                if (option.startsWith("--threads=")) {
+                    threads = Integer.parseInt(option.substring("--threads=".length()));
+                } else if (option.startsWith("--count=")) {
+                    count = Integer.parseInt(option.substring("--count=".length()));
+                } else if (option.equals("--keep")) {
+                    keep = true;
+                } else {
+                    throw new WrongCommandException();
+                }
+            }
+        } catch (NumberFormatException e) {
+            throw new WrongCommandException();
+        }
+        return new VoucherBenchmark(voucherService, threads, count, keep);
+    }
+
+    public List<String> run() {
+        List<String> report = new ArrayList<>();
+        report.add(String.format("threads=%d, count=%d", threads, count));
+
+        AtomicReferenceArray<UUID> ids = new AtomicReferenceArray<>(count);
+        report.add(measure("create", count, i -> {
+            Voucher voucher = i % 2 == 0 ? new FixedAmountVoucher(1000) : new PercentDiscountVoucher(10);
+            ids.set(i, voucherService.addVoucher(voucher).getId());
+        }).toLine());
+
+        report.add(measure("read", count, i -> {
+            UUID id = ids.get(ThreadLocalRandom.current().nextInt(count));
+            if (id != null) {
+                voucherService.findVoucherById(id);
+            }
+        }).toLine());
+
+        report.add(measure("list", Math.max(1, count / LIST_PAGE_SIZE),
+            i -> voucherService.findVoucherSlice(null, null, LIST_PAGE_SIZE)).toLine());
+
+        if (!keep) {
+            report.add(measure("delete", count, i -> {
+                UUID id = ids.get(i);
+                if (id != null) {
+                    voucherService.removeVoucherById(id);
+                }
+            }).toLine());
+        }
+        return report;
+    }
+
+    private Result measure(String name, int operations, IntConsumer operation) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        AtomicInteger next = new AtomicInteger();
+        AtomicLong errors = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                int i;
+                while ((i = next.getAndIncrement()) < operations) {
+                    long begin = System.nanoTime();
+                    try {
+                        operation.accept(i);
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    histogram.record(System.nanoTime() - begin);
+                }
+            });
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        return new Result(name, histogram, errors.get(), System.nanoTime() - start);
+    }
+
+    public record Result(String name, LatencyHistogram histogram, long errors, long elapsedNanos) {
+        public double throughput() {
+            return histogram.getTotalCount() / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+        }
+
+        public String toLine() {
+            return String.format("%-6s ops=%d errors=%d throughput=%.0f/s p50=%s p99=%s p999=%s max=%s",
+                name, histogram.getTotalCount(), errors, throughput(),
+                millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)), millis(histogram.getMaxValue()));
+        }
+
+        private static String millis(long nanos) {
+            return String.format("%.3fms", nanos / 1_000_000.0);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.prgms.management.command.io;
+
+import com.prgms.management.voucher.model.Voucher;
+
+// 명령이 쓰는 입출력. 대화형 콘솔과 스크립트 실행이 같은 명령 처리를 함께 쓴다.
+public interface CommandConsole extends Input, Output<Voucher> {
+    boolean confirmNextPage();
+
+    void close();
+}
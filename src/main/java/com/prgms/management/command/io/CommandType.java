@@ -1,35 +1,90 @@
 package com.prgms.management.command.io;
 
+import com.prgms.management.command.VoucherBenchmark;
+import com.prgms.management.command.exception.WrongCommandException;
+import com.prgms.management.customer.model.Customer;
 import com.prgms.management.customer.service.BlackCustomerService;
 import com.prgms.management.voucher.model.Voucher;
 import com.prgms.management.voucher.service.VoucherService;
 
+import java.util.List;
+
 public enum CommandType {
     CREATE("create", "to create a new voucher.") {
         @Override
-        public void execute(VoucherService voucherService, BlackCustomerService customerService, Console console) {
+        public void execute(VoucherService voucherService, BlackCustomerService customerService,
+                            CommandConsole console, List<String> arguments) {
             Voucher voucher = voucherService.addVoucher(console.getVoucher());
             console.printOneVoucher(voucher);
         }
     }, LIST("list", "to list all vouchers.") {
         @Override
-        public void execute(VoucherService voucherService, BlackCustomerService customerService, Console console) {
-            console.printListVoucher(voucherService.findVouchers(null, null, null));
+        public void execute(VoucherService voucherService, BlackCustomerService customerService,
+                            CommandConsole console, List<String> arguments) {
+            ListOption option = ListOption.of(arguments);
+            if (option.countOnly()) {
+                console.printString("바우처 개수 : " + voucherService.countVouchers(option.type()));
+                return;
+            }
+
+            Voucher last = null;
+            List<Voucher> page;
+            do {
+                page = voucherService.findVoucherSlice(option.type(), last, ListOption.PAGE_SIZE);
+                if (page.isEmpty()) {
+                    if (last == null) {
+                        console.printString("저장된 데이터가 없습니다.");
+                    }
+                    return;
+                }
+                console.printLines(page.stream().map(option::format).toList());
+                last = page.get(page.size() - 1);
+            } while (page.size() == ListOption.PAGE_SIZE && console.confirmNextPage());
         }
     }, EXIT("exit", "to exit the program.") {
         @Override
-        public void execute(VoucherService voucherService, BlackCustomerService customerService, Console console) {
+        public void execute(VoucherService voucherService, BlackCustomerService customerService,
+                            CommandConsole console, List<String> arguments) {
             console.close();
             System.exit(0);
         }
     }, BLACKLIST("blacklist", "to list all black customers.") {
         @Override
-        public void execute(VoucherService voucherService, BlackCustomerService customerService, Console console) {
-            console.printListCustomer(customerService.getAllCustomers());
+        public void execute(VoucherService voucherService, BlackCustomerService customerService,
+                            CommandConsole console, List<String> arguments) {
+            ListOption option = ListOption.of(arguments);
+            if (option.type() != null) {
+                throw new WrongCommandException();
+            }
+            if (option.countOnly()) {
+                console.printString("블랙리스트 고객 수 : " + customerService.countCustomers());
+                return;
+            }
+
+            Customer last = null;
+            List<Customer> page;
+            do {
+                page = customerService.findCustomerSlice(last, ListOption.PAGE_SIZE);
+                if (page.isEmpty()) {
+                    if (last == null) {
+                        console.printString("저장된 데이터가 없습니다.");
+                    }
+                    return;
+                }
+                console.printLines(page.stream().map(option::format).toList());
+                last = page.get(page.size() - 1);
+            } while (page.size() == ListOption.PAGE_SIZE && console.confirmNextPage());
+        }
+    }, BENCH("bench", "to measure voucher throughput and latency. (--threads=N, --count=N, --keep)") {
+        @Override
+        public void execute(VoucherService voucherService, BlackCustomerService customerService,
+                            CommandConsole console, List<String> arguments) {
+            console.printLines(VoucherBenchmark.of(voucherService, arguments).run());
         }
     }, ERROR("error", "this is error command.") {
         @Override
-        public void execute(VoucherService voucherService, BlackCustomerService customerService, Console console) {
+        public void execute(VoucherService voucherService, BlackCustomerService customerService,
+                            CommandConsole console, List<String> arguments) {
             console.printString("잘못된 명령어를 입력하셨습니다.");
         }
     };
@@ -43,7 +98,7 @@ public enum CommandType {
     }
 
     public static CommandType of(String command) {
-        switch (command.toLowerCase()) {
+        switch (command.trim().split("\\s+")[0].toLowerCase()) {
             case "list":
                 return LIST;
             case "create":
@@ -52,6 +107,8 @@ public enum CommandType {
                 return EXIT;
             case "blacklist":
                 return BLACKLIST;
+            case "bench":
+                return BENCH;
             default:
                 return ERROR;
         }
@@ -61,5 +118,6 @@ public enum CommandType {
         return "Type **" + command + "** " + description;
     }
 
-    public abstract void execute(VoucherService voucherService, BlackCustomerService customerService, Console console);
+    public abstract void execute(VoucherService voucherService, BlackCustomerService customerService,
+                                 CommandConsole console, List<String> arguments);
 }
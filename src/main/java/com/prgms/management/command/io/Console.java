@@ -11,8 +11,8 @@ import java.util.Arrays;
 import java.util.List;
 
 @Component
-public class Console implements Input, Output<Voucher> {
-    private final TextIO textIO = TextIoFactory.getTextIO();
+public class Console implements CommandConsole {
+    private TextIO textIO;
 
     @Override
     public String getCommand() {
@@ -20,7 +20,7 @@ public class Console implements Input, Output<Voucher> {
         Arrays.stream(CommandType.values()).filter(c -> c != CommandType.ERROR).forEach(value -> printString(value.getConsoleScript()));
         printString("");
 
-        return textIO.newStringInputReader().withDefaultValue("list").read("Command");
+        return textIO().newStringInputReader().withDefaultValue("list").read("Command");
     }
 
     @Override
@@ -29,17 +29,15 @@ public class Console implements Input, Output<Voucher> {
         Arrays.stream(VoucherType.values()).filter(v -> v != VoucherType.ERROR).forEach(value -> printString(value.getConsoleScript()));
         printString("");
 
-        String command = textIO.newStringInputReader().withDefaultValue("fixed").read("Voucher type").toLowerCase();
+        String command = textIO().newStringInputReader().withDefaultValue("fixed").read("Voucher type").toLowerCase();
 
         VoucherType voucherType = VoucherType.of(command);
-        return voucherType.createVoucherFromConsole(textIO);
+        return voucherType.createVoucherFromConsole(textIO());
     }
 
     @Override
     public void printListCustomer(List<Customer> list) {
-        for (Customer customer : list) {
-            printString(customer.toString());
-        }
+        printLines(list.stream().map(Customer::toString).toList());
     }
 
     @Override
@@ -47,9 +45,7 @@ public class Console implements Input, Output<Voucher> {
         if (list.isEmpty()) {
             printString("저장된 데이터가 없습니다.");
         } else {
-            for (Voucher voucher : list) {
-                printString(voucher.toString());
-            }
+            printLines(list.stream().map(Voucher::toString).toList());
         }
     }
 
@@ -60,10 +56,35 @@ public class Console implements Input, Output<Voucher> {
 
     @Override
     public void printString(String str) {
-        textIO.getTextTerminal().println(str);
+        textIO().getTextTerminal().println(str);
     }
 
-    public void close() {
-        textIO.dispose();
+    // 한 페이지를 하나의 문자열로 모아 터미널 호출을 한 번으로 줄인다.
+    @Override
+    public void printLines(List<String> lines) {
+        if (!lines.isEmpty()) {
+            textIO().getTextTerminal().println(String.join(System.lineSeparator(), lines));
+        }
+    }
+
+    @Override
+    public boolean confirmNextPage() {
+        return textIO().newBooleanInputReader().withDefaultValue(true).read("Next page");
+    }
+
+    @Override
+    public synchronized void close() {
+        if (textIO != null) {
+            textIO.dispose();
+            textIO = null;
+        }
+    }
+
+    // 터미널은 CLI가 실제로 입출력을 시작할 때 처음 연다.
+    private synchronized TextIO textIO() {
+        if (textIO == null) {
+            textIO = TextIoFactory.getTextIO();
+        }
+        return textIO;
     }
 }
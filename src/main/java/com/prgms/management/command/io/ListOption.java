@@ -0,0 +1,50 @@
+package com.prgms.management.command.io;
+
+import com.prgms.management.command.exception.WrongCommandException;
+import com.prgms.management.customer.model.Customer;
+import com.prgms.management.voucher.model.Voucher;
+import com.prgms.management.voucher.model.VoucherType;
+
+import java.util.List;
+
+// list, blacklist 명령의 옵션 : --count(개수만 출력), --type=fixed|percent(바우처 타입 필터), --compact(한 줄 요약 형식)
+public record ListOption(boolean countOnly, VoucherType type, boolean compact) {
+    public static final int PAGE_SIZE = 100;
+
+    public static ListOption of(List<String> arguments) {
+        boolean countOnly = false;
+        boolean compact = false;
+        VoucherType type = null;
+        for (String argument : arguments) {
+            String option = argument.toLowerCase();
+            if (option.equals("--count")) {
+                countOnly = true;
+            } else if (option.equals("--compact")) {
+                compact = true;
+            } else if (option.startsWith("--type=")) {
+                type = VoucherType.of(option.substring("--type=".length()));
+                if (type == VoucherType.ERROR) {
+                    throw new WrongCommandException();
+                }
+            } else {
+                throw new WrongCommandException();
+            }
+        }
+        return new ListOption(countOnly, type, compact);
+    }
+
+    public String format(Voucher voucher) {
+        if (!compact) {
+            return voucher.toString();
+        }
+        return String.format("%-36s  %-7s  %7d  %s", voucher.getId(), voucher.getType(), voucher.getFigure(),
+            voucher.getCreatedAt());
+    }
+
+    public String format(Customer customer) {
+        if (!compact) {
+            return customer.toString();
+        }
+        return String.format("%-36s  %-20s  %s", customer.getId(), customer.getName(), customer.getEmail());
+    }
+}
@@ -13,4 +13,6 @@ public interface Output<T> {
     void printOneVoucher(T t);
 
     void printString(String str);
+
+    void printLines(List<String> lines);
 }
@@ -0,0 +1,64 @@
+package com.prgms.management.command.io;
+
+import com.prgms.management.command.exception.WrongCommandException;
+import com.prgms.management.customer.model.Customer;
+import com.prgms.management.voucher.model.Voucher;
+
+import java.io.PrintStream;
+import java.util.List;
+
+// 스크립트 실행용 출력. 입력을 묻지 않으므로 다음 페이지는 항상 이어서 출력하고, 입력이 필요한 명령은 실패로 처리한다.
+public class PrintStreamConsole implements CommandConsole {
+    private final PrintStream out;
+
+    public PrintStreamConsole(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public String getCommand() {
+        throw new WrongCommandException();
+    }
+
+    @Override
+    public Voucher getVoucher() {
+        throw new WrongCommandException();
+    }
+
+    @Override
+    public void printListCustomer(List<Customer> list) {
+        printLines(list.stream().map(Customer::toString).toList());
+    }
+
+    @Override
+    public void printListVoucher(List<Voucher> list) {
+        printLines(list.stream().map(Voucher::toString).toList());
+    }
+
+    @Override
+    public void printOneVoucher(Voucher voucher) {
+        out.println(voucher);
+    }
+
+    @Override
+    public void printString(String str) {
+        out.println(str);
+    }
+
+    @Override
+    public void printLines(List<String> lines) {
+        if (!lines.isEmpty()) {
+            out.println(String.join(System.lineSeparator(), lines));
+        }
+    }
+
+    @Override
+    public boolean confirmNextPage() {
+        return true;
+    }
+
+    @Override
+    public void close() {
+        out.flush();
+    }
+}
@@ -0,0 +1,91 @@
+package com.prgms.management.common.bulk;
+
+import com.prgms.management.common.exception.FindFailException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// 대량 삭제는 한 스레드에서 하나씩 차례로 실행하고 묶음 사이에 쉬어 가므로, 동시에 몰려도 운영 트래픽과 잠금을 오래 다투지 않는다.
+@Component
+public class BulkDeleteExecutor {
+    private static final Logger logger = LoggerFactory.getLogger(BulkDeleteExecutor.class);
+    private static final int MAX_FINISHED_JOBS = 100;
+
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final ExecutorService executor;
+    private final Map<UUID, BulkDeleteJob> jobs = new LinkedHashMap<>();
+
+    public BulkDeleteExecutor(@Value("${bulk-delete.chunk-size:500}") int chunkSize,
+                              @Value("${bulk-delete.pause-ms:50}") long pauseMillis) {
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bulk-delete");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        synchronized (jobs) {
+            jobs.values().forEach(BulkDeleteJob::cancel);
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    public BulkDeleteJob submit(BulkDeleteJob job) {
+        synchronized (jobs) {
+            jobs.put(job.getId(), job);
+            evictFinished();
+        }
+        executor.execute(() -> {
+            long start = System.nanoTime();
+            try {
+                job.run(chunkSize, pauseMillis);
+                logger.info("{} 대량 삭제 작업 {}이 {}ms 만에 끝났습니다. {}", job.getTarget(), job.getId(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), job.toResponse());
+            } catch (RuntimeException e) {
+                logger.error("{} 대량 삭제 작업 {}에 실패하였습니다. {}", job.getTarget(), job.getId(), e.getMessage());
+            }
+        });
+        return job;
+    }
+
+    public BulkDeleteJob find(String target, UUID jobId) {
+        synchronized (jobs) {
+            BulkDeleteJob job = jobs.get(jobId);
+            if (job == null || !job.getTarget().equals(target)) {
+                throw new FindFailException("찾는 ID에 대한 삭제 작업이 없습니다.");
+            }
+            return job;
+        }
+    }
+
+    public BulkDeleteJob cancel(String target, UUID jobId) {
+        BulkDeleteJob job = find(target, jobId);
+        job.cancel();
+        return job;
+    }
+
+    // 끝난 작업은 오래된 것부터 정리해 최근 작업만 조회할 수 있게 남긴다.
+    private void evictFinished() {
+        long finished = jobs.values().stream().filter(BulkDeleteJob::isFinished).count();
+        Iterator<BulkDeleteJob> iterator = jobs.values().iterator();
+        while (finished > MAX_FINISHED_JOBS && iterator.hasNext()) {
+            if (iterator.next().isFinished()) {
+                iterator.remove();
+                finished--;
+            }
+        }
+    }
+}
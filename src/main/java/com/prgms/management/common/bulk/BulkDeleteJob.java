@@ -0,0 +1,108 @@
+package com.prgms.management.common.bulk;
+
+import com.prgms.management.common.dto.BulkDeleteResponse;
+
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+// 작업의 진행 상황은 실행 스레드만 바꾸고, 조회하는 쪽은 volatile 필드로 마지막 값을 읽는다.
+public class BulkDeleteJob {
+    private final UUID id = UUID.randomUUID();
+    private final String target;
+    private final Long total;
+    private final IntFunction<List<UUID>> source;
+    private final Function<List<UUID>, Integer> remover;
+    private volatile BulkDeleteStatus status = BulkDeleteStatus.QUEUED;
+    private volatile long processed;
+    private volatile long deleted;
+    private volatile long chunks;
+    private volatile boolean cancelRequested;
+    private volatile Timestamp startedAt;
+    private volatile Timestamp finishedAt;
+    private volatile String message;
+
+    // source는 다음에 지울 id를 최대 size개 돌려주고, 빈 목록을 돌려주면 작업이 끝난다.
+    public BulkDeleteJob(String target, Long total, IntFunction<List<UUID>> source,
+                         Function<List<UUID>, Integer> remover) {
+        this.target = target;
+        this.total = total;
+        this.source = source;
+        this.remover = remover;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getTarget() {
+        return target;
+    }
+
+    public BulkDeleteStatus getStatus() {
+        return status;
+    }
+
+    public boolean isFinished() {
+        return status == BulkDeleteStatus.DONE || status == BulkDeleteStatus.CANCELLED ||
+            status == BulkDeleteStatus.FAILED;
+    }
+
+    public void cancel() {
+        cancelRequested = true;
+    }
+
+    public BulkDeleteResponse toResponse() {
+        return new BulkDeleteResponse(id, target, status.name(), total, processed, deleted, chunks, startedAt,
+            finishedAt, message);
+    }
+
+    // 주어진 id 목록을 앞에서부터 size개씩 잘라 돌려준다.
+    public static IntFunction<List<UUID>> chunksOf(Collection<UUID> ids) {
+        Iterator<UUID> iterator = List.copyOf(ids).iterator();
+        return size -> {
+            List<UUID> chunk = new ArrayList<>(size);
+            while (iterator.hasNext() && chunk.size() < size) {
+                chunk.add(iterator.next());
+            }
+            return chunk;
+        };
+    }
+
+    // 조건으로 고르는 source는 지운 행이 빠진 다음 묶음을 돌려주므로, 직전 묶음의 id가 다시 나오면 지우지 못한 것으로 보고 멈춘다.
+    void run(int chunkSize, long pauseMillis) {
+        status = BulkDeleteStatus.RUNNING;
+        startedAt = new Timestamp(System.currentTimeMillis());
+        try {
+            Set<UUID> previous = Set.of();
+            while (!cancelRequested) {
+                List<UUID> ids = source.apply(chunkSize);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                if (!Collections.disjoint(ids, previous)) {
+                    message = "지울 수 없는 대상이 남아 있어 작업을 멈췄습니다.";
+                    break;
+                }
+                deleted += remover.apply(ids);
+                processed += ids.size();
+                chunks++;
+                previous = new HashSet<>(ids);
+                if (pauseMillis > 0) {
+                    Thread.sleep(pauseMillis);
+                }
+            }
+            status = cancelRequested ? BulkDeleteStatus.CANCELLED : BulkDeleteStatus.DONE;
+        } catch (InterruptedException e) {
+            status = BulkDeleteStatus.CANCELLED;
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            status = BulkDeleteStatus.FAILED;
+            message = e.getMessage();
+            throw e;
+        } finally {
+            finishedAt = new Timestamp(System.currentTimeMillis());
+        }
+    }
+}
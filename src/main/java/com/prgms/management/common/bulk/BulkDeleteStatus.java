@@ -0,0 +1,9 @@
+package com.prgms.management.common.bulk;
+
+public enum BulkDeleteStatus {
+    QUEUED,
+    RUNNING,
+    DONE,
+    CANCELLED,
+    FAILED
+}
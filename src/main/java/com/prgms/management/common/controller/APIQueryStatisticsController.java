@@ -0,0 +1,52 @@
+package com.prgms.management.common.controller;
+
+import com.prgms.management.common.dto.QueryStatisticsResponse;
+import com.prgms.management.common.dto.Response;
+import com.prgms.management.common.exception.WrongRequestParamException;
+import com.prgms.management.common.jdbc.QueryStatistics;
+import com.prgms.management.common.ratelimit.AdmissionCategory;
+import com.prgms.management.common.ratelimit.RateLimit;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("api/v1/admin/queries")
+public class APIQueryStatisticsController {
+    private static final int MAX_LIMIT = 100;
+
+    private final QueryStatistics queryStatistics;
+
+    public APIQueryStatisticsController(QueryStatistics queryStatistics) {
+        this.queryStatistics = queryStatistics;
+    }
+
+    @GetMapping
+    @RateLimit(AdmissionCategory.READ)
+    public ResponseEntity<Response> queryStatistics(@RequestParam(value = "sort", defaultValue = "total") String sort,
+                                                    @RequestParam(value = "limit", defaultValue = "10") int limit,
+                                                    @RequestParam(value = "window", defaultValue = "current") String window) {
+        QueryStatistics.Order order;
+        try {
+            order = QueryStatistics.Order.valueOf(sort.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new WrongRequestParamException("sort는 total과 p99만 지원합니다.");
+        }
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new WrongRequestParamException("limit은 1에서 " + MAX_LIMIT + " 사이의 값이어야 합니다.");
+        }
+        if (!window.equals("current") && !window.equals("previous")) {
+            throw new WrongRequestParamException("window는 current와 previous만 지원합니다.");
+        }
+
+        List<QueryStatisticsResponse> resultList = queryStatistics.top(limit, order, window.equals("previous")).stream()
+            .map(QueryStatisticsResponse::of).toList();
+        Response response = new Response(HttpStatus.OK.value(), "쿼리 통계 조회 성공", resultList);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,44 @@
+package com.prgms.management.common.controller;
+
+import com.prgms.management.common.dto.Response;
+import com.prgms.management.common.dto.SingleFlightResponse;
+import com.prgms.management.common.exception.WrongRequestParamException;
+import com.prgms.management.common.ratelimit.AdmissionCategory;
+import com.prgms.management.common.ratelimit.RateLimit;
+import com.prgms.management.customer.service.CustomerService;
+import com.prgms.management.voucher.service.VoucherService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("api/v1/admin/lookups")
+public class APISingleFlightController {
+    private static final int MAX_LIMIT = 100;
+
+    private final VoucherService voucherService;
+    private final CustomerService customerService;
+
+    public APISingleFlightController(VoucherService voucherService, CustomerService customerService) {
+        this.voucherService = voucherService;
+        this.customerService = customerService;
+    }
+
+    @GetMapping
+    @RateLimit(AdmissionCategory.READ)
+    public ResponseEntity<Response> lookupMetrics(@RequestParam(value = "limit", defaultValue = "10") int limit) {
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new WrongRequestParamException("limit은 1에서 " + MAX_LIMIT + " 사이의 값이어야 합니다.");
+        }
+        List<SingleFlightResponse> resultList = List.of(
+            voucherService.findLookupMetrics(limit),
+            customerService.findLookupMetrics(limit));
+        Response response = new Response(HttpStatus.OK.value(), "단건 조회 병합 현황 조회 성공", resultList);
+        return ResponseEntity.ok(response);
+    }
+}
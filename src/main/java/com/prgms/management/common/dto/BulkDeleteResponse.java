@@ -0,0 +1,19 @@
+package com.prgms.management.common.dto;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+public record BulkDeleteResponse(
+    UUID id,
+    String target,
+    String status,
+    Long total,
+    Long processed,
+    Long deleted,
+    Long chunks,
+    Timestamp startedAt,
+    Timestamp finishedAt,
+    String message
+) {
+
+}
@@ -0,0 +1,22 @@
+package com.prgms.management.common.dto;
+
+import java.util.List;
+
+public record PageResponse<T>(
+    List<T> content,
+    Integer page,
+    Integer size,
+    Long totalCount
+) {
+    public int totalPages() {
+        return (int) Math.max(1, (totalCount + size - 1) / size);
+    }
+
+    public boolean hasPrevious() {
+        return page > 1;
+    }
+
+    public boolean hasNext() {
+        return page < totalPages();
+    }
+}
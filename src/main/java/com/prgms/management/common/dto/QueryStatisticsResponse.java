@@ -0,0 +1,35 @@
+package com.prgms.management.common.dto;
+
+import com.prgms.management.common.jdbc.QueryStatistics.QuerySummary;
+
+import java.sql.Timestamp;
+
+public record QueryStatisticsResponse(
+    String sql,
+    Long count,
+    Long slowCount,
+    Double totalMillis,
+    Double meanMillis,
+    Double p99Millis,
+    Double maxMillis,
+    String lastParameters,
+    Timestamp windowStartedAt
+) {
+    public static QueryStatisticsResponse of(QuerySummary summary) {
+        return new QueryStatisticsResponse(
+            summary.sql(),
+            summary.count(),
+            summary.slowCount(),
+            millis(summary.totalNanos()),
+            millis(summary.meanNanos()),
+            millis(summary.p99Nanos()),
+            millis(summary.maxNanos()),
+            summary.lastParameters(),
+            new Timestamp(summary.windowStartedAt())
+        );
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
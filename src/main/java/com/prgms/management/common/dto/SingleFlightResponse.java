@@ -0,0 +1,29 @@
+package com.prgms.management.common.dto;
+
+import com.prgms.management.common.util.SingleFlight;
+
+import java.util.List;
+import java.util.UUID;
+
+public record SingleFlightResponse(
+    String target,
+    Long loadCount,
+    Long coalescedCount,
+    Integer inFlight,
+    List<HotKey> hotKeys
+) {
+    public static SingleFlightResponse of(String target, SingleFlight<UUID, ?> singleFlight, int limit) {
+        return new SingleFlightResponse(
+            target,
+            singleFlight.getLoadCount(),
+            singleFlight.getCoalescedCount(),
+            singleFlight.getInFlight(),
+            singleFlight.top(limit).stream()
+                .map(summary -> new HotKey(summary.key(), summary.loads(), summary.coalesced(), summary.maxWaiters()))
+                .toList()
+        );
+    }
+
+    public record HotKey(UUID id, Long loads, Long coalesced, Integer maxWaiters) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.prgms.management.common.exception;
+
+public class AlreadyClaimedException extends RuntimeException {
+    private static final String DEFAULT_MESSAGE = "이미 다른 고객에게 지급된 바우처입니다.";
+
+    public AlreadyClaimedException() {
+        this(DEFAULT_MESSAGE);
+    }
+
+    public AlreadyClaimedException(String message) {
+        super(message);
+    }
+}
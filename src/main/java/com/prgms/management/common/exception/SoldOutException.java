@@ -0,0 +1,13 @@
+package com.prgms.management.common.exception;
+
+public class SoldOutException extends RuntimeException {
+    private static final String DEFAULT_MESSAGE = "준비된 수량이 모두 소진되었습니다.";
+
+    public SoldOutException() {
+        this(DEFAULT_MESSAGE);
+    }
+
+    public SoldOutException(String message) {
+        super(message);
+    }
+}
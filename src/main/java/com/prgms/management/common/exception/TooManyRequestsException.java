@@ -0,0 +1,20 @@
+package com.prgms.management.common.exception;
+
+public class TooManyRequestsException extends RuntimeException {
+    private static final String DEFAULT_MESSAGE = "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.";
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(long retryAfterSeconds) {
+        this(DEFAULT_MESSAGE, retryAfterSeconds);
+    }
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
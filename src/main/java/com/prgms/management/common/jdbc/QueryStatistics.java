@@ -0,0 +1,141 @@
+package com.prgms.management.common.jdbc;
+
+import com.prgms.management.common.util.LatencyHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+// 구문별 실행 시간을 일정 시간 단위의 창으로 모은다. 창이 끝나면 직전 창의 상위 구문을 로그로 남기고 새 창에서 다시 센다.
+@Component
+public class QueryStatistics {
+    private static final Logger logger = LoggerFactory.getLogger(QueryStatistics.class);
+    private static final String OVERFLOW_KEY = "(기타 구문)";
+    private static final int LOGGED_TOP = 5;
+
+    private final long thresholdNanos;
+    private final long windowMillis;
+    private final int maxStatements;
+    private final AtomicReference<Window> current;
+    private volatile Window previous;
+
+    public QueryStatistics(@Value("${database.slow-query.threshold-ms:200}") long thresholdMillis,
+                           @Value("${database.slow-query.window-ms:300000}") long windowMillis,
+                           @Value("${database.slow-query.max-statements:200}") int maxStatements) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.windowMillis = windowMillis;
+        this.maxStatements = maxStatements;
+        this.current = new AtomicReference<>(new Window(System.currentTimeMillis()));
+    }
+
+    public void record(String sql, String parameters, long elapsedNanos) {
+        Window window = currentWindow(System.currentTimeMillis());
+        String statement = normalize(sql);
+        Entry entry = window.entries.get(statement);
+        if (entry == null) {
+            // 동적으로 만들어지는 구문이 많아도 메모리가 늘지 않도록 상한을 넘긴 구문은 한 항목에 모은다.
+            String key = window.entries.size() < maxStatements ? statement : OVERFLOW_KEY;
+            entry = window.entries.computeIfAbsent(key, k -> new Entry());
+        }
+        entry.record(elapsedNanos, parameters);
+
+        if (elapsedNanos >= thresholdNanos) {
+            entry.slowCount.increment();
+            logger.warn("느린 쿼리 {}ms : {} {}", TimeUnit.NANOSECONDS.toMillis(elapsedNanos), statement, parameters);
+        }
+    }
+
+    public List<QuerySummary> top(int limit, Order order, boolean previousWindow) {
+        Window window = previousWindow ? previous : currentWindow(System.currentTimeMillis());
+        if (window == null) {
+            return List.of();
+        }
+        return window.summaries().stream()
+            .sorted(order.comparator)
+            .limit(limit)
+            .toList();
+    }
+
+    private Window currentWindow(long now) {
+        Window window = current.get();
+        if (now - window.startedAt < windowMillis) {
+            return window;
+        }
+        Window next = new Window(now);
+        if (current.compareAndSet(window, next)) {
+            previous = window;
+            window.summaries().stream()
+                .sorted(Order.TOTAL.comparator)
+                .limit(LOGGED_TOP)
+                .forEach(summary -> logger.info("쿼리 누적 시간 상위 : {}", summary.toLine()));
+            return next;
+        }
+        return current.get();
+    }
+
+    private static String normalize(String sql) {
+        return sql.strip().replaceAll("\\s+", " ");
+    }
+
+    public enum Order {
+        TOTAL(Comparator.comparingLong(QuerySummary::totalNanos).reversed()),
+        P99(Comparator.comparingLong(QuerySummary::p99Nanos).reversed());
+
+        private final Comparator<QuerySummary> comparator;
+
+        Order(Comparator<QuerySummary> comparator) {
+            this.comparator = comparator;
+        }
+    }
+
+    public record QuerySummary(String sql, long count, long slowCount, long totalNanos, long meanNanos,
+                               long p99Nanos, long maxNanos, String lastParameters, long windowStartedAt) {
+        public String toLine() {
+            return String.format("count=%d slow=%d total=%dms p99=%.3fms max=%.3fms %s", count, slowCount,
+                TimeUnit.NANOSECONDS.toMillis(totalNanos), p99Nanos / 1_000_000.0, maxNanos / 1_000_000.0, sql);
+        }
+    }
+
+    private static class Window {
+        private final long startedAt;
+        private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+        private Window(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        private List<QuerySummary> summaries() {
+            return entries.entrySet().stream()
+                .map(e -> e.getValue().summarize(e.getKey(), startedAt))
+                .toList();
+        }
+    }
+
+    private static class Entry {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder slowCount = new LongAdder();
+        private volatile String lastParameters;
+
+        private void record(long elapsedNanos, String parameters) {
+            histogram.record(elapsedNanos);
+            totalNanos.add(elapsedNanos);
+            lastParameters = parameters;
+        }
+
+        private QuerySummary summarize(String sql, long windowStartedAt) {
+            long count = histogram.getTotalCount();
+            long total = totalNanos.sum();
+            return new QuerySummary(sql, count, slowCount.sum(), total, count == 0 ? 0 : total / count,
+                histogram.getValueAtPercentile(99), histogram.getMaxValue(), lastParameters, windowStartedAt);
+        }
+    }
+}
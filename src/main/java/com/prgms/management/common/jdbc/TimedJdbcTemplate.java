@@ -0,0 +1,108 @@
+package com.prgms.management.common.jdbc;
+
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.jdbc.support.rowset.SqlRowSet;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
+
+// NamedParameterJdbcTemplate의 나머지 메서드는 모두 아래 메서드들을 거쳐 실행되므로 이 메서드들만 측정하면 중복 없이 모든 구문이 기록된다.
+public class TimedJdbcTemplate extends NamedParameterJdbcTemplate {
+    private final QueryStatistics statistics;
+
+    public TimedJdbcTemplate(DataSource dataSource, QueryStatistics statistics) {
+        super(dataSource);
+        this.statistics = statistics;
+    }
+
+    @Override
+    public <T> T execute(String sql, SqlParameterSource paramSource, PreparedStatementCallback<T> action) {
+        return timed(sql, paramSource, () -> super.execute(sql, paramSource, action));
+    }
+
+    @Override
+    public <T> T query(String sql, SqlParameterSource paramSource, ResultSetExtractor<T> rse) {
+        return timed(sql, paramSource, () -> super.query(sql, paramSource, rse));
+    }
+
+    @Override
+    public void query(String sql, SqlParameterSource paramSource, RowCallbackHandler rch) {
+        timed(sql, paramSource, () -> {
+            super.query(sql, paramSource, rch);
+            return null;
+        });
+    }
+
+    @Override
+    public <T> List<T> query(String sql, SqlParameterSource paramSource, RowMapper<T> rowMapper) {
+        return timed(sql, paramSource, () -> super.query(sql, paramSource, rowMapper));
+    }
+
+    @Override
+    public <T> T queryForObject(String sql, SqlParameterSource paramSource, RowMapper<T> rowMapper) {
+        return timed(sql, paramSource, () -> super.queryForObject(sql, paramSource, rowMapper));
+    }
+
+    @Override
+    public SqlRowSet queryForRowSet(String sql, SqlParameterSource paramSource) {
+        return timed(sql, paramSource, () -> super.queryForRowSet(sql, paramSource));
+    }
+
+    @Override
+    public int update(String sql, SqlParameterSource paramSource) {
+        return timed(sql, paramSource, () -> super.update(sql, paramSource));
+    }
+
+    @Override
+    public int update(String sql, SqlParameterSource paramSource, KeyHolder generatedKeyHolder, String[] keyColumnNames) {
+        return timed(sql, paramSource, () -> super.update(sql, paramSource, generatedKeyHolder, keyColumnNames));
+    }
+
+    @Override
+    public int[] batchUpdate(String sql, SqlParameterSource[] batchArgs) {
+        String parameters = batchArgs.length == 0 ? "[0]" : "[" + batchArgs.length + "]" + shapeOf(batchArgs[0]);
+        return timed(sql, parameters, () -> super.batchUpdate(sql, batchArgs));
+    }
+
+    private <T> T timed(String sql, SqlParameterSource paramSource, Supplier<T> statement) {
+        return timed(sql, shapeOf(paramSource), statement);
+    }
+
+    private <T> T timed(String sql, String parameters, Supplier<T> statement) {
+        long start = System.nanoTime();
+        try {
+            return statement.get();
+        } finally {
+            statistics.record(sql, parameters, System.nanoTime() - start);
+        }
+    }
+
+    // 값 대신 이름과 타입만 남겨 로그에 개인정보가 실리지 않게 한다. 컬렉션은 IN 절의 크기를 알 수 있도록 원소 수를 붙인다.
+    static String shapeOf(SqlParameterSource paramSource) {
+        String[] names = paramSource.getParameterNames();
+        if (names == null) {
+            return "{}";
+        }
+        StringJoiner shape = new StringJoiner(", ", "{", "}");
+        for (String name : names) {
+            Object value = paramSource.getValue(name);
+            if (value == null) {
+                shape.add(name + ":null");
+            } else if (value instanceof Collection<?> collection) {
+                shape.add(name + ":" + value.getClass().getSimpleName() + "(" + collection.size() + ")");
+            } else {
+                shape.add(name + ":" + value.getClass().getSimpleName());
+            }
+        }
+        return shape.toString();
+    }
+}
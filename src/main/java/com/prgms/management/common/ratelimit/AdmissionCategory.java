@@ -0,0 +1,15 @@
+package com.prgms.management.common.ratelimit;
+
+public enum AdmissionCategory {
+    READ("read"), WRITE("write"), LIST("list");
+
+    private final String key;
+
+    AdmissionCategory(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+}
@@ -0,0 +1,14 @@
+package com.prgms.management.common.ratelimit;
+
+import java.lang.annotation.*;
+
+// API 핸들러가 어느 예산(읽기, 쓰기, 목록 조회)을 사용할지 지정한다. 메서드에 붙은 값이 클래스에 붙은 값보다 우선한다.
+// 같은 분류의 핸들러는 예산을 함께 쓰고, key를 지정한 핸들러만 api.rate-limit.endpoints.{key} 설정으로 따로 예산을 받는다.
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RateLimit {
+    AdmissionCategory value();
+
+    String key() default "";
+}
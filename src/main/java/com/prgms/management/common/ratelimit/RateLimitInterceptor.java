@@ -0,0 +1,173 @@
+package com.prgms.management.common.ratelimit;
+
+import com.prgms.management.common.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 분류(읽기, 쓰기, 목록 조회)마다 예산을 하나씩 두고, key를 지정한 핸들러만 따로 예산을 둔다.
+// 요청 경로에서는 잠금 없이 클라이언트 버킷을 찾고, 오래 요청하지 않은 클라이언트는 주기적으로 정리한다.
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+    private static final String API_KEY_HEADER = "X-API-Key";
+    private static final String PROPERTY_PREFIX = "api.rate-limit.";
+    private static final String ENDPOINT_PREFIX = "endpoints.";
+    private static final int MAX_CLIENTS = 20_000;
+
+    private final boolean enabled;
+    private final Environment environment;
+    // 등록된 키만 따로 예산을 받고, 그 밖의 요청은 접속 주소로 구분한다.
+    private final Set<String> apiKeys;
+    private final long sweepIntervalMillis;
+    private final Map<String, Budget> budgets = new ConcurrentHashMap<>();
+    // 예산이 없는 핸들러도 다시 찾지 않도록 빈 값으로 기억한다.
+    private final Map<Method, Optional<Budget>> handlerBudgets = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService sweeper;
+
+    public RateLimitInterceptor(@Value("${api.rate-limit.enabled:true}") boolean enabled, Environment environment) {
+        this.enabled = enabled;
+        this.environment = environment;
+        this.apiKeys = Set.of(environment.getProperty(PROPERTY_PREFIX + "api-keys", String[].class, new String[0]));
+        this.sweepIntervalMillis = environment.getProperty(PROPERTY_PREFIX + "sweep-interval-ms", Long.class, 60_000L);
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-limit-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        sweeper.scheduleWithFixedDelay(this::sweep, sweepIntervalMillis, sweepIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        sweeper.shutdownNow();
+        sweeper.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!enabled || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        Optional<Budget> budget = handlerBudgets.computeIfAbsent(handlerMethod.getMethod(),
+            method -> findRateLimit(handlerMethod).map(this::budgetOf));
+        if (budget.isEmpty()) {
+            return true;
+        }
+
+        long wait = budget.get().tryAcquire(clientKey(request));
+        if (wait > 0) {
+            throw new TooManyRequestsException(Math.max(1, (long) Math.ceil(wait / (double) TimeUnit.SECONDS.toNanos(1))));
+        }
+        return true;
+    }
+
+    // 가득 찬 버킷은 새로 만든 버킷과 같으므로 지워도 예산이 달라지지 않는다. 지운 개수를 반환한다.
+    public int sweep() {
+        long now = System.nanoTime();
+        int removed = 0;
+        for (Budget budget : budgets.values()) {
+            removed += budget.sweep(now);
+        }
+        return removed;
+    }
+
+    private Optional<RateLimit> findRateLimit(HandlerMethod handlerMethod) {
+        RateLimit rateLimit = handlerMethod.getMethodAnnotation(RateLimit.class);
+        if (rateLimit == null) {
+            rateLimit = handlerMethod.getBeanType().getAnnotation(RateLimit.class);
+        }
+        return Optional.ofNullable(rateLimit);
+    }
+
+    private Budget budgetOf(RateLimit rateLimit) {
+        String name = rateLimit.key().isBlank() ? rateLimit.value().getKey() : ENDPOINT_PREFIX + rateLimit.key();
+        return budgets.computeIfAbsent(name, key -> createBudget(key, rateLimit.value()));
+    }
+
+    // 핸들러 설정에 없는 값은 분류의 설정을 따른다.
+    private Budget createBudget(String name, AdmissionCategory category) {
+        String prefix = PROPERTY_PREFIX + name + ".";
+        String fallback = PROPERTY_PREFIX + category.getKey() + ".";
+        return new Budget(
+            property(prefix, fallback, "client-capacity", Long.class, 100L),
+            property(prefix, fallback, "client-per-second", Double.class, 50.0),
+            new TokenBucket(property(prefix, fallback, "global-capacity", Long.class, 1000L),
+                property(prefix, fallback, "global-per-second", Double.class, 500.0)));
+    }
+
+    private <T> T property(String prefix, String fallback, String name, Class<T> type, T defaultValue) {
+        T value = environment.getProperty(prefix + name, type);
+        return value != null ? value : environment.getProperty(fallback + name, type, defaultValue);
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        String apiKey = request.getHeader(API_KEY_HEADER);
+        return apiKey != null && apiKeys.contains(apiKey) ? "key:" + apiKey : "ip:" + request.getRemoteAddr();
+    }
+
+    private static final class Budget {
+        private final long clientCapacity;
+        private final double clientPerSecond;
+        private final TokenBucket global;
+        private final Map<String, TokenBucket> clients = new ConcurrentHashMap<>();
+
+        private Budget(long clientCapacity, double clientPerSecond, TokenBucket global) {
+            this.clientCapacity = clientCapacity;
+            this.clientPerSecond = clientPerSecond;
+            this.global = global;
+        }
+
+        // 클라이언트 예산을 먼저 확인해 한 클라이언트의 폭주가 전체 예산을 소진하지 못하게 하고,
+        // 전체 예산에서 거절되면 클라이언트 토큰을 되돌려 허용된 요청만 두 예산을 쓰게 한다.
+        // 정리 전에 클라이언트가 너무 많아지면 새 클라이언트는 전체 예산만 확인한다.
+        // 새 버킷은 만든 시각부터 가득 차 있으므로, 현재 시각은 버킷을 찾은 뒤에 읽는다.
+        private long tryAcquire(String client) {
+            TokenBucket bucket = clients.get(client);
+            if (bucket == null) {
+                if (clients.size() >= MAX_CLIENTS) {
+                    return global.tryAcquire(System.nanoTime());
+                }
+                bucket = clients.computeIfAbsent(client, key -> new TokenBucket(clientCapacity, clientPerSecond));
+            }
+            long now = System.nanoTime();
+            long wait = bucket.tryAcquire(now);
+            if (wait > 0) {
+                return wait;
+            }
+            wait = global.tryAcquire(now);
+            if (wait > 0) {
+                bucket.refund();
+            }
+            return wait;
+        }
+
+        private int sweep(long now) {
+            int removed = 0;
+            for (Map.Entry<String, TokenBucket> entry : clients.entrySet()) {
+                if (entry.getValue().isFull(now) && clients.remove(entry.getKey(), entry.getValue())) {
+                    removed++;
+                }
+            }
+            return removed;
+        }
+    }
+}
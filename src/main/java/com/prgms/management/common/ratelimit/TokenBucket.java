@@ -0,0 +1,44 @@
+package com.prgms.management.common.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// GCRA 방식의 토큰 버킷. 다음 토큰이 허용되는 이론적 시각 하나만 CAS로 갱신하므로 락 없이 동작한다.
+public class TokenBucket {
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(long capacity, double refillPerSecond) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity와 refillPerSecond는 0보다 커야 합니다.");
+        }
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond));
+        this.toleranceNanos = intervalNanos * (capacity - 1);
+        this.theoreticalArrival = new AtomicLong(System.nanoTime());
+    }
+
+    // 허용되면 0을, 거절되면 다음 토큰까지 기다려야 하는 시간(ns)을 반환한다.
+    public long tryAcquire(long now) {
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long base = arrival - now > 0 ? arrival : now;
+            long wait = base - now - toleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, base + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    // 받은 토큰을 쓰지 않게 되었을 때 되돌린다.
+    public void refund() {
+        theoreticalArrival.addAndGet(-intervalNanos);
+    }
+
+    public boolean isFull(long now) {
+        return theoreticalArrival.get() - now <= 0;
+    }
+}
@@ -0,0 +1,293 @@
+package com.prgms.management.common.util;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+// 문자 2-gram마다 문서 번호 목록을 두고, 검색어의 2-gram 중 목록이 가장 짧은 것의 후보만 실제 문자열과 비교한다.
+// 한 글자 검색어는 단어 첫 글자에만 걸리도록 단어 시작 위치를 따로 색인한다.
+public class NgramIndex<T> {
+    private static final char WORD_START = 0;
+    private static final int COMPACT_THRESHOLD = 1024;
+
+    private final Function<T, UUID> idOf;
+    private final Function<T, List<String>> fieldsOf;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> slots = new HashMap<>();
+    private final Map<Integer, Postings> postings = new HashMap<>();
+    private Object[] items = new Object[16];
+    private String[][] texts = new String[16][];
+    private int nextSlot;
+    private int deadSlots;
+
+    public NgramIndex(Function<T, UUID> idOf, Function<T, List<String>> fieldsOf) {
+        this.idOf = idOf;
+        this.fieldsOf = fieldsOf;
+    }
+
+    public void put(T item) {
+        putAll(List.of(item));
+    }
+
+    public void putAll(Collection<T> items) {
+        lock.writeLock().lock();
+        try {
+            for (T item : items) {
+                unlink(idOf.apply(item));
+                link(item);
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            unlink(id);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            slots.clear();
+            postings.clear();
+            items = new Object[16];
+            texts = new String[16][];
+            nextSlot = 0;
+            deadSlots = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<T> search(String query, int limit) {
+        return search(query, limit, item -> true);
+    }
+
+    // 완전 일치, 앞부분 일치, 단어 앞부분 일치, 부분 일치 순으로, 같은 순위에서는 짧은 값을 먼저 돌려준다.
+    // filter를 통과하지 못한 항목은 순위를 매기기 전에 빼므로 결과가 limit보다 적게 잘리지 않는다.
+    @SuppressWarnings("unchecked")
+    public List<T> search(String query, int limit, Predicate<T> filter) {
+        String keyword = normalize(query);
+        if (keyword == null || keyword.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int[] grams = queryGrams(keyword);
+            Postings[] lists = new Postings[grams.length];
+            for (int i = 0; i < grams.length; i++) {
+                lists[i] = postings.get(grams[i]);
+                if (lists[i] == null) {
+                    return List.of();
+                }
+            }
+            Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+
+            Comparator<Match> order = Comparator.comparingInt(Match::rank)
+                .thenComparingInt(Match::length)
+                .thenComparingInt(Match::slot);
+            PriorityQueue<Match> top = new PriorityQueue<>(limit, order.reversed());
+            int[] cursors = new int[lists.length];
+            Postings candidates = lists[0];
+            for (int i = 0; i < candidates.size; i++) {
+                int slot = candidates.values[i];
+                if (items[slot] == null || !containsAll(lists, cursors, slot) || !filter.test((T) items[slot])) {
+                    continue;
+                }
+                long score = score(slot, keyword);
+                if (score < 0) {
+                    continue;
+                }
+                int rank = (int) (score >>> 32);
+                int length = (int) score;
+                if (top.size() < limit) {
+                    top.add(new Match(slot, rank, length));
+                } else if (isBetter(rank, length, slot, top.peek())) {
+                    top.poll();
+                    top.add(new Match(slot, rank, length));
+                }
+            }
+
+            List<Match> matches = new ArrayList<>(top);
+            matches.sort(order);
+            return matches.stream().map(match -> (T) items[match.slot()]).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 번호 목록은 모두 오름차순이므로 목록마다 커서를 앞으로만 옮기며 건너뛰기 탐색으로 교집합을 구한다.
+    private static boolean containsAll(Postings[] lists, int[] cursors, int slot) {
+        for (int i = 1; i < lists.length; i++) {
+            Postings list = lists[i];
+            int low = cursors[i];
+            int step = 1;
+            while (low + step < list.size && list.values[low + step] < slot) {
+                low += step;
+                step <<= 1;
+            }
+            int index = Arrays.binarySearch(list.values, low, Math.min(list.size, low + step + 1), slot);
+            if (index < 0) {
+                cursors[i] = -index - 1;
+                return false;
+            }
+            cursors[i] = index;
+        }
+        return true;
+    }
+
+    private static boolean isBetter(int rank, int length, int slot, Match worst) {
+        if (rank != worst.rank()) {
+            return rank < worst.rank();
+        }
+        if (length != worst.length()) {
+            return length < worst.length();
+        }
+        return slot < worst.slot();
+    }
+
+    // 순위를 상위 32비트, 일치한 값의 길이를 하위 32비트에 담고, 일치하지 않으면 -1을 돌려준다.
+    private long score(int slot, String keyword) {
+        long best = -1;
+        for (String text : texts[slot]) {
+            int rank;
+            if (text.equals(keyword)) {
+                rank = 0;
+            } else if (text.startsWith(keyword)) {
+                rank = 1;
+            } else {
+                int index = text.indexOf(keyword);
+                if (index < 0) {
+                    continue;
+                }
+                rank = isWordStart(text, index) ? 2 : 3;
+                while (rank == 3 && (index = text.indexOf(keyword, index + 1)) >= 0) {
+                    rank = isWordStart(text, index) ? 2 : 3;
+                }
+                if (keyword.length() == 1 && rank == 3) {
+                    continue;
+                }
+            }
+            long score = (long) rank << 32 | text.length();
+            if (best < 0 || score < best) {
+                best = score;
+            }
+        }
+        return best;
+    }
+
+    private void link(T item) {
+        int slot = nextSlot++;
+        if (slot == items.length) {
+            items = Arrays.copyOf(items, slot * 2);
+            texts = Arrays.copyOf(texts, slot * 2);
+        }
+        String[] normalized = fieldsOf.apply(item).stream()
+            .map(NgramIndex::normalize)
+            .filter(Objects::nonNull)
+            .toArray(String[]::new);
+        items[slot] = item;
+        texts[slot] = normalized;
+        slots.put(idOf.apply(item), slot);
+        for (String text : normalized) {
+            for (int i = 0; i < text.length(); i++) {
+                if (isWordStart(text, i)) {
+                    append(gram(WORD_START, text.charAt(i)), slot);
+                }
+                if (i + 1 < text.length()) {
+                    append(gram(text.charAt(i), text.charAt(i + 1)), slot);
+                }
+            }
+        }
+    }
+
+    // 번호 목록에서 바로 빼지 않고 자리만 비워 두었다가, 빈 자리가 살아 있는 문서보다 많아지면 한 번에 다시 만든다.
+    private void unlink(UUID id) {
+        Integer slot = slots.remove(id);
+        if (slot != null) {
+            items[slot] = null;
+            texts[slot] = null;
+            deadSlots++;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void compactIfNeeded() {
+        if (deadSlots < COMPACT_THRESHOLD || deadSlots < slots.size()) {
+            return;
+        }
+        Object[] live = Arrays.stream(items, 0, nextSlot).filter(Objects::nonNull).toArray();
+        slots.clear();
+        postings.clear();
+        items = new Object[Math.max(16, live.length * 2)];
+        texts = new String[items.length][];
+        nextSlot = 0;
+        deadSlots = 0;
+        for (Object item : live) {
+            link((T) item);
+        }
+    }
+
+    private void append(int gram, int slot) {
+        Postings list = postings.computeIfAbsent(gram, key -> new Postings());
+        if (list.size == 0 || list.values[list.size - 1] != slot) {
+            list.add(slot);
+        }
+    }
+
+    private static int[] queryGrams(String keyword) {
+        if (keyword.length() == 1) {
+            return new int[]{gram(WORD_START, keyword.charAt(0))};
+        }
+        int[] grams = new int[keyword.length() - 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = gram(keyword.charAt(i), keyword.charAt(i + 1));
+        }
+        return grams;
+    }
+
+    private static boolean isWordStart(String text, int index) {
+        return index == 0 || !Character.isLetterOrDigit(text.charAt(index - 1));
+    }
+
+    private static int gram(char first, char second) {
+        return first << 16 | second;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? null : text.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static class Postings {
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int slot) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = slot;
+        }
+    }
+
+    private record Match(int slot, int rank, int length) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.prgms.management.common.util;
+
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+// 페이지마다 마지막 항목의 (생성일, id)를 기억해 두었다가, 다음 페이지를 OFFSET 대신 그 항목 다음부터 읽게 한다.
+// 기억한 위치는 ttl이 지나면 버리고, 가장 오래 쓰지 않은 위치부터 밀어낸다.
+public class PageAnchors {
+    private final long ttlNanos;
+    private final Map<Long, Anchor> anchors;
+
+    public PageAnchors(int maxAnchors, long ttlNanos) {
+        this.ttlNanos = ttlNanos;
+        this.anchors = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Anchor> eldest) {
+                return size() > maxAnchors;
+            }
+        };
+    }
+
+    // page의 마지막 항목을 반환하며, 모르거나 오래된 경우 null을 반환한다.
+    public synchronized Anchor find(int page, int size) {
+        long key = keyOf(page, size);
+        Anchor anchor = anchors.get(key);
+        if (anchor == null) {
+            return null;
+        }
+        if (System.nanoTime() - anchor.expiresAt() >= 0) {
+            anchors.remove(key);
+            return null;
+        }
+        return anchor;
+    }
+
+    public synchronized void remember(int page, int size, Timestamp createdAt, UUID id) {
+        anchors.put(keyOf(page, size), new Anchor(createdAt, id, System.nanoTime() + ttlNanos));
+    }
+
+    private static long keyOf(int page, int size) {
+        return ((long) size << 32) | (page & 0xffffffffL);
+    }
+
+    public record Anchor(Timestamp createdAt, UUID id, long expiresAt) {
+    }
+}
@@ -0,0 +1,133 @@
+package com.prgms.management.common.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// 같은 키를 동시에 조회하면 먼저 온 스레드만 실제로 읽고, 나머지는 그 결과나 예외를 그대로 받아 간다.
+// 결과를 보관하지 않으므로 캐시와 달리 오래된 값을 돌려주지 않는다.
+public class SingleFlight<K, V> {
+    private final Map<K, Call<V>> calls = new ConcurrentHashMap<>();
+    // 대기자가 생길 때만 기록하므로 잠금을 잡는 일이 드물다. 상한을 넘으면 가장 오래 몰리지 않은 키부터 밀어낸다.
+    private final Map<K, KeyStatistics> statistics;
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+
+    public SingleFlight(int maxTrackedKeys) {
+        this.statistics = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, KeyStatistics> eldest) {
+                return size() > maxTrackedKeys;
+            }
+        };
+    }
+
+    public V load(K key, Supplier<V> loader) {
+        Call<V> call = new Call<>();
+        Call<V> running = calls.putIfAbsent(key, call);
+        if (running != null) {
+            running.waiters.incrementAndGet();
+            coalescedCount.increment();
+            return running.await();
+        }
+
+        loadCount.increment();
+        try {
+            V value = loader.get();
+            call.result.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, call);
+            record(key, call.waiters.get());
+        }
+    }
+
+    // 키가 바뀌었을 때 호출한다. 이미 읽고 있던 결과는 그 전에 기다리던 요청에게만 전달되고, 이후 요청은 새로 읽는다.
+    public void forget(K key) {
+        calls.remove(key);
+    }
+
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    public int getInFlight() {
+        return calls.size();
+    }
+
+    public List<KeySummary<K>> top(int limit) {
+        List<KeySummary<K>> summaries = new ArrayList<>();
+        synchronized (statistics) {
+            statistics.forEach((key, value) -> summaries.add(value.summarize(key)));
+        }
+        return summaries.stream()
+            .sorted(Comparator.comparingLong(KeySummary<K>::coalesced).reversed())
+            .limit(limit)
+            .toList();
+    }
+
+    // 대기자가 있었던 키만 기록해 몰리는 키를 찾는다.
+    private void record(K key, int waiters) {
+        if (waiters == 0) {
+            return;
+        }
+        KeyStatistics entry;
+        synchronized (statistics) {
+            entry = statistics.computeIfAbsent(key, k -> new KeyStatistics());
+        }
+        entry.record(waiters);
+    }
+
+    public record KeySummary<K>(K key, long loads, long coalesced, int maxWaiters) {
+    }
+
+    private static class Call<V> {
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private final AtomicInteger waiters = new AtomicInteger();
+
+        private V await() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+
+    private static class KeyStatistics {
+        private final LongAdder loads = new LongAdder();
+        private final LongAdder coalesced = new LongAdder();
+        private final AtomicInteger maxWaiters = new AtomicInteger();
+
+        private void record(int waiters) {
+            loads.increment();
+            coalesced.add(waiters);
+            maxWaiters.accumulateAndGet(waiters, Math::max);
+        }
+
+        private <K> KeySummary<K> summarize(K key) {
+            return new KeySummary<>(key, loads.sum(), coalesced.sum(), maxWaiters.get());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.prgms.management.common.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 남은 수량을 스레드별 칸에 나누어 두고 자기 칸에서 먼저 CAS로 꺼내므로, 여러 스레드가 한 값을 두고 다투지 않는다.
+// 칸 사이를 128바이트씩 띄워 서로 다른 칸이 같은 캐시 라인을 공유하지 않게 한다.
+public class StripedCounter {
+    private static final int PADDING = 16;
+
+    private final int mask;
+    private final AtomicLongArray cells;
+
+    public StripedCounter(int stripes) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.mask = size - 1;
+        this.cells = new AtomicLongArray(size * PADDING);
+    }
+
+    public int getStripes() {
+        return mask + 1;
+    }
+
+    // 자기 칸이 비었으면 다른 칸에서 빌려 오고, 모든 칸이 비었을 때만 실패한다.
+    public boolean tryAcquire() {
+        int home = home();
+        for (int i = 0; i <= mask; i++) {
+            int index = ((home + i) & mask) * PADDING;
+            long value;
+            while ((value = cells.get(index)) > 0) {
+                if (cells.compareAndSet(index, value, value - 1)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public void release() {
+        cells.incrementAndGet(home() * PADDING);
+    }
+
+    // 새로 받은 수량은 모든 칸에 고르게 나누어 각 스레드가 곧바로 자기 칸에서 꺼낼 수 있게 한다.
+    public void add(long amount) {
+        long share = amount / (mask + 1);
+        long rest = amount % (mask + 1);
+        for (int i = 0; i <= mask; i++) {
+            cells.addAndGet(i * PADDING, share + (i < rest ? 1 : 0));
+        }
+    }
+
+    public long sum() {
+        long sum = 0;
+        for (int i = 0; i <= mask; i++) {
+            sum += cells.get(i * PADDING);
+        }
+        return sum;
+    }
+
+    public long drain() {
+        long sum = 0;
+        for (int i = 0; i <= mask; i++) {
+            sum += cells.getAndSet(i * PADDING, 0);
+        }
+        return sum;
+    }
+
+    private int home() {
+        long id = Thread.currentThread().getId();
+        id ^= id >>> 33;
+        id *= 0xff51afd7ed558ccdL;
+        id ^= id >>> 33;
+        return (int) id & mask;
+    }
+}
@@ -0,0 +1,237 @@
+package com.prgms.management.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+
+public class UuidHashMap<V> {
+    private static final int DEFAULT_STRIPES = 16;
+    private static final int INITIAL_STRIPE_CAPACITY = 64;
+
+    private final Stripe<V>[] stripes;
+    private final int stripeMask;
+
+    public UuidHashMap() {
+        this(DEFAULT_STRIPES);
+    }
+
+    @SuppressWarnings("unchecked")
+    public UuidHashMap(int stripeCount) {
+        int count = Integer.highestOneBit(Math.max(1, stripeCount));
+        this.stripes = (Stripe<V>[]) new Stripe<?>[count];
+        this.stripeMask = count - 1;
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe<>();
+        }
+    }
+
+    public V get(UUID key) {
+        long most = key.getMostSignificantBits();
+        long least = key.getLeastSignificantBits();
+        long hash = hash(most, least);
+        return stripe(hash).get(most, least, (int) hash);
+    }
+
+    public boolean containsKey(UUID key) {
+        return get(key) != null;
+    }
+
+    public V put(UUID key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("value는 null일 수 없습니다.");
+        }
+        long most = key.getMostSignificantBits();
+        long least = key.getLeastSignificantBits();
+        long hash = hash(most, least);
+        return stripe(hash).put(most, least, (int) hash, value);
+    }
+
+    public V remove(UUID key) {
+        long most = key.getMostSignificantBits();
+        long least = key.getLeastSignificantBits();
+        long hash = hash(most, least);
+        return stripe(hash).remove(most, least, (int) hash);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe<V> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    public List<V> values() {
+        List<V> result = new ArrayList<>();
+        for (Stripe<V> stripe : stripes) {
+            stripe.collect(result);
+        }
+        return result;
+    }
+
+    private Stripe<V> stripe(long hash) {
+        return stripes[(int) (hash >>> 32) & stripeMask];
+    }
+
+    private static long hash(long most, long least) {
+        long hash = most ^ least;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    // 키는 UUID의 두 long 값을 한 배열에 나란히 두고, 빈 칸은 값이 null인 것으로 구분한다.
+    private static final class Table {
+        private final long[] keys;
+        private final Object[] values;
+        private final int mask;
+
+        private Table(int capacity) {
+            this.keys = new long[capacity * 2];
+            this.values = new Object[capacity];
+            this.mask = capacity - 1;
+        }
+
+        private int indexOf(long most, long least, int hash) {
+            for (int i = hash & mask, probes = 0; values[i] != null && probes <= mask; i = (i + 1) & mask, probes++) {
+                if (keys[i * 2] == most && keys[i * 2 + 1] == least) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private int home(int i) {
+            return (int) hash(keys[i * 2], keys[i * 2 + 1]) & mask;
+        }
+
+        private void insert(long most, long least, int hash, Object value) {
+            int i = hash & mask;
+            while (values[i] != null) {
+                i = (i + 1) & mask;
+            }
+            keys[i * 2] = most;
+            keys[i * 2 + 1] = least;
+            values[i] = value;
+        }
+    }
+
+    private static final class Stripe<V> {
+        private final StampedLock lock = new StampedLock();
+        private volatile Table table = new Table(INITIAL_STRIPE_CAPACITY);
+        private int size = 0;
+
+        @SuppressWarnings("unchecked")
+        private V get(long most, long least, int hash) {
+            long stamp = lock.tryOptimisticRead();
+            V value = find(table, most, least, hash);
+            if (lock.validate(stamp)) {
+                return value;
+            }
+
+            stamp = lock.readLock();
+            try {
+                return find(table, most, least, hash);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private V find(Table current, long most, long least, int hash) {
+            int i = current.indexOf(most, least, hash);
+            return i < 0 ? null : (V) current.values[i];
+        }
+
+        @SuppressWarnings("unchecked")
+        private V put(long most, long least, int hash, V value) {
+            long stamp = lock.writeLock();
+            try {
+                Table current = table;
+                int i = current.indexOf(most, least, hash);
+                if (i >= 0) {
+                    V previous = (V) current.values[i];
+                    current.values[i] = value;
+                    return previous;
+                }
+                if ((size + 1) * 2 > current.values.length) {
+                    current = resize(current);
+                }
+                current.insert(most, least, hash, value);
+                size++;
+                return null;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private V remove(long most, long least, int hash) {
+            long stamp = lock.writeLock();
+            try {
+                Table current = table;
+                int i = current.indexOf(most, least, hash);
+                if (i < 0) {
+                    return null;
+                }
+                V previous = (V) current.values[i];
+                current.values[i] = null;
+                size--;
+
+                int mask = current.mask;
+                for (int j = (i + 1) & mask; current.values[j] != null; j = (j + 1) & mask) {
+                    int k = current.home(j);
+                    boolean movable = i <= j ? (k <= i || k > j) : (k <= i && k > j);
+                    if (movable) {
+                        current.keys[i * 2] = current.keys[j * 2];
+                        current.keys[i * 2 + 1] = current.keys[j * 2 + 1];
+                        current.values[i] = current.values[j];
+                        current.values[j] = null;
+                        i = j;
+                    }
+                }
+                return previous;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        private int size() {
+            long stamp = lock.readLock();
+            try {
+                return size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void collect(List<V> result) {
+            long stamp = lock.readLock();
+            try {
+                for (Object value : table.values) {
+                    if (value != null) {
+                        result.add((V) value);
+                    }
+                }
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private Table resize(Table old) {
+            Table resized = new Table(old.values.length * 2);
+            for (int i = 0; i < old.values.length; i++) {
+                if (old.values[i] != null) {
+                    long most = old.keys[i * 2];
+                    long least = old.keys[i * 2 + 1];
+                    resized.insert(most, least, (int) hash(most, least), old.values[i]);
+                }
+            }
+            table = resized;
+            return resized;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.prgms.management.common.util;
+
+import java.util.Comparator;
+import java.util.UUID;
+
+// BINARY(16)로 저장한 id를 DB가 정렬하는 순서(부호 없는 바이트 순서)와 같게 비교한다.
+// UUID.compareTo는 부호 있는 long으로 비교하므로 최상위 비트가 1인 id의 순서가 다르다.
+public final class UuidOrder {
+    public static final Comparator<UUID> BYTES = UuidOrder::compare;
+
+    private UuidOrder() {
+    }
+
+    public static int compare(UUID left, UUID right) {
+        int most = Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+        return most != 0 ? most : Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+    }
+}
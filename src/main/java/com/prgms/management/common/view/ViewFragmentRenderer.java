@@ -0,0 +1,26 @@
+package com.prgms.management.common.view;
+
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.WebContext;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+public class ViewFragmentRenderer {
+    private final ITemplateEngine templateEngine;
+
+    public ViewFragmentRenderer(ITemplateEngine templateEngine) {
+        this.templateEngine = templateEngine;
+    }
+
+    public String render(String template, String fragment, Map<String, Object> variables,
+                         HttpServletRequest request, HttpServletResponse response) {
+        WebContext context = new WebContext(request, response, request.getServletContext(), request.getLocale(),
+            variables);
+        return templateEngine.process(template, Set.of(fragment), context);
+    }
+}
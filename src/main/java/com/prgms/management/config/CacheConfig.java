@@ -0,0 +1,31 @@
+package com.prgms.management.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String VOUCHER_TABLE = "voucherTable";
+    public static final String CUSTOMER_TABLE = "customerTable";
+    // 페이지 번호와 크기마다 하나씩이므로 화면에서 고를 수 있는 조합보다 넉넉하면 된다.
+    private static final int MAX_TABLE_ENTRIES = 1000;
+
+    // 새 항목은 모든 페이지를 한 칸씩 밀어내므로 추가할 때는 비우지 않고 ttl 동안만 보관한다. 수정과 삭제는 바로 비운다.
+    @Bean
+    public CacheManager cacheManager(@Value("${cache.table.ttl-ms:1000}") long ttlMillis) {
+        long ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(
+            new ExpiringMapCache(VOUCHER_TABLE, ttlNanos, MAX_TABLE_ENTRIES),
+            new ExpiringMapCache(CUSTOMER_TABLE, ttlNanos, MAX_TABLE_ENTRIES)));
+        return cacheManager;
+    }
+}
@@ -0,0 +1,26 @@
+package com.prgms.management.config;
+
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.filter.TypeFilter;
+
+// command.enabled=false 이면 command 패키지를 컴포넌트 스캔에서 제외해 TextIO 콘솔 없이 웹 서버만 띄운다.
+public class CommandLineExcludeFilter implements TypeFilter, EnvironmentAware {
+    public static final String ENABLED_PROPERTY = "command.enabled";
+    private static final String COMMAND_PACKAGE = "com.prgms.management.command.";
+
+    private Environment environment;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public boolean match(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory) {
+        return metadataReader.getClassMetadata().getClassName().startsWith(COMMAND_PACKAGE) &&
+            !environment.getProperty(ENABLED_PROPERTY, Boolean.class, true);
+    }
+}
@@ -1,5 +1,7 @@
 package com.prgms.management.config;
 
+import com.prgms.management.common.jdbc.QueryStatistics;
+import com.prgms.management.common.jdbc.TimedJdbcTemplate;
 import com.zaxxer.hikari.HikariDataSource;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.jdbc.DataSourceBuilder;
@@ -31,7 +33,7 @@ public class DataSourceConfig {
     }
 
     @Bean
-    public NamedParameterJdbcTemplate namedParameterJdbcTemplate(DataSource dataSource) {
-        return new NamedParameterJdbcTemplate(dataSource);
+    public NamedParameterJdbcTemplate namedParameterJdbcTemplate(DataSource dataSource, QueryStatistics queryStatistics) {
+        return new TimedJdbcTemplate(dataSource, queryStatistics);
     }
 }
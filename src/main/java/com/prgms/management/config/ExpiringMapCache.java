@@ -0,0 +1,86 @@
+package com.prgms.management.config;
+
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 항목마다 만료 시각을 두어, 쓰기마다 캐시 전체를 비우지 않고도 오래된 화면 조각이 ttl보다 오래 남지 않게 한다.
+public class ExpiringMapCache extends AbstractValueAdaptingCache {
+    private final String name;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final Map<Object, Entry> store = new ConcurrentHashMap<>();
+
+    public ExpiringMapCache(String name, long ttlNanos, int maxEntries) {
+        super(false);
+        this.name = name;
+        this.ttlNanos = ttlNanos;
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return store;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Entry entry = store.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.expiresAt() >= 0) {
+            store.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = lookup(key);
+        if (value != null) {
+            return (T) fromStoreValue(value);
+        }
+        try {
+            T loaded = valueLoader.call();
+            put(key, loaded);
+            return loaded;
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        long now = System.nanoTime();
+        if (store.size() >= maxEntries && !store.containsKey(key)) {
+            store.values().removeIf(entry -> now - entry.expiresAt() >= 0);
+            if (store.size() >= maxEntries) {
+                return;
+            }
+        }
+        store.put(key, new Entry(toStoreValue(value), now + ttlNanos));
+    }
+
+    @Override
+    public void evict(Object key) {
+        store.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        store.clear();
+    }
+
+    private record Entry(Object value, long expiresAt) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.prgms.management.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+
+@Component
+public class StartupTimeLogger {
+    private static final Logger logger = LoggerFactory.getLogger(StartupTimeLogger.class);
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        boolean commandEnabled = event.getApplicationContext().getEnvironment()
+            .getProperty(CommandLineExcludeFilter.ENABLED_PROPERTY, Boolean.class, true);
+        logger.info("시작 시간 : {}ms (JVM 시작부터 {}ms), mode={}, beans={}",
+            event.getTimeTaken() == null ? -1 : event.getTimeTaken().toMillis(),
+            ManagementFactory.getRuntimeMXBean().getUptime(),
+            commandEnabled ? "cli+web" : "web",
+            event.getApplicationContext().getBeanDefinitionCount());
+    }
+}
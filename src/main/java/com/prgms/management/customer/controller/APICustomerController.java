@@ -0,0 +1,181 @@
+package com.prgms.management.customer.controller;
+
+import com.prgms.management.common.bulk.BulkDeleteExecutor;
+import com.prgms.management.common.bulk.BulkDeleteJob;
+import com.prgms.management.common.dto.Response;
+import com.prgms.management.common.exception.FindFailException;
+import com.prgms.management.common.exception.WrongRequestParamException;
+import com.prgms.management.common.ratelimit.AdmissionCategory;
+import com.prgms.management.common.ratelimit.RateLimit;
+import com.prgms.management.customer.dto.CustomerCursor;
+import com.prgms.management.customer.dto.CustomerDeleteRequest;
+import com.prgms.management.customer.dto.CustomerResponse;
+import com.prgms.management.customer.dto.CustomerSliceResponse;
+import com.prgms.management.customer.model.*;
+import com.prgms.management.customer.service.CustomerLoginBuffer;
+import com.prgms.management.customer.service.CustomerService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("api/v1/customers")
+public class APICustomerController {
+    private static final int MAX_SEARCH_LIMIT = 100;
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final String DELETION_TARGET = "customer";
+
+    private final CustomerService customerService;
+    // 로그인 시각을 기록하지 않는 프로필에서는 비어 있다.
+    private final CustomerLoginBuffer customerLoginBuffer;
+    private final BulkDeleteExecutor bulkDeleteExecutor;
+
+    public APICustomerController(CustomerService customerService, Optional<CustomerLoginBuffer> customerLoginBuffer,
+                                 BulkDeleteExecutor bulkDeleteExecutor) {
+        this.customerService = customerService;
+        this.customerLoginBuffer = customerLoginBuffer.orElse(null);
+        this.bulkDeleteExecutor = bulkDeleteExecutor;
+    }
+
+    @GetMapping
+    @RateLimit(AdmissionCategory.LIST)
+    public ResponseEntity<Response> customerList(@RequestParam HashMap<String, String> param) {
+        CustomerType type = null;
+        if (param.get("type") != null) {
+            type = CustomerType.of(param.get("type"));
+            if (type == CustomerType.NONE) {
+                throw new WrongRequestParamException("type은 white와 black만 지원합니다.");
+            }
+        }
+        CustomerFilter filter = new CustomerFilter(type,
+            toTimestamp(param, "createdStart"), toTimestamp(param, "createdEnd"),
+            toTimestamp(param, "lastLoginStart"), toTimestamp(param, "lastLoginEnd"));
+
+        int size;
+        try {
+            size = param.get("size") == null ? DEFAULT_PAGE_SIZE : Integer.parseInt(param.get("size"));
+        } catch (NumberFormatException e) {
+            size = -1;
+        }
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new WrongRequestParamException("size는 1에서 " + MAX_PAGE_SIZE + " 사이의 값이어야 합니다.");
+        }
+        CustomerCursor after = param.get("after") == null ? null : CustomerCursor.decode(param.get("after"));
+        Timestamp createdAt = after == null ? null : after.createdAt();
+
+        CustomerSliceResponse slice;
+        if (param.get("fields") != null) {
+            List<CustomerField> fields = CustomerField.of(param.get("fields"));
+            List<Map<String, Object>> rows = customerService.findCustomerFields(fields, filter, createdAt,
+                after == null ? null : after.id(), size);
+            Map<String, Object> last = rows.isEmpty() ? null : rows.get(rows.size() - 1);
+            slice = new CustomerSliceResponse(rows, size, rows.size() < size ? null :
+                CustomerCursor.of(last.get(CustomerField.CREATED_AT.getKey()), last.get(CustomerField.ID.getKey())).encode());
+        } else {
+            List<Customer> customers = customerService.findCustomerSlice(filter, createdAt,
+                after == null ? null : after.id(), size);
+            Customer last = customers.isEmpty() ? null : customers.get(customers.size() - 1);
+            slice = new CustomerSliceResponse(customers.stream().map(CustomerResponse::of).toList(), size,
+                customers.size() < size ? null : new CustomerCursor(last.getCreatedAt(), last.getId()).encode());
+        }
+
+        Response response = new Response(HttpStatus.OK.value(), "고객 목록 조회 성공", slice);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("search")
+    @RateLimit(AdmissionCategory.READ)
+    public ResponseEntity<Response> customerSearch(@RequestParam("q") String query,
+                                                   @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        if (query.isBlank() || limit <= 0 || limit > MAX_SEARCH_LIMIT) {
+            throw new WrongRequestParamException("q는 비어 있을 수 없고, limit은 1에서 " + MAX_SEARCH_LIMIT + " 사이의 값이어야 합니다.");
+        }
+
+        List<CustomerResponse> resultList = customerService.searchCustomers(query, limit).stream()
+            .map(CustomerResponse::of).toList();
+        Response response = new Response(HttpStatus.OK.value(), "고객 검색 성공", resultList);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("{id}/logins")
+    @RateLimit(AdmissionCategory.WRITE)
+    public ResponseEntity<Response> customerLogin(@PathVariable("id") UUID id) {
+        loginBuffer().record(id, Timestamp.valueOf(LocalDateTime.now()));
+        return ResponseEntity.accepted().build();
+    }
+
+    @GetMapping("logins")
+    @RateLimit(AdmissionCategory.READ)
+    public ResponseEntity<Response> loginBufferMetrics() {
+        Response response = new Response(HttpStatus.OK.value(), "로그인 반영 대기열 조회 성공",
+            loginBuffer().getMetrics());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("deletions")
+    @RateLimit(AdmissionCategory.WRITE)
+    public ResponseEntity<Response> customerBulkRemove(@RequestBody CustomerDeleteRequest request) {
+        request.validate();
+        BulkDeleteJob job;
+        if (request.hasIds()) {
+            job = new BulkDeleteJob(DELETION_TARGET, (long) request.ids().size(), BulkDeleteJob.chunksOf(request.ids()),
+                customerService::removeCustomersByIds);
+        } else {
+            CustomerFilter filter = request.toFilter();
+            job = new BulkDeleteJob(DELETION_TARGET, null,
+                size -> customerService.findCustomerSlice(filter, null, null, size).stream().map(Customer::getId).toList(),
+                customerService::removeCustomersByIds);
+        }
+        bulkDeleteExecutor.submit(job);
+
+        Response response = new Response(HttpStatus.ACCEPTED.value(), "고객 삭제 작업 등록 성공", job.toResponse());
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/v1/customers/deletions/" + job.getId().toString()))
+            .body(response);
+    }
+
+    @GetMapping("deletions/{jobId}")
+    @RateLimit(AdmissionCategory.READ)
+    public ResponseEntity<Response> customerBulkRemoveProgress(@PathVariable("jobId") UUID jobId) {
+        BulkDeleteJob job = bulkDeleteExecutor.find(DELETION_TARGET, jobId);
+        Response response = new Response(HttpStatus.OK.value(), "고객 삭제 작업 조회 성공", job.toResponse());
+        return ResponseEntity.ok(response);
+    }
+
+    @DeleteMapping("deletions/{jobId}")
+    @RateLimit(AdmissionCategory.WRITE)
+    public ResponseEntity<Response> customerBulkRemoveCancel(@PathVariable("jobId") UUID jobId) {
+        BulkDeleteJob job = bulkDeleteExecutor.cancel(DELETION_TARGET, jobId);
+        Response response = new Response(HttpStatus.OK.value(), "고객 삭제 작업 취소 요청 성공", job.toResponse());
+        return ResponseEntity.ok(response);
+    }
+
+    private static Timestamp toTimestamp(Map<String, String> param, String name) {
+        String value = param.get(name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Timestamp.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw new WrongRequestParamException(name + "의 포맷은 'yyyy-mm-dd hh:mm:ss[.fffffffff]' 형식이어야 합니다.");
+        }
+    }
+
+    private CustomerLoginBuffer loginBuffer() {
+        if (customerLoginBuffer == null) {
+            throw new FindFailException("이 저장소에서는 로그인 시각을 기록하지 않습니다.");
+        }
+        return customerLoginBuffer;
+    }
+}
@@ -0,0 +1,35 @@
+package com.prgms.management.customer.controller;
+
+import com.prgms.management.common.dto.PageResponse;
+import com.prgms.management.common.view.ViewFragmentRenderer;
+import com.prgms.management.config.CacheConfig;
+import com.prgms.management.customer.dto.CustomerResponse;
+import com.prgms.management.customer.model.Customer;
+import com.prgms.management.customer.service.CustomerService;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+
+@Component
+public class CustomerTableFragment {
+    private final CustomerService customerService;
+    private final ViewFragmentRenderer viewFragmentRenderer;
+
+    public CustomerTableFragment(CustomerService customerService, ViewFragmentRenderer viewFragmentRenderer) {
+        this.customerService = customerService;
+        this.viewFragmentRenderer = viewFragmentRenderer;
+    }
+
+    @Cacheable(cacheNames = CacheConfig.CUSTOMER_TABLE, key = "#page + ':' + #size", condition = "#page <= 100")
+    public String render(int page, int size, HttpServletRequest request, HttpServletResponse response) {
+        PageResponse<Customer> customers = customerService.findCustomerPage(page, size);
+        PageResponse<CustomerResponse> result = new PageResponse<>(
+            customers.content().stream().map(CustomerResponse::of).toList(),
+            customers.page(), customers.size(), customers.totalCount());
+        return viewFragmentRenderer.render("customer/customer_table", "table", Map.of("customerPage", result),
+            request, response);
+    }
+}
@@ -12,6 +12,8 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,18 +22,24 @@ import java.util.UUID;
 public class ViewCustomerController {
     private final CustomerService customerService;
     private final VoucherWalletRepository voucherWalletRepository;
+    private final CustomerTableFragment customerTableFragment;
     private final String MENU_TYPE = "CUSTOMER";
+    private final int MAX_PAGE_SIZE = 100;
 
-    public ViewCustomerController(CustomerService customerService, VoucherWalletRepository voucherWalletRepository) {
+    public ViewCustomerController(CustomerService customerService, VoucherWalletRepository voucherWalletRepository,
+                                  CustomerTableFragment customerTableFragment) {
         this.customerService = customerService;
         this.voucherWalletRepository = voucherWalletRepository;
+        this.customerTableFragment = customerTableFragment;
     }
 
     @GetMapping
-    public String customerList(Model model) {
-        List<Customer> customerList = customerService.findAllCustomers();
-        List<CustomerResponse> list = customerList.stream().map(CustomerResponse::of).toList();
-        model.addAttribute("customerList", list);
+    public String customerList(@RequestParam(value = "page", defaultValue = "1") int page,
+                               @RequestParam(value = "size", defaultValue = "20") int size,
+                               Model model, HttpServletRequest request, HttpServletResponse response) {
+        int validPage = Math.max(page, 1);
+        int validSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        model.addAttribute("customerTable", customerTableFragment.render(validPage, validSize, request, response));
         model.addAttribute("menuType", MENU_TYPE);
         return "customer/customer_list";
     }
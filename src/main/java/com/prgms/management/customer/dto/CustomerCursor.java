@@ -0,0 +1,43 @@
+package com.prgms.management.customer.dto;
+
+import com.prgms.management.common.exception.WrongRequestParamException;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.util.Base64;
+import java.util.UUID;
+
+// 마지막 행의 (createdAt, id)를 URL에 그대로 쓸 수 있는 불투명한 문자열로 주고받는다.
+public record CustomerCursor(
+    Timestamp createdAt,
+    UUID id
+) {
+    private static final int LENGTH = Long.BYTES + Integer.BYTES + Long.BYTES * 2;
+
+    public static CustomerCursor of(Object createdAt, Object id) {
+        return new CustomerCursor((Timestamp) createdAt, (UUID) id);
+    }
+
+    public static CustomerCursor decode(String cursor) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(cursor));
+            if (buffer.remaining() != LENGTH) {
+                throw new IllegalArgumentException();
+            }
+            Timestamp createdAt = new Timestamp(buffer.getLong());
+            createdAt.setNanos(buffer.getInt());
+            return new CustomerCursor(createdAt, new UUID(buffer.getLong(), buffer.getLong()));
+        } catch (IllegalArgumentException e) {
+            throw new WrongRequestParamException("after가 올바른 커서 값이 아닙니다.");
+        }
+    }
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(LENGTH)
+            .putLong(createdAt.getTime())
+            .putInt(createdAt.getNanos())
+            .putLong(id.getMostSignificantBits())
+            .putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+}
@@ -0,0 +1,42 @@
+package com.prgms.management.customer.dto;
+
+import com.prgms.management.common.exception.WrongRequestParamException;
+import com.prgms.management.customer.model.CustomerFilter;
+import com.prgms.management.customer.model.CustomerType;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+
+// ids가 주어지면 그 고객만, 아니면 목록 조회와 같은 필터 조건에 맞는 고객을 지운다.
+public record CustomerDeleteRequest(
+    List<UUID> ids,
+    String type,
+    Timestamp createdStart,
+    Timestamp createdEnd,
+    Timestamp lastLoginStart,
+    Timestamp lastLoginEnd
+) {
+    public boolean hasIds() {
+        return ids != null && !ids.isEmpty();
+    }
+
+    public CustomerFilter toFilter() {
+        CustomerType customerType = null;
+        if (type != null) {
+            customerType = CustomerType.of(type);
+            if (customerType == CustomerType.NONE) {
+                throw new WrongRequestParamException("type은 white와 black만 지원합니다.");
+            }
+        }
+        return new CustomerFilter(customerType, createdStart, createdEnd, lastLoginStart, lastLoginEnd);
+    }
+
+    public void validate() {
+        boolean hasFilter = type != null || createdStart != null || createdEnd != null || lastLoginStart != null ||
+            lastLoginEnd != null;
+        if (hasIds() == hasFilter) {
+            throw new WrongRequestParamException("ids와 삭제 조건 중 하나만 지정해야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.prgms.management.customer.dto;
+
+import java.util.List;
+
+public record CustomerSliceResponse(
+    List<?> content,
+    Integer size,
+    String next
+) {
+
+}
@@ -0,0 +1,13 @@
+package com.prgms.management.customer.dto;
+
+public record LoginBufferResponse(
+    Integer pendingCount,
+    Long recordedCount,
+    Long flushedCount,
+    Long failedCount,
+    Long rejectedCount,
+    Long lastFlushMillis,
+    Long maxFlushMillis
+) {
+
+}
@@ -16,8 +16,8 @@ import java.util.UUID;
 public class Customer {
     private final UUID id;
     private final String email;
-    private final Timestamp lastLoginAt;
     private final Timestamp createdAt;
+    private Timestamp lastLoginAt;
     private String name;
     private CustomerType type;
 
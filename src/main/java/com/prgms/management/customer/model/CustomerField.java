@@ -0,0 +1,127 @@
+package com.prgms.management.customer.model;
+
+import com.prgms.management.common.exception.WrongRequestParamException;
+
+import java.nio.ByteBuffer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+public enum CustomerField {
+    ID("id", "id") {
+        @Override
+        public Object valueOf(Customer customer) {
+            return customer.getId();
+        }
+
+        @Override
+        public Object read(ResultSet set, int index) throws SQLException {
+            var buffer = ByteBuffer.wrap(set.getBytes(index));
+            return new UUID(buffer.getLong(), buffer.getLong());
+        }
+    },
+    NAME("name", "name") {
+        @Override
+        public Object valueOf(Customer customer) {
+            return customer.getName();
+        }
+
+        @Override
+        public Object read(ResultSet set, int index) throws SQLException {
+            return set.getString(index);
+        }
+    },
+    TYPE("type", "type") {
+        @Override
+        public Object valueOf(Customer customer) {
+            return customer.getType().toString();
+        }
+
+        @Override
+        public Object read(ResultSet set, int index) throws SQLException {
+            return set.getString(index);
+        }
+    },
+    EMAIL("email", "email") {
+        @Override
+        public Object valueOf(Customer customer) {
+            return customer.getEmail();
+        }
+
+        @Override
+        public Object read(ResultSet set, int index) throws SQLException {
+            return set.getString(index);
+        }
+    },
+    LAST_LOGIN_AT("lastLoginAt", "last_login_at") {
+        @Override
+        public Object valueOf(Customer customer) {
+            return customer.getLastLoginAt();
+        }
+
+        @Override
+        public Object read(ResultSet set, int index) throws SQLException {
+            return set.getTimestamp(index);
+        }
+    },
+    CREATED_AT("createdAt", "created_at") {
+        @Override
+        public Object valueOf(Customer customer) {
+            return customer.getCreatedAt();
+        }
+
+        @Override
+        public Object read(ResultSet set, int index) throws SQLException {
+            return set.getTimestamp(index);
+        }
+    };
+
+    private final String key;
+    private final String column;
+
+    CustomerField(String key, String column) {
+        this.key = key;
+        this.column = column;
+    }
+
+    // 다음 페이지 커서를 만들 수 있도록 id와 createdAt은 요청하지 않아도 항상 포함한다.
+    public static List<CustomerField> of(String fields) {
+        Set<CustomerField> result = new LinkedHashSet<>(List.of(ID, CREATED_AT));
+        for (String field : fields.split(",")) {
+            result.add(Arrays.stream(values())
+                .filter(value -> value.key.equalsIgnoreCase(field.trim()) || value.column.equalsIgnoreCase(field.trim()))
+                .findFirst()
+                .orElseThrow(() -> new WrongRequestParamException(
+                    "fields는 id, name, type, email, lastLoginAt, createdAt만 지원합니다.")));
+        }
+        return new ArrayList<>(result);
+    }
+
+    public static Map<String, Object> project(List<CustomerField> fields, Customer customer) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (CustomerField field : fields) {
+            result.put(field.key, field.valueOf(customer));
+        }
+        return result;
+    }
+
+    public static Map<String, Object> mapRow(List<CustomerField> fields, ResultSet set) throws SQLException {
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            result.put(fields.get(i).key, fields.get(i).read(set, i + 1));
+        }
+        return result;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public abstract Object valueOf(Customer customer);
+
+    public abstract Object read(ResultSet set, int index) throws SQLException;
+}
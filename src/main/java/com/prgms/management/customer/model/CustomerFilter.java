@@ -0,0 +1,27 @@
+package com.prgms.management.customer.model;
+
+import java.sql.Timestamp;
+
+// 값이 null인 조건은 적용하지 않으며, 기간의 양 끝은 모두 포함한다.
+public record CustomerFilter(
+    CustomerType type,
+    Timestamp createdStart,
+    Timestamp createdEnd,
+    Timestamp lastLoginStart,
+    Timestamp lastLoginEnd
+) {
+    public static final CustomerFilter NONE = new CustomerFilter(null, null, null, null, null);
+
+    public boolean matches(Customer customer) {
+        return (type == null || customer.getType() == type) &&
+            within(customer.getCreatedAt(), createdStart, createdEnd) &&
+            within(customer.getLastLoginAt(), lastLoginStart, lastLoginEnd);
+    }
+
+    private static boolean within(Timestamp value, Timestamp start, Timestamp end) {
+        if (start == null && end == null) {
+            return true;
+        }
+        return value != null && (start == null || !value.before(start)) && (end == null || !value.after(end));
+    }
+}
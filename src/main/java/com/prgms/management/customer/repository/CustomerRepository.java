@@ -1,14 +1,25 @@
 package com.prgms.management.customer.repository;
 
+import com.prgms.management.common.exception.DeleteFailException;
+import com.prgms.management.common.util.UuidOrder;
+import com.prgms.management.config.CacheConfig;
 import com.prgms.management.customer.model.Customer;
+import com.prgms.management.customer.model.CustomerField;
+import com.prgms.management.customer.model.CustomerFilter;
 import com.prgms.management.customer.model.CustomerType;
+import org.springframework.cache.annotation.CacheEvict;
 
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface CustomerRepository {
     Customer save(Customer customer);
 
+    @CacheEvict(cacheNames = CacheConfig.CUSTOMER_TABLE, allEntries = true)
     Customer update(Customer customer);
 
     Customer findById(UUID id);
@@ -19,7 +30,65 @@ public interface CustomerRepository {
 
     List<Customer> findAll();
 
+    // findSlice와 같은 순서로 나누어야 페이지를 이어서 읽을 때 항목이 겹치거나 빠지지 않는다.
+    default List<Customer> findPage(int page, int size) {
+        return findSlice(CustomerFilter.NONE, null, null, Integer.MAX_VALUE).stream()
+            .skip((long) (page - 1) * size)
+            .limit(size)
+            .toList();
+    }
+
+    // createdAt 내림차순, 같은 시각이면 id 바이트 오름차순으로 바우처 목록과 같은 순서를 쓰고, (createdAt, id) 다음 항목부터 size개를 반환한다.
+    default List<Customer> findSlice(CustomerFilter filter, Timestamp createdAt, UUID id, int size) {
+        Comparator<Customer> order = Comparator.comparing(Customer::getCreatedAt).reversed()
+            .thenComparing(Customer::getId, UuidOrder.BYTES);
+        return findAll().stream()
+            .filter(filter::matches)
+            .filter(customer -> createdAt == null || customer.getCreatedAt().before(createdAt) ||
+                (customer.getCreatedAt().equals(createdAt) && UuidOrder.compare(customer.getId(), id) > 0))
+            .sorted(order)
+            .limit(size)
+            .toList();
+    }
+
+    default List<Map<String, Object>> findFieldSlice(List<CustomerField> fields, CustomerFilter filter,
+                                                     Timestamp createdAt, UUID id, int size) {
+        return findSlice(filter, createdAt, id, size).stream()
+            .map(customer -> CustomerField.project(fields, customer))
+            .toList();
+    }
+
+    default long count() {
+        return findAll().size();
+    }
+
+    default long count(CustomerType type) {
+        return findByType(type).size();
+    }
+
+    // 각 고객의 last_login_at을 주어진 시각으로 바꾸되, 이미 더 늦은 시각이 기록되어 있으면 그대로 둔다.
+    // 목록 화면에는 로그인 시각이 없으므로 화면 캐시를 비우지 않는다.
+    // 없는 고객의 id는 건너뛴다.
+    void updateLastLogins(Map<UUID, Timestamp> lastLogins);
+
+    @CacheEvict(cacheNames = CacheConfig.CUSTOMER_TABLE, allEntries = true)
     void removeById(UUID id);
 
+    // 없는 id는 건너뛰고 실제로 지운 개수를 반환한다.
+    @CacheEvict(cacheNames = CacheConfig.CUSTOMER_TABLE, allEntries = true)
+    default int removeByIds(Collection<UUID> ids) {
+        int removed = 0;
+        for (UUID id : ids) {
+            try {
+                removeById(id);
+                removed++;
+            } catch (DeleteFailException e) {
+                // 이미 지워진 고객이다.
+            }
+        }
+        return removed;
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.CUSTOMER_TABLE, allEntries = true)
     void removeAll();
 }
@@ -2,6 +2,7 @@ package com.prgms.management.customer.repository;
 
 import com.prgms.management.common.exception.EmptyListException;
 import com.prgms.management.customer.model.Customer;
+import com.prgms.management.customer.model.CustomerFilter;
 import com.prgms.management.customer.model.CustomerType;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
@@ -12,8 +13,10 @@ import org.springframework.stereotype.Repository;
 import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Repository
@@ -52,8 +55,7 @@ public class FileCustomerRepository implements CustomerRepository {
 
     @Override
     public List<Customer> findByType(CustomerType type) {
-        // TODO Type에 따른 고객 목록을 CSV 파일에서 찾아서 반환
-        throw new UnsupportedOperationException();
+        return findAll().stream().filter(customer -> customer.getType() == type).toList();
     }
 
     @Override
@@ -73,6 +75,29 @@ public class FileCustomerRepository implements CustomerRepository {
         return customers;
     }
 
+    // 파일에는 생성일이 없어 읽을 때마다 바뀌므로, 파일에 적힌 순서대로 id 다음부터 size명을 반환한다.
+    @Override
+    public List<Customer> findSlice(CustomerFilter filter, Timestamp createdAt, UUID id, int size) {
+        List<Customer> customers = findAll().stream()
+            .filter(customer -> filter.type() == null || customer.getType() == filter.type())
+            .toList();
+        int from = 0;
+        if (id != null) {
+            for (int i = 0; i < customers.size(); i++) {
+                if (customers.get(i).getId().equals(id)) {
+                    from = i + 1;
+                    break;
+                }
+            }
+        }
+        return customers.subList(Math.min(from, customers.size()), Math.min(from + size, customers.size()));
+    }
+
+    // 블랙리스트 파일에는 로그인 시각이 없으므로 반영할 곳이 없다.
+    @Override
+    public void updateLastLogins(Map<UUID, Timestamp> lastLogins) {
+    }
+
     @Override
     public void removeById(UUID id) {
         // TODO ID에 따른 고객 정보를 CSV 파일에서 삭제
@@ -5,10 +5,15 @@ import com.prgms.management.common.exception.FindFailException;
 import com.prgms.management.common.exception.SaveFailException;
 import com.prgms.management.common.exception.UpdateFailException;
 import com.prgms.management.customer.model.Customer;
+import com.prgms.management.customer.model.CustomerField;
+import com.prgms.management.customer.model.CustomerFilter;
 import com.prgms.management.customer.model.CustomerType;
 import org.springframework.context.annotation.Profile;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSourceUtils;
 import org.springframework.stereotype.Repository;
 
 import java.nio.ByteBuffer;
@@ -16,10 +21,15 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.*;
+import java.util.stream.Collectors;
 
 @Repository
 @Profile({"default"})
 public class JdbcCustomerRepository implements CustomerRepository {
+    private static final int REMOVE_CHUNK_SIZE = 1000;
+    private static final String CUSTOMER_COLUMNS = "id, name, type, email, last_login_at, created_at";
+    private static final RowMapper<Customer> CUSTOMER_ROW_MAPPER = (rs, rowNum) -> mapToCustomer(rs, 0);
+
     private final NamedParameterJdbcTemplate jdbcTemplate;
 
     public JdbcCustomerRepository(NamedParameterJdbcTemplate jdbcTemplate) {
@@ -53,12 +63,22 @@ public class JdbcCustomerRepository implements CustomerRepository {
         throw new UpdateFailException("고객 정보 수정에 실패하였습니다.");
     }
 
+    @Override
+    public void updateLastLogins(Map<UUID, Timestamp> lastLogins) {
+        SqlParameterSource[] batch = SqlParameterSourceUtils.createBatch(lastLogins.entrySet().stream()
+            .map(entry -> Map.<String, Object>of("id", entry.getKey().toString(), "lastLoginAt", entry.getValue()))
+            .toList());
+        jdbcTemplate.batchUpdate("UPDATE customer SET last_login_at = :lastLoginAt " +
+            "WHERE id = UNHEX(REPLACE(:id, '-', '')) AND (last_login_at IS NULL OR last_login_at < :lastLoginAt)", batch);
+    }
+
     @Override
     public Customer findById(UUID id) {
         try {
-            return jdbcTemplate.queryForObject("SELECT * from customer WHERE id = UNHEX(REPLACE(:id, '-', ''))",
+            return jdbcTemplate.queryForObject("SELECT " + CUSTOMER_COLUMNS + " from customer " +
+                    "WHERE id = UNHEX(REPLACE(:id, '-', ''))",
                 Collections.singletonMap("id", id.toString()),
-                (rs, rowNum) -> mapToCustomer(rs));
+                CUSTOMER_ROW_MAPPER);
         } catch (EmptyResultDataAccessException e) {
             throw new FindFailException();
         }
@@ -67,9 +87,9 @@ public class JdbcCustomerRepository implements CustomerRepository {
     @Override
     public Customer findByEmail(String email) {
         try {
-            return jdbcTemplate.queryForObject("SELECT * from customer WHERE email = :email",
+            return jdbcTemplate.queryForObject("SELECT " + CUSTOMER_COLUMNS + " from customer WHERE email = :email",
                 Collections.singletonMap("email", email),
-                (rs, rowNum) -> mapToCustomer(rs));
+                CUSTOMER_ROW_MAPPER);
         } catch (EmptyResultDataAccessException e) {
             throw new FindFailException();
         }
@@ -77,15 +97,62 @@ public class JdbcCustomerRepository implements CustomerRepository {
 
     @Override
     public List<Customer> findByType(CustomerType type) {
-        return jdbcTemplate.query("SELECT * from customer WHERE type = :type ORDER BY created_at DESC",
+        return jdbcTemplate.query("SELECT " + CUSTOMER_COLUMNS + " from customer WHERE type = :type " +
+                "ORDER BY created_at DESC",
             Collections.singletonMap("type", type.toString()),
-            (rs, rowNum) -> mapToCustomer(rs));
+            CUSTOMER_ROW_MAPPER);
     }
 
     @Override
     public List<Customer> findAll() {
-        return jdbcTemplate.query("SELECT * from customer ORDER BY created_at DESC",
-            (rs, rowNum) -> mapToCustomer(rs));
+        return jdbcTemplate.query("SELECT " + CUSTOMER_COLUMNS + " from customer ORDER BY created_at DESC",
+            CUSTOMER_ROW_MAPPER);
+    }
+
+    @Override
+    public List<Customer> findPage(int page, int size) {
+        Map<String, Object> paramMap = new HashMap<>() {{
+            put("size", size);
+            put("offset", (page - 1) * size);
+        }};
+        return jdbcTemplate.query("SELECT c.id, c.name, c.type, c.email, c.last_login_at, c.created_at from customer c " +
+                "JOIN (SELECT id from customer ORDER BY created_at DESC, id LIMIT :size OFFSET :offset) p " +
+                "ON c.id = p.id ORDER BY c.created_at DESC, c.id",
+            paramMap,
+            CUSTOMER_ROW_MAPPER);
+    }
+
+    @Override
+    public List<Customer> findSlice(CustomerFilter filter, Timestamp createdAt, UUID id, int size) {
+        Map<String, Object> paramMap = new HashMap<>();
+        String where = sliceCondition(filter, createdAt, id, size, paramMap);
+        return jdbcTemplate.query("SELECT " + CUSTOMER_COLUMNS + " from customer" + where +
+            " ORDER BY created_at DESC, id LIMIT :size", paramMap, CUSTOMER_ROW_MAPPER);
+    }
+
+    @Override
+    public List<Map<String, Object>> findFieldSlice(List<CustomerField> fields, CustomerFilter filter,
+                                                    Timestamp createdAt, UUID id, int size) {
+        Map<String, Object> paramMap = new HashMap<>();
+        String where = sliceCondition(filter, createdAt, id, size, paramMap);
+        String columns = fields.stream().map(CustomerField::getColumn).collect(Collectors.joining(", "));
+        return jdbcTemplate.query("SELECT " + columns + " from customer" + where +
+                " ORDER BY created_at DESC, id LIMIT :size",
+            paramMap,
+            (rs, rowNum) -> CustomerField.mapRow(fields, rs));
+    }
+
+    @Override
+    public long count() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) from customer", Collections.emptyMap(), Long.class);
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public long count(CustomerType type) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) from customer WHERE type = :type",
+            Collections.singletonMap("type", type.toString()), Long.class);
+        return count == null ? 0 : count;
     }
 
     @Override
@@ -97,24 +164,78 @@ public class JdbcCustomerRepository implements CustomerRepository {
         }
     }
 
+    @Override
+    public int removeByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update("DELETE FROM customer WHERE id IN (:ids)",
+            Collections.singletonMap("ids", ids.stream().map(JdbcCustomerRepository::toBytes).toList()));
+    }
+
+    // 한 문장으로 지우면 테이블 전체와 voucher_wallet의 연쇄 삭제가 한 트랜잭션에 묶이므로, 정해진 크기씩 나누어 커밋한다.
     @Override
     public void removeAll() {
-        jdbcTemplate.update("DELETE FROM customer WHERE id is not null", Collections.emptyMap());
+        int removed;
+        do {
+            removed = jdbcTemplate.update("DELETE FROM customer LIMIT :limit",
+                Collections.singletonMap("limit", REMOVE_CHUNK_SIZE));
+        } while (removed == REMOVE_CHUNK_SIZE);
+    }
+
+    public static Customer mapToCustomer(ResultSet set, int offset) throws SQLException {
+        UUID id = toUUID(set.getBytes(offset + 1));
+        String name = set.getString(offset + 2);
+        CustomerType type = CustomerType.of(set.getString(offset + 3));
+        String email = set.getString(offset + 4);
+        Timestamp lastLoginAt = set.getTimestamp(offset + 5);
+        Timestamp createdAt = set.getTimestamp(offset + 6);
+        return new Customer(id, name, type, email, lastLoginAt, createdAt);
     }
 
-    private UUID toUUID(byte[] bytes) {
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+            .putLong(id.getMostSignificantBits())
+            .putLong(id.getLeastSignificantBits())
+            .array();
+    }
+
+    private static UUID toUUID(byte[] bytes) {
         var buffer = ByteBuffer.wrap(bytes);
         return new UUID(buffer.getLong(), buffer.getLong());
     }
 
-    private Customer mapToCustomer(ResultSet set) throws SQLException {
-        UUID id = toUUID(set.getBytes("id"));
-        String name = set.getString("name");
-        CustomerType type = CustomerType.of(set.getString("type"));
-        String email = set.getString("email");
-        Timestamp lastLoginAt = set.getTimestamp("last_login_at");
-        Timestamp createdAt = set.getTimestamp("created_at");
-        return new Customer(id, name, type, email, lastLoginAt, createdAt);
+    // 바우처 목록과 같이 created_at 내림차순, id 오름차순으로 읽는다. 인덱스도 같은 방향 (created_at DESC, id)로 두어 정렬 없이 읽는다.
+    private static String sliceCondition(CustomerFilter filter, Timestamp createdAt, UUID id, int size,
+                                         Map<String, Object> paramMap) {
+        List<String> conditions = new ArrayList<>();
+        if (filter.type() != null) {
+            conditions.add("type = :type");
+            paramMap.put("type", filter.type().toString());
+        }
+        if (filter.createdStart() != null) {
+            conditions.add("created_at >= :createdStart");
+            paramMap.put("createdStart", filter.createdStart());
+        }
+        if (filter.createdEnd() != null) {
+            conditions.add("created_at <= :createdEnd");
+            paramMap.put("createdEnd", filter.createdEnd());
+        }
+        if (filter.lastLoginStart() != null) {
+            conditions.add("last_login_at >= :lastLoginStart");
+            paramMap.put("lastLoginStart", filter.lastLoginStart());
+        }
+        if (filter.lastLoginEnd() != null) {
+            conditions.add("last_login_at <= :lastLoginEnd");
+            paramMap.put("lastLoginEnd", filter.lastLoginEnd());
+        }
+        if (createdAt != null) {
+            conditions.add("(created_at < :createdAt OR (created_at = :createdAt AND id > UNHEX(REPLACE(:id, '-', ''))))");
+            paramMap.put("createdAt", createdAt);
+            paramMap.put("id", id.toString());
+        }
+        paramMap.put("size", size);
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
     }
 
     private Map<String, Object> getCustomerMap(Customer customer) {
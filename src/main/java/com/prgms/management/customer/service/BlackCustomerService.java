@@ -6,4 +6,9 @@ import java.util.List;
 
 public interface BlackCustomerService {
     List<Customer> getAllCustomers();
+
+    // after 다음부터 size명을 반환하며, after가 null이면 처음부터 반환한다.
+    List<Customer> findCustomerSlice(Customer after, int size);
+
+    long countCustomers();
 }
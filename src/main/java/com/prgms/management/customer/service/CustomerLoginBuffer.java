@@ -0,0 +1,152 @@
+package com.prgms.management.customer.service;
+
+import com.prgms.management.common.exception.TooManyRequestsException;
+import com.prgms.management.customer.dto.LoginBufferResponse;
+import com.prgms.management.customer.repository.CustomerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 고객별 마지막 로그인 시각만 남겨 두었다가 주기적으로 묶어서 반영하므로, 같은 고객이 여러 번 로그인해도 UPDATE는 한 번이다.
+// 로그인 시각은 JDBC 저장소에만 있으므로, 블랙리스트 파일만 읽는 dev 프로필에서는 등록하지 않는다.
+@Component
+@Profile({"default"})
+public class CustomerLoginBuffer {
+    private static final Logger logger = LoggerFactory.getLogger(CustomerLoginBuffer.class);
+
+    private final CustomerRepository customerRepository;
+    private final Map<UUID, Timestamp> pending = new ConcurrentHashMap<>();
+    private final int batchSize;
+    private final int maxPending;
+    private final long flushIntervalMillis;
+    private final long retryAfterSeconds;
+    private final ScheduledExecutorService scheduler;
+    private final Object flushLock = new Object();
+    private final AtomicBoolean flushQueued = new AtomicBoolean();
+    private final AtomicLong recordedCount = new AtomicLong();
+    private final AtomicLong flushedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong lastFlushMillis = new AtomicLong();
+    private final AtomicLong maxFlushMillis = new AtomicLong();
+
+    public CustomerLoginBuffer(CustomerRepository customerRepository,
+                               @Value("${customer.login.batch-size:1000}") int batchSize,
+                               @Value("${customer.login.max-pending:100000}") int maxPending,
+                               @Value("${customer.login.flush-interval-ms:1000}") long flushIntervalMillis) {
+        this.customerRepository = customerRepository;
+        this.batchSize = batchSize;
+        this.maxPending = maxPending;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.retryAfterSeconds = Math.max(1, (long) Math.ceil(flushIntervalMillis / 1000.0));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "customer-login-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        flush();
+        if (!pending.isEmpty()) {
+            logger.error("{}명의 마지막 로그인 시각이 반영되지 못하고 종료되었습니다.", pending.size());
+        }
+    }
+
+    // 대기 중인 고객 수에 상한을 두어, 없는 id나 많은 고객의 로그인이 몰려도 메모리가 끝없이 늘지 않게 한다.
+    // 가득 차면 다음 주기를 기다리지 않고 바로 반영을 시작하고, 새 고객의 로그인은 반영 뒤에 다시 시도하도록 429로 거절한다.
+    public void record(UUID customerId, Timestamp loginAt) {
+        if (pending.size() >= maxPending && !pending.containsKey(customerId)) {
+            rejectedCount.incrementAndGet();
+            requestFlush();
+            throw new TooManyRequestsException("로그인 반영 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.",
+                retryAfterSeconds);
+        }
+        merge(customerId, loginAt);
+        recordedCount.incrementAndGet();
+    }
+
+    public void flush() {
+        synchronized (flushLock) {
+            Iterator<UUID> ids = pending.keySet().iterator();
+            while (ids.hasNext()) {
+                Map<UUID, Timestamp> batch = new HashMap<>();
+                while (ids.hasNext() && batch.size() < batchSize) {
+                    UUID id = ids.next();
+                    Timestamp loginAt = pending.remove(id);
+                    if (loginAt != null) {
+                        batch.put(id, loginAt);
+                    }
+                }
+                if (!batch.isEmpty() && !write(batch)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    public LoginBufferResponse getMetrics() {
+        return new LoginBufferResponse(pending.size(), recordedCount.get(), flushedCount.get(), failedCount.get(),
+            rejectedCount.get(), lastFlushMillis.get(), maxFlushMillis.get());
+    }
+
+    private void requestFlush() {
+        if (flushQueued.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(() -> {
+                    flushQueued.set(false);
+                    flush();
+                });
+            } catch (RuntimeException e) {
+                flushQueued.set(false);
+            }
+        }
+    }
+
+    private void merge(UUID customerId, Timestamp loginAt) {
+        pending.merge(customerId, loginAt, (before, after) -> after.after(before) ? after : before);
+    }
+
+    // 실패한 묶음은 다시 대기열에 합쳐 다음 주기에 재시도하고, 이번 주기의 남은 반영은 건너뛴다.
+    private boolean write(Map<UUID, Timestamp> batch) {
+        long start = System.nanoTime();
+        try {
+            customerRepository.updateLastLogins(batch);
+            flushedCount.addAndGet(batch.size());
+            return true;
+        } catch (Exception e) {
+            failedCount.addAndGet(batch.size());
+            batch.forEach(this::merge);
+            logger.error("{}명의 마지막 로그인 시각 반영에 실패하였습니다. {}", batch.size(), e.getMessage());
+            return false;
+        } finally {
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            lastFlushMillis.set(elapsed);
+            maxFlushMillis.accumulateAndGet(elapsed, Math::max);
+        }
+    }
+}
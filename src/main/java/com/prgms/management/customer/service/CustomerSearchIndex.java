@@ -0,0 +1,105 @@
+package com.prgms.management.customer.service;
+
+import com.prgms.management.common.util.NgramIndex;
+import com.prgms.management.customer.model.Customer;
+import com.prgms.management.customer.model.CustomerFilter;
+import com.prgms.management.customer.repository.CustomerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 색인은 서버마다 따로 두므로 이 서버를 거친 저장, 삭제만 바로 반영되고, 다른 서버의 변경은 rebuild-interval마다 다시 만들 때 반영된다.
+@Component
+public class CustomerSearchIndex {
+    private static final Logger logger = LoggerFactory.getLogger(CustomerSearchIndex.class);
+    private static final int BUILD_PAGE_SIZE = 10_000;
+
+    private final CustomerRepository customerRepository;
+    private final long rebuildIntervalMillis;
+    private final ScheduledExecutorService scheduler;
+    private volatile NgramIndex<Customer> index = newIndex();
+    // 만드는 중인 색인에도 변경을 먼저 넣어, 바꿔 끼울 때 그 사이의 변경이 빠지지 않게 한다.
+    // 바꿔 끼운 뒤에 비우므로, 비어 있을 때 넣은 변경은 이미 새 색인에 들어가거나 새 색인이 저장소에서 읽는다.
+    private volatile NgramIndex<Customer> building;
+
+    public CustomerSearchIndex(CustomerRepository customerRepository,
+                               @Value("${customer.search.rebuild-interval-ms:300000}") long rebuildIntervalMillis) {
+        this.customerRepository = customerRepository;
+        this.rebuildIntervalMillis = rebuildIntervalMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "customer-search-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        build();
+        scheduler.scheduleWithFixedDelay(this::build, rebuildIntervalMillis, rebuildIntervalMillis,
+            TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        scheduler.shutdownNow();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    // 전체를 한 번에 읽지 않고 페이지 단위로 새 색인을 채운 뒤 바꿔 끼우므로, 만드는 동안에도 지난 색인으로 검색할 수 있다.
+    public synchronized void build() {
+        long start = System.nanoTime();
+        NgramIndex<Customer> next = newIndex();
+        building = next;
+        try {
+            List<Customer> page = customerRepository.findSlice(CustomerFilter.NONE, null, null, BUILD_PAGE_SIZE);
+            while (!page.isEmpty()) {
+                next.putAll(page);
+                Customer last = page.get(page.size() - 1);
+                page = page.size() < BUILD_PAGE_SIZE ? List.of() :
+                    customerRepository.findSlice(CustomerFilter.NONE, last.getCreatedAt(), last.getId(), BUILD_PAGE_SIZE);
+            }
+            index = next;
+            logger.info("고객 {}명의 검색 색인을 {}ms 만에 만들었습니다.", next.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (RuntimeException e) {
+            logger.error("고객 검색 색인을 만들지 못했습니다. {}", e.getMessage());
+        } finally {
+            building = null;
+        }
+    }
+
+    public void put(Customer customer) {
+        NgramIndex<Customer> next = building;
+        if (next != null) {
+            next.put(customer);
+        }
+        index.put(customer);
+    }
+
+    public void remove(UUID customerId) {
+        NgramIndex<Customer> next = building;
+        if (next != null) {
+            next.remove(customerId);
+        }
+        index.remove(customerId);
+    }
+
+    public List<Customer> search(String query, int limit) {
+        return index.search(query, limit);
+    }
+
+    private static NgramIndex<Customer> newIndex() {
+        return new NgramIndex<>(Customer::getId, customer -> Arrays.asList(customer.getName(), customer.getEmail()));
+    }
+}
@@ -1,16 +1,35 @@
 package com.prgms.management.customer.service;
 
+import com.prgms.management.common.dto.PageResponse;
+import com.prgms.management.common.dto.SingleFlightResponse;
 import com.prgms.management.customer.model.Customer;
+import com.prgms.management.customer.model.CustomerField;
+import com.prgms.management.customer.model.CustomerFilter;
 
+import java.sql.Timestamp;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface CustomerService {
     List<Customer> findAllCustomers();
 
+    PageResponse<Customer> findCustomerPage(int page, int size);
+
+    List<Customer> findCustomerSlice(CustomerFilter filter, Timestamp createdAt, UUID id, int size);
+
+    List<Map<String, Object>> findCustomerFields(List<CustomerField> fields, CustomerFilter filter, Timestamp createdAt,
+                                                 UUID id, int size);
+
+    List<Customer> searchCustomers(String query, int limit);
+
     Customer findCustomerById(UUID id);
 
     Customer addCustomer(Customer customer);
 
     void removeCustomerById(UUID id);
+
+    int removeCustomersByIds(List<UUID> ids);
+
+    SingleFlightResponse findLookupMetrics(int limit);
 }
@@ -1,6 +1,7 @@
 package com.prgms.management.customer.service;
 
 import com.prgms.management.customer.model.Customer;
+import com.prgms.management.customer.model.CustomerFilter;
 import com.prgms.management.customer.model.CustomerType;
 import com.prgms.management.customer.repository.CustomerRepository;
 import org.springframework.stereotype.Service;
@@ -9,6 +10,8 @@ import java.util.List;
 
 @Service
 public class SimpleBlackCustomerService implements BlackCustomerService {
+    private static final CustomerFilter BLACK = new CustomerFilter(CustomerType.BLACK, null, null, null, null);
+
     private final CustomerRepository customerRepository;
 
     public SimpleBlackCustomerService(CustomerRepository customerRepository) {
@@ -19,4 +22,17 @@ public class SimpleBlackCustomerService implements BlackCustomerService {
     public List<Customer> getAllCustomers() {
         return customerRepository.findByType(CustomerType.BLACK);
     }
+
+    @Override
+    public List<Customer> findCustomerSlice(Customer after, int size) {
+        if (after == null) {
+            return customerRepository.findSlice(BLACK, null, null, size);
+        }
+        return customerRepository.findSlice(BLACK, after.getCreatedAt(), after.getId(), size);
+    }
+
+    @Override
+    public long countCustomers() {
+        return customerRepository.count(CustomerType.BLACK);
+    }
 }
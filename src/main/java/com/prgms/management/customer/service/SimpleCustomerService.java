@@ -1,18 +1,35 @@
 package com.prgms.management.customer.service;
 
+import com.prgms.management.common.dto.PageResponse;
+import com.prgms.management.common.dto.SingleFlightResponse;
+import com.prgms.management.common.util.PageAnchors;
+import com.prgms.management.common.util.SingleFlight;
 import com.prgms.management.customer.model.Customer;
+import com.prgms.management.customer.model.CustomerField;
+import com.prgms.management.customer.model.CustomerFilter;
 import com.prgms.management.customer.repository.CustomerRepository;
 import org.springframework.stereotype.Service;
 
+import java.sql.Timestamp;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class SimpleCustomerService implements CustomerService {
+    private static final int MAX_TRACKED_KEYS = 1000;
+    private static final int MAX_PAGE_ANCHORS = 1000;
+    private static final long PAGE_ANCHOR_TTL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
     private final CustomerRepository customerRepository;
+    private final CustomerSearchIndex customerSearchIndex;
+    private final SingleFlight<UUID, Customer> lookups = new SingleFlight<>(MAX_TRACKED_KEYS);
+    private final PageAnchors pageAnchors = new PageAnchors(MAX_PAGE_ANCHORS, PAGE_ANCHOR_TTL_NANOS);
 
-    public SimpleCustomerService(CustomerRepository customerRepository) {
+    public SimpleCustomerService(CustomerRepository customerRepository, CustomerSearchIndex customerSearchIndex) {
         this.customerRepository = customerRepository;
+        this.customerSearchIndex = customerSearchIndex;
     }
 
     @Override
@@ -20,18 +37,70 @@ public class SimpleCustomerService implements CustomerService {
         return customerRepository.findAll();
     }
 
+    @Override
+    public PageResponse<Customer> findCustomerPage(int page, int size) {
+        PageAnchors.Anchor anchor = pageAnchors.find(page - 1, size);
+        List<Customer> content;
+        if (page == 1) {
+            content = customerRepository.findSlice(CustomerFilter.NONE, null, null, size);
+        } else if (anchor != null) {
+            content = customerRepository.findSlice(CustomerFilter.NONE, anchor.createdAt(), anchor.id(), size);
+        } else {
+            content = customerRepository.findPage(page, size);
+        }
+        if (!content.isEmpty()) {
+            Customer last = content.get(content.size() - 1);
+            pageAnchors.remember(page, size, last.getCreatedAt(), last.getId());
+        }
+        return new PageResponse<>(content, page, size, customerRepository.count());
+    }
+
+    @Override
+    public List<Customer> findCustomerSlice(CustomerFilter filter, Timestamp createdAt, UUID id, int size) {
+        return customerRepository.findSlice(filter, createdAt, id, size);
+    }
+
+    @Override
+    public List<Map<String, Object>> findCustomerFields(List<CustomerField> fields, CustomerFilter filter,
+                                                        Timestamp createdAt, UUID id, int size) {
+        return customerRepository.findFieldSlice(fields, filter, createdAt, id, size);
+    }
+
+    @Override
+    public List<Customer> searchCustomers(String query, int limit) {
+        return customerSearchIndex.search(query, limit);
+    }
+
     @Override
     public Customer findCustomerById(UUID id) {
-        return customerRepository.findById(id);
+        return lookups.load(id, () -> customerRepository.findById(id));
     }
 
     @Override
     public Customer addCustomer(Customer customer) {
-        return customerRepository.save(customer);
+        Customer saved = customerRepository.save(customer);
+        lookups.forget(saved.getId());
+        customerSearchIndex.put(saved);
+        return saved;
     }
 
     @Override
     public void removeCustomerById(UUID id) {
         customerRepository.removeById(id);
+        lookups.forget(id);
+        customerSearchIndex.remove(id);
+    }
+
+    @Override
+    public int removeCustomersByIds(List<UUID> ids) {
+        int removed = customerRepository.removeByIds(ids);
+        ids.forEach(lookups::forget);
+        ids.forEach(customerSearchIndex::remove);
+        return removed;
+    }
+
+    @Override
+    public SingleFlightResponse findLookupMetrics(int limit) {
+        return SingleFlightResponse.of("customer", lookups, limit);
     }
 }
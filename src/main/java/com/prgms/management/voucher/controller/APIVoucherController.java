@@ -1,32 +1,49 @@
 package com.prgms.management.voucher.controller;
 
+import com.prgms.management.common.bulk.BulkDeleteExecutor;
+import com.prgms.management.common.bulk.BulkDeleteJob;
 import com.prgms.management.common.dto.Response;
 import com.prgms.management.common.exception.WrongRequestParamException;
+import com.prgms.management.common.ratelimit.AdmissionCategory;
+import com.prgms.management.common.ratelimit.RateLimit;
+import com.prgms.management.voucher.dto.VoucherChangeResponse;
+import com.prgms.management.voucher.dto.VoucherDeleteRequest;
 import com.prgms.management.voucher.dto.VoucherRequest;
 import com.prgms.management.voucher.dto.VoucherResponse;
-import com.prgms.management.voucher.model.Voucher;
-import com.prgms.management.voucher.model.VoucherType;
+import com.prgms.management.voucher.model.*;
 import com.prgms.management.voucher.service.VoucherService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import java.net.URI;
 import java.sql.Timestamp;
 import java.util.HashMap;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("api/v1/vouchers")
 public class APIVoucherController {
+    private static final int MAX_CHANGE_LIMIT = 1000;
+    private static final long MAX_CHANGE_WAIT_MILLIS = 30_000;
+    private static final long CHANGE_WAIT_GRACE_MILLIS = 5_000;
+    private static final int MAX_SEARCH_LIMIT = 100;
+    private static final String DELETION_TARGET = "voucher";
+
     private final VoucherService voucherService;
+    private final BulkDeleteExecutor bulkDeleteExecutor;
 
-    public APIVoucherController(VoucherService voucherService) {
+    public APIVoucherController(VoucherService voucherService, BulkDeleteExecutor bulkDeleteExecutor) {
         this.voucherService = voucherService;
+        this.bulkDeleteExecutor = bulkDeleteExecutor;
     }
 
     @GetMapping
+    @RateLimit(AdmissionCategory.LIST)
     public ResponseEntity<Response> voucherList(@RequestParam HashMap<String, String> param) {
         VoucherType type;
         Timestamp start, end;
@@ -49,6 +66,13 @@ public class APIVoucherController {
             end = null;
         }
 
+        if (param.get("fields") != null) {
+            List<VoucherField> fields = VoucherField.of(param.get("fields"));
+            Response response = new Response(HttpStatus.OK.value(), "바우처 목록 조회 성공",
+                voucherService.findVoucherFields(fields, type, start, end));
+            return ResponseEntity.ok(response);
+        }
+
         List<Voucher> voucherList = voucherService.findVouchers(type, start, end);
         List<VoucherResponse> resultList = voucherList.stream().map(VoucherResponse::of).toList();
         Response response = new Response(HttpStatus.OK.value(), "바우처 목록 조회 성공", resultList);
@@ -56,13 +80,110 @@ public class APIVoucherController {
     }
 
     @PostMapping
+    @RateLimit(AdmissionCategory.WRITE)
     public ResponseEntity<Response> voucherAdd(@RequestBody VoucherRequest request) {
         Voucher voucher = voucherService.addVoucher(request.toVoucher());
         Response response = new Response(HttpStatus.CREATED.value(), "바우처 등록 성공", VoucherResponse.of(voucher));
         return ResponseEntity.created(URI.create("/api/v1/vouchers/" + voucher.getId().toString())).body(response);
     }
 
+    @GetMapping("statistics")
+    @RateLimit(AdmissionCategory.READ)
+    public ResponseEntity<Response> voucherStatistics(@RequestParam(value = "unit", defaultValue = "day") String unit) {
+        List<VoucherStatistics> statistics = voucherService.findVoucherStatistics(StatisticsUnit.of(unit));
+        Response response = new Response(HttpStatus.OK.value(), "바우처 통계 조회 성공", statistics);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("statistics")
+    @RateLimit(AdmissionCategory.WRITE)
+    public ResponseEntity<Response> voucherStatisticsRefresh() {
+        voucherService.refreshVoucherStatistics();
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("search")
+    @RateLimit(AdmissionCategory.READ)
+    public ResponseEntity<Response> voucherSearch(@RequestParam("q") String query,
+                                                  @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        if (query.isBlank() || limit <= 0 || limit > MAX_SEARCH_LIMIT) {
+            throw new WrongRequestParamException("q는 비어 있을 수 없고, limit은 1에서 " + MAX_SEARCH_LIMIT + " 사이의 값이어야 합니다.");
+        }
+
+        List<VoucherResponse> resultList = voucherService.searchVouchers(query, limit).stream()
+            .map(VoucherResponse::of).toList();
+        Response response = new Response(HttpStatus.OK.value(), "바우처 검색 성공", resultList);
+        return ResponseEntity.ok(response);
+    }
+
+    // 기다리는 동안 요청 스레드를 돌려주고, 변경이 생기거나 대기 시간이 끝나면 그때 응답한다.
+    @GetMapping("changes")
+    @RateLimit(AdmissionCategory.READ)
+    public DeferredResult<ResponseEntity<Response>> voucherChanges(
+        @RequestParam(value = "after", defaultValue = "0") long after,
+        @RequestParam(value = "limit", defaultValue = "100") int limit,
+        @RequestParam(value = "wait", defaultValue = "0") long wait) {
+        if (after < 0 || limit <= 0 || limit > MAX_CHANGE_LIMIT || wait < 0 || wait > MAX_CHANGE_WAIT_MILLIS) {
+            throw new WrongRequestParamException("after는 0 이상, limit은 1에서 " + MAX_CHANGE_LIMIT + ", wait은 0에서 " +
+                MAX_CHANGE_WAIT_MILLIS + " 사이의 값이어야 합니다.");
+        }
+
+        DeferredResult<ResponseEntity<Response>> result = new DeferredResult<>(wait + CHANGE_WAIT_GRACE_MILLIS);
+        CompletableFuture<List<VoucherChange>> changes = voucherService.findVoucherChanges(after, limit, wait);
+        // 응답이 끝나거나 연결이 끊기면 기다리던 요청도 거둔다.
+        result.onCompletion(() -> changes.cancel(false));
+        changes.whenComplete((resultList, e) -> {
+            if (e != null) {
+                result.setErrorResult(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+                return;
+            }
+            Response response = new Response(HttpStatus.OK.value(), "바우처 변경 이력 조회 성공",
+                resultList.stream().map(VoucherChangeResponse::of).toList());
+            result.setResult(ResponseEntity.ok(response));
+        });
+        return result;
+    }
+
+    @PostMapping("deletions")
+    @RateLimit(AdmissionCategory.WRITE)
+    public ResponseEntity<Response> voucherBulkRemove(@RequestBody VoucherDeleteRequest request) {
+        request.validate();
+        BulkDeleteJob job;
+        if (request.hasIds()) {
+            job = new BulkDeleteJob(DELETION_TARGET, (long) request.ids().size(), BulkDeleteJob.chunksOf(request.ids()),
+                voucherService::removeVouchersByIds);
+        } else {
+            VoucherType type = request.toType();
+            job = new BulkDeleteJob(DELETION_TARGET, null,
+                size -> voucherService.findVoucherIds(type, request.start(), request.end(), size),
+                voucherService::removeVouchersByIds);
+        }
+        bulkDeleteExecutor.submit(job);
+
+        Response response = new Response(HttpStatus.ACCEPTED.value(), "바우처 삭제 작업 등록 성공", job.toResponse());
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/v1/vouchers/deletions/" + job.getId().toString()))
+            .body(response);
+    }
+
+    @GetMapping("deletions/{jobId}")
+    @RateLimit(AdmissionCategory.READ)
+    public ResponseEntity<Response> voucherBulkRemoveProgress(@PathVariable("jobId") UUID jobId) {
+        BulkDeleteJob job = bulkDeleteExecutor.find(DELETION_TARGET, jobId);
+        Response response = new Response(HttpStatus.OK.value(), "바우처 삭제 작업 조회 성공", job.toResponse());
+        return ResponseEntity.ok(response);
+    }
+
+    @DeleteMapping("deletions/{jobId}")
+    @RateLimit(AdmissionCategory.WRITE)
+    public ResponseEntity<Response> voucherBulkRemoveCancel(@PathVariable("jobId") UUID jobId) {
+        BulkDeleteJob job = bulkDeleteExecutor.cancel(DELETION_TARGET, jobId);
+        Response response = new Response(HttpStatus.OK.value(), "바우처 삭제 작업 취소 요청 성공", job.toResponse());
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("{id}")
+    @RateLimit(AdmissionCategory.READ)
     public ResponseEntity<Response> voucherDetail(@PathVariable("id") UUID id) {
         Voucher voucher = voucherService.findVoucherById(id);
         Response response = new Response(HttpStatus.OK.value(), "바우처 조회 성공", VoucherResponse.of(voucher));
@@ -70,6 +191,7 @@ public class APIVoucherController {
     }
 
     @DeleteMapping("{id}")
+    @RateLimit(AdmissionCategory.WRITE)
     public ResponseEntity<Response> voucherRemove(@PathVariable("id") UUID id) {
         voucherService.removeVoucherById(id);
         return ResponseEntity.noContent().build();
@@ -0,0 +1,29 @@
+package com.prgms.management.voucher.controller;
+
+import com.prgms.management.common.dto.Response;
+import com.prgms.management.common.ratelimit.AdmissionCategory;
+import com.prgms.management.common.ratelimit.RateLimit;
+import com.prgms.management.voucher.service.VoucherExpirySweeper;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("api/v1/vouchers/expiry-sweeper")
+public class APIVoucherExpiryController {
+    private final VoucherExpirySweeper voucherExpirySweeper;
+
+    public APIVoucherExpiryController(VoucherExpirySweeper voucherExpirySweeper) {
+        this.voucherExpirySweeper = voucherExpirySweeper;
+    }
+
+    @GetMapping
+    @RateLimit(AdmissionCategory.READ)
+    public ResponseEntity<Response> sweeperMetrics() {
+        Response response = new Response(HttpStatus.OK.value(), "만료 바우처 정리 현황 조회 성공",
+            voucherExpirySweeper.getMetrics());
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,31 @@
+package com.prgms.management.voucher.controller;
+
+import com.prgms.management.common.dto.Response;
+import com.prgms.management.common.ratelimit.AdmissionCategory;
+import com.prgms.management.common.ratelimit.RateLimit;
+import com.prgms.management.voucher.service.VoucherWriteBuffer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("api/v1/vouchers/write-buffer")
+@ConditionalOnProperty(prefix = "voucher.write-behind", name = "enabled", havingValue = "true")
+public class APIVoucherWriteBufferController {
+    private final VoucherWriteBuffer voucherWriteBuffer;
+
+    public APIVoucherWriteBufferController(VoucherWriteBuffer voucherWriteBuffer) {
+        this.voucherWriteBuffer = voucherWriteBuffer;
+    }
+
+    @GetMapping
+    @RateLimit(AdmissionCategory.READ)
+    public ResponseEntity<Response> writeBufferMetrics() {
+        Response response = new Response(HttpStatus.OK.value(), "바우처 저장 대기열 조회 성공",
+            voucherWriteBuffer.getMetrics());
+        return ResponseEntity.ok(response);
+    }
+}
@@ -8,24 +8,30 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import java.util.UUID;
 
 @Controller
 @RequestMapping("vouchers")
 public class ViewVoucherController {
     private final VoucherService voucherService;
+    private final VoucherTableFragment voucherTableFragment;
     private final String MENU_TYPE = "VOUCHER";
+    private final int MAX_PAGE_SIZE = 100;
 
-    public ViewVoucherController(VoucherService voucherService) {
+    public ViewVoucherController(VoucherService voucherService, VoucherTableFragment voucherTableFragment) {
         this.voucherService = voucherService;
+        this.voucherTableFragment = voucherTableFragment;
     }
 
     @GetMapping
-    public String voucherList(Model model) {
-        List<Voucher> voucherList = voucherService.findVouchers(null, null, null);
-        List<VoucherResponse> list = voucherList.stream().map(VoucherResponse::of).toList();
-        model.addAttribute("voucherList", list);
+    public String voucherList(@RequestParam(value = "page", defaultValue = "1") int page,
+                              @RequestParam(value = "size", defaultValue = "20") int size,
+                              Model model, HttpServletRequest request, HttpServletResponse response) {
+        int validPage = Math.max(page, 1);
+        int validSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        model.addAttribute("voucherTable", voucherTableFragment.render(validPage, validSize, request, response));
         model.addAttribute("menuType", MENU_TYPE);
         return "voucher/voucher_list";
     }
@@ -0,0 +1,35 @@
+package com.prgms.management.voucher.controller;
+
+import com.prgms.management.common.dto.PageResponse;
+import com.prgms.management.common.view.ViewFragmentRenderer;
+import com.prgms.management.config.CacheConfig;
+import com.prgms.management.voucher.dto.VoucherResponse;
+import com.prgms.management.voucher.model.Voucher;
+import com.prgms.management.voucher.service.VoucherService;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+
+@Component
+public class VoucherTableFragment {
+    private final VoucherService voucherService;
+    private final ViewFragmentRenderer viewFragmentRenderer;
+
+    public VoucherTableFragment(VoucherService voucherService, ViewFragmentRenderer viewFragmentRenderer) {
+        this.voucherService = voucherService;
+        this.viewFragmentRenderer = viewFragmentRenderer;
+    }
+
+    @Cacheable(cacheNames = CacheConfig.VOUCHER_TABLE, key = "#page + ':' + #size", condition = "#page <= 100")
+    public String render(int page, int size, HttpServletRequest request, HttpServletResponse response) {
+        PageResponse<Voucher> vouchers = voucherService.findVoucherPage(page, size);
+        PageResponse<VoucherResponse> result = new PageResponse<>(
+            vouchers.content().stream().map(VoucherResponse::of).toList(),
+            vouchers.page(), vouchers.size(), vouchers.totalCount());
+        return viewFragmentRenderer.render("voucher/voucher_table", "table", Map.of("voucherPage", result),
+            request, response);
+    }
+}
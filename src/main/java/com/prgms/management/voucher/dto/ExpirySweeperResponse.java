@@ -0,0 +1,12 @@
+package com.prgms.management.voucher.dto;
+
+public record ExpirySweeperResponse(
+    Long totalSwept,
+    Long lastRunSwept,
+    Long lastRunMillis,
+    Long lagMillis,
+    Long lastRunAt,
+    Long failedCount
+) {
+
+}
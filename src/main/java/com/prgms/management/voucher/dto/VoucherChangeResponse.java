@@ -0,0 +1,24 @@
+package com.prgms.management.voucher.dto;
+
+import com.prgms.management.voucher.model.VoucherChange;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+public record VoucherChangeResponse(
+    Long sequence,
+    String type,
+    UUID voucherId,
+    Timestamp changedAt,
+    VoucherResponse voucher
+) {
+    public static VoucherChangeResponse of(VoucherChange change) {
+        return new VoucherChangeResponse(
+            change.sequence(),
+            change.type().toString(),
+            change.voucherId(),
+            change.changedAt(),
+            change.voucher() == null ? null : VoucherResponse.of(change.voucher())
+        );
+    }
+}
@@ -0,0 +1,41 @@
+package com.prgms.management.voucher.dto;
+
+import com.prgms.management.common.exception.WrongRequestParamException;
+import com.prgms.management.voucher.model.VoucherType;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+
+// ids가 주어지면 그 바우처만, 아니면 type과 생성일 구간 조건에 맞는 바우처를 지운다.
+public record VoucherDeleteRequest(
+    List<UUID> ids,
+    String type,
+    Timestamp start,
+    Timestamp end
+) {
+    public boolean hasIds() {
+        return ids != null && !ids.isEmpty();
+    }
+
+    public VoucherType toType() {
+        if (type == null) {
+            return null;
+        }
+        try {
+            return VoucherType.valueOf(type.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new WrongRequestParamException("type은 fixed와 percent만 지원합니다.");
+        }
+    }
+
+    public void validate() {
+        boolean hasFilter = type != null || start != null || end != null;
+        if (hasIds() == hasFilter) {
+            throw new WrongRequestParamException("ids와 삭제 조건(type, start, end) 중 하나만 지정해야 합니다.");
+        }
+        if ((start == null) != (end == null)) {
+            throw new WrongRequestParamException("start와 end는 함께 지정해야 합니다.");
+        }
+    }
+}
@@ -1,23 +1,34 @@
 package com.prgms.management.voucher.dto;
 
+import com.prgms.management.common.exception.InvalidParameterException;
 import com.prgms.management.common.exception.SaveFailException;
 import com.prgms.management.voucher.model.FixedAmountVoucher;
 import com.prgms.management.voucher.model.PercentDiscountVoucher;
 import com.prgms.management.voucher.model.Voucher;
 import com.prgms.management.voucher.model.VoucherType;
 
+import java.sql.Timestamp;
+
 public record VoucherRequest(
     Integer figure,
     String type,
-    String name
+    String name,
+    Timestamp expiresAt
 ) {
     public Voucher toVoucher() {
+        Voucher voucher;
         if (VoucherType.valueOf(type.toUpperCase()) == VoucherType.FIXED) {
-            return new FixedAmountVoucher(name, figure);
+            voucher = new FixedAmountVoucher(name, figure);
         } else if (VoucherType.valueOf(type.toUpperCase()) == VoucherType.PERCENT) {
-            return new PercentDiscountVoucher(name, figure);
+            voucher = new PercentDiscountVoucher(name, figure);
         } else {
             throw new SaveFailException("바우처 등록에 실패하였습니다.");
         }
+
+        if (expiresAt != null && !expiresAt.after(voucher.getCreatedAt())) {
+            throw new InvalidParameterException("만료일은 현재 시각 이후여야 합니다.");
+        }
+        voucher.setExpiresAt(expiresAt);
+        return voucher;
     }
 }
@@ -10,7 +10,9 @@ public record VoucherResponse(
     Timestamp createdAt,
     Integer figure,
     String type,
-    String name
+    String name,
+    Timestamp expiresAt,
+    UUID campaignId
 ) {
     public static VoucherResponse of(Voucher voucher) {
         return new VoucherResponse(
@@ -18,7 +20,9 @@ public record VoucherResponse(
             voucher.getCreatedAt(),
             voucher.getFigure(),
             voucher.getType().toString(),
-            voucher.getName()
+            voucher.getName(),
+            voucher.getExpiresAt(),
+            voucher.getCampaignId()
         );
     }
 }
@@ -0,0 +1,13 @@
+package com.prgms.management.voucher.dto;
+
+public record WriteBufferResponse(
+    Integer queueDepth,
+    Integer capacity,
+    Long flushedCount,
+    Long failedCount,
+    Long rejectedCount,
+    Long lastFlushMillis,
+    Long maxFlushMillis
+) {
+
+}
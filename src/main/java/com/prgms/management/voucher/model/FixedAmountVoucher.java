@@ -31,6 +31,7 @@ public class FixedAmountVoucher extends Voucher {
 
     @Override
     public String getStringForCSV() {
-        return this.getClass().getCanonicalName() + "," + getId() + "," + getFigure();
+        String line = this.getClass().getCanonicalName() + "," + getId() + "," + getFigure();
+        return getExpiresAt() == null ? line : line + "," + getExpiresAt().getTime();
     }
 }
@@ -0,0 +1,31 @@
+package com.prgms.management.voucher.model;
+
+import com.prgms.management.common.exception.WrongRequestParamException;
+
+import java.sql.Timestamp;
+import java.time.temporal.ChronoUnit;
+
+public enum StatisticsUnit {
+    DAY(ChronoUnit.DAYS), HOUR(ChronoUnit.HOURS);
+
+    private final ChronoUnit chronoUnit;
+
+    StatisticsUnit(ChronoUnit chronoUnit) {
+        this.chronoUnit = chronoUnit;
+    }
+
+    public static StatisticsUnit of(String str) {
+        switch (str.toUpperCase()) {
+            case "HOUR":
+                return HOUR;
+            case "DAY":
+                return DAY;
+            default:
+                throw new WrongRequestParamException("unit은 day와 hour만 지원합니다.");
+        }
+    }
+
+    public Timestamp truncate(Timestamp timestamp) {
+        return Timestamp.valueOf(timestamp.toLocalDateTime().truncatedTo(chronoUnit));
+    }
+}
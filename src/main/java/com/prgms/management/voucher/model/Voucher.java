@@ -18,6 +18,8 @@ public abstract class Voucher implements VoucherPolicy, CSVPolicy {
     private final Integer figure;
     private final VoucherType type;
     private String name;
+    private Timestamp expiresAt;
+    private UUID campaignId;
 
     protected Voucher(UUID id, String name, Integer figure, Timestamp createdAt, VoucherType type, Integer MAX,
                       Integer MIN) {
@@ -31,6 +33,11 @@ public abstract class Voucher implements VoucherPolicy, CSVPolicy {
         this.name = name;
     }
 
+    // 만료일이 없으면 만료되지 않으며, 만료일과 같은 시각부터 만료된 것으로 본다.
+    public boolean isExpired(Timestamp now) {
+        return expiresAt != null && !expiresAt.after(now);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,14 @@
+package com.prgms.management.voucher.model;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+public record VoucherChange(
+    Long sequence,
+    VoucherChangeType type,
+    UUID voucherId,
+    Timestamp changedAt,
+    Voucher voucher
+) {
+
+}
@@ -0,0 +1,5 @@
+package com.prgms.management.voucher.model;
+
+public enum VoucherChangeType {
+    CREATE, DELETE
+}
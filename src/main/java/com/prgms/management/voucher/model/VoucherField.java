@@ -0,0 +1,121 @@
+package com.prgms.management.voucher.model;
+
+import com.prgms.management.common.exception.WrongRequestParamException;
+
+import java.nio.ByteBuffer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+public enum VoucherField {
+    ID("id", "id") {
+        @Override
+        public Object valueOf(Voucher voucher) {
+            return voucher.getId();
+        }
+
+        @Override
+        public Object read(ResultSet set, int index) throws SQLException {
+            var buffer = ByteBuffer.wrap(set.getBytes(index));
+            return new UUID(buffer.getLong(), buffer.getLong());
+        }
+    },
+    NAME("name", "name") {
+        @Override
+        public Object valueOf(Voucher voucher) {
+            return voucher.getName();
+        }
+
+        @Override
+        public Object read(ResultSet set, int index) throws SQLException {
+            return set.getString(index);
+        }
+    },
+    TYPE("type", "type") {
+        @Override
+        public Object valueOf(Voucher voucher) {
+            return voucher.getType().toString();
+        }
+
+        @Override
+        public Object read(ResultSet set, int index) throws SQLException {
+            return set.getString(index);
+        }
+    },
+    FIGURE("figure", "figure") {
+        @Override
+        public Object valueOf(Voucher voucher) {
+            return voucher.getFigure();
+        }
+
+        @Override
+        public Object read(ResultSet set, int index) throws SQLException {
+            return set.getInt(index);
+        }
+    },
+    CREATED_AT("createdAt", "created_at") {
+        @Override
+        public Object valueOf(Voucher voucher) {
+            return voucher.getCreatedAt();
+        }
+
+        @Override
+        public Object read(ResultSet set, int index) throws SQLException {
+            return set.getTimestamp(index);
+        }
+    },
+    EXPIRES_AT("expiresAt", "expires_at") {
+        @Override
+        public Object valueOf(Voucher voucher) {
+            return voucher.getExpiresAt();
+        }
+
+        @Override
+        public Object read(ResultSet set, int index) throws SQLException {
+            return set.getTimestamp(index);
+        }
+    };
+
+    private final String key;
+    private final String column;
+
+    VoucherField(String key, String column) {
+        this.key = key;
+        this.column = column;
+    }
+
+    public static List<VoucherField> of(String fields) {
+        Set<VoucherField> result = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            result.add(Arrays.stream(values())
+                .filter(value -> value.key.equalsIgnoreCase(field.trim()) || value.column.equalsIgnoreCase(field.trim()))
+                .findFirst()
+                .orElseThrow(() -> new WrongRequestParamException("fields는 id, name, type, figure, createdAt, expiresAt만 지원합니다.")));
+        }
+        return new ArrayList<>(result);
+    }
+
+    public static Map<String, Object> project(List<VoucherField> fields, Voucher voucher) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (VoucherField field : fields) {
+            result.put(field.key, field.valueOf(voucher));
+        }
+        return result;
+    }
+
+    public static Map<String, Object> mapRow(List<VoucherField> fields, ResultSet set) throws SQLException {
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            result.put(fields.get(i).key, fields.get(i).read(set, i + 1));
+        }
+        return result;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public abstract Object valueOf(Voucher voucher);
+
+    public abstract Object read(ResultSet set, int index) throws SQLException;
+}
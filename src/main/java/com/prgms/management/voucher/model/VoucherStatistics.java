@@ -0,0 +1,12 @@
+package com.prgms.management.voucher.model;
+
+import java.sql.Timestamp;
+
+public record VoucherStatistics(
+    String type,
+    Timestamp period,
+    Long count,
+    Long figureSum
+) {
+
+}
@@ -1,11 +1,14 @@
 package com.prgms.management.voucher.repository;
 
+import com.prgms.management.common.exception.DeleteFailException;
 import com.prgms.management.common.exception.EmptyListException;
 import com.prgms.management.common.exception.FindFailException;
 import com.prgms.management.common.exception.SaveFailException;
 import com.prgms.management.voucher.model.FixedAmountVoucher;
 import com.prgms.management.voucher.model.PercentDiscountVoucher;
 import com.prgms.management.voucher.model.Voucher;
+import com.prgms.management.voucher.model.VoucherChange;
+import com.prgms.management.voucher.model.VoucherChangeType;
 import com.prgms.management.voucher.model.VoucherType;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
@@ -14,15 +17,25 @@ import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Repository;
 
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Repository
 @Profile({"dev"})
 public class FileVoucherRepository implements VoucherRepository {
+    private static final int MAX_CHANGES = 100_000;
+
     private final Resource resource;
+    // 파일에는 변경 이력을 남기지 않으므로 이 프로세스가 실행된 뒤의 변경만 보여준다.
+    private final VoucherChangeLog changeLog = new VoucherChangeLog(MAX_CHANGES);
 
     public FileVoucherRepository(@Value("${database.file.voucher}") String filename) {
         DefaultResourceLoader defaultResourceLoader = new DefaultResourceLoader();
@@ -36,10 +49,9 @@ public class FileVoucherRepository implements VoucherRepository {
             while ((line = bufferedReader.readLine()) != null) {
                 String[] array = line.split(",");
                 if (voucherId.equals(UUID.fromString(array[1]))) {
-                    if (array[0].equals(PercentDiscountVoucher.class.getCanonicalName())) {
-                        return new PercentDiscountVoucher(UUID.fromString(array[1]), Integer.parseInt(array[2]));
-                    } else if (array[0].equals(FixedAmountVoucher.class.getCanonicalName())) {
-                        return new FixedAmountVoucher(UUID.fromString(array[1]), Integer.parseInt(array[2]));
+                    Voucher voucher = toVoucher(array);
+                    if (voucher != null && !voucher.isExpired(now())) {
+                        return voucher;
                     }
                 }
             }
@@ -69,39 +81,109 @@ public class FileVoucherRepository implements VoucherRepository {
 
     @Override
     public List<Voucher> findAll() {
-        List<Voucher> vouchers = new ArrayList<>();
-        try (BufferedReader bufferedReader = new BufferedReader(new FileReader(resource.getFile()))) {
-            String line;
-            while ((line = bufferedReader.readLine()) != null) {
-                String[] array = line.split(",");
-                if (array[0].equals(PercentDiscountVoucher.class.getCanonicalName())) {
-                    vouchers.add(new PercentDiscountVoucher(UUID.fromString(array[1]), Integer.parseInt(array[2])));
-                } else if (array[0].equals(FixedAmountVoucher.class.getCanonicalName())) {
-                    vouchers.add(new FixedAmountVoucher(UUID.fromString(array[1]), Integer.parseInt(array[2])));
-                } else {
-                    throw new FindFailException();
-                }
-            }
+        Timestamp now = now();
+        try {
+            return readAll().stream().filter(voucher -> !voucher.isExpired(now)).toList();
         } catch (IOException e) {
             throw new EmptyListException();
         }
-        return vouchers;
     }
 
     @Override
-    public Voucher save(Voucher voucher) {
+    public long findSettledChangeSequence() {
+        return changeLog.latest();
+    }
+
+    @Override
+    public List<VoucherChange> findChanges(long after, int limit) {
+        return changeLog.find(after, limit);
+    }
+
+    @Override
+    public synchronized Voucher save(Voucher voucher) {
         try (BufferedWriter bufferedWriter = new BufferedWriter(new FileWriter(resource.getFile(), true))) {
             bufferedWriter.write(voucher.getStringForCSV());
             bufferedWriter.newLine();
         } catch (IOException e) {
             throw new SaveFailException();
         }
+        changeLog.append(VoucherChangeType.CREATE, voucher.getId(), voucher);
         return voucher;
     }
 
+    // 만료된 바우처를 뺀 나머지를 임시 파일에 쓴 뒤 바꿔 끼우므로, 도중에 실패해도 원래 파일은 그대로 남는다.
+    @Override
+    public synchronized List<Voucher> removeExpired(Timestamp now, int limit) {
+        try {
+            List<Voucher> vouchers = readAll();
+            List<Voucher> expired = vouchers.stream()
+                .filter(voucher -> voucher.isExpired(now))
+                .sorted(Comparator.comparing(Voucher::getExpiresAt))
+                .limit(limit)
+                .toList();
+            if (expired.isEmpty()) {
+                return expired;
+            }
+            Set<UUID> expiredIds = expired.stream().map(Voucher::getId).collect(Collectors.toSet());
+            Path file = resource.getFile().toPath();
+            Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+            try (BufferedWriter bufferedWriter = Files.newBufferedWriter(temp)) {
+                for (Voucher voucher : vouchers) {
+                    if (!expiredIds.contains(voucher.getId())) {
+                        bufferedWriter.write(voucher.getStringForCSV());
+                        bufferedWriter.newLine();
+                    }
+                }
+            } catch (IOException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            expired.forEach(voucher -> changeLog.append(VoucherChangeType.DELETE, voucher.getId(), null));
+            return expired;
+        } catch (IOException e) {
+            throw new DeleteFailException();
+        }
+    }
+
     @Override
     public void removeById(UUID voucherId) {
         // TODO ID에 따른 바우처 정보를 CSV 파일에서 삭제
         throw new UnsupportedOperationException();
     }
-}
\ No newline at end of file
+
+    private List<Voucher> readAll() throws IOException {
+        List<Voucher> vouchers = new ArrayList<>();
+        try (BufferedReader bufferedReader = new BufferedReader(new FileReader(resource.getFile()))) {
+            String line;
+            while ((line = bufferedReader.readLine()) != null) {
+                Voucher voucher = toVoucher(line.split(","));
+                if (voucher == null) {
+                    throw new FindFailException();
+                }
+                vouchers.add(voucher);
+            }
+        }
+        return vouchers;
+    }
+
+    // 네 번째 열은 만료일(epoch 밀리초)이며, 만료일 없이 저장된 이전 형식의 줄은 세 열뿐이다.
+    private static Voucher toVoucher(String[] array) {
+        Voucher voucher;
+        if (array[0].equals(PercentDiscountVoucher.class.getCanonicalName())) {
+            voucher = new PercentDiscountVoucher(UUID.fromString(array[1]), Integer.parseInt(array[2]));
+        } else if (array[0].equals(FixedAmountVoucher.class.getCanonicalName())) {
+            voucher = new FixedAmountVoucher(UUID.fromString(array[1]), Integer.parseInt(array[2]));
+        } else {
+            return null;
+        }
+        if (array.length > 3) {
+            voucher.setExpiresAt(new Timestamp(Long.parseLong(array[3])));
+        }
+        return voucher;
+    }
+
+    private static Timestamp now() {
+        return new Timestamp(System.currentTimeMillis());
+    }
+}
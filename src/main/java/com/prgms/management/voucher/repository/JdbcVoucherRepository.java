@@ -3,24 +3,51 @@ package com.prgms.management.voucher.repository;
 import com.prgms.management.common.exception.DeleteFailException;
 import com.prgms.management.common.exception.FindFailException;
 import com.prgms.management.common.exception.SaveFailException;
-import com.prgms.management.voucher.model.FixedAmountVoucher;
-import com.prgms.management.voucher.model.PercentDiscountVoucher;
-import com.prgms.management.voucher.model.Voucher;
-import com.prgms.management.voucher.model.VoucherType;
+import com.prgms.management.common.exception.WrongRequestParamException;
+import com.prgms.management.voucher.model.*;
 import org.springframework.context.annotation.Profile;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSourceUtils;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.ByteBuffer;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Timestamp;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
 
 @Repository
 @Profile({"default"})
 public class JdbcVoucherRepository implements VoucherRepository {
+    private static final String VOUCHER_COLUMNS = "id, name, type, figure, created_at, expires_at, campaign_id";
+    private static final String NOT_EXPIRED = "(expires_at IS NULL OR expires_at > CURRENT_TIMESTAMP)";
+    private static final String INSERT_VOUCHER_SQL = "INSERT INTO voucher(id, name, type, figure, created_at, expires_at, " +
+        "campaign_id) VALUES (UNHEX(REPLACE(:id, '-', '')), :name, :type, :figure, :created_at, :expires_at, " +
+        "UNHEX(REPLACE(:campaign_id, '-', '')))";
+    // 같은 시간대의 쓰기가 한 행의 잠금을 기다리지 않도록 (타입, 시간)마다 여러 칸으로 나누어 더하고, 읽을 때 합친다.
+    private static final int STATISTICS_SLOTS = 16;
+    private static final String UPSERT_STATISTICS_SQL = "INSERT INTO voucher_statistics(type, bucket, slot, voucher_count, " +
+        "figure_sum) VALUES (:type, DATE_FORMAT(:created_at, '%Y-%m-%d %H:00:00'), :slot, :count, :figure) " +
+        "ON DUPLICATE KEY UPDATE voucher_count = voucher_count + :count, figure_sum = figure_sum + :figure";
+    private static final RowMapper<VoucherStatistics> STATISTICS_ROW_MAPPER = (rs, rowNum) -> new VoucherStatistics(
+        rs.getString(1), rs.getTimestamp(2), rs.getLong(3), rs.getLong(4));
+    private static final String INSERT_CHANGE_SQL = "INSERT INTO voucher_change(voucher_id, type) " +
+        "VALUES (UNHEX(REPLACE(:id, '-', '')), :change_type)";
+    private static final RowMapper<Voucher> VOUCHER_ROW_MAPPER = (rs, rowNum) -> mapToVoucher(rs, 0);
+    // AUTO_INCREMENT 번호는 커밋 순서와 다를 수 있어, 앞 번호가 비어 있으면 이 시간보다 오래된 변경만 빈틈을 넘어 보여준다.
+    // 이 시간 안에 커밋되지 않은 앞 번호는 롤백된 것으로 본다.
+    private static final int CHANGE_SETTLE_SECONDS = 5;
+    private static final RowMapper<ChangeRow> CHANGE_ROW_MAPPER = (rs, rowNum) -> new ChangeRow(
+        new VoucherChange(rs.getLong(1), VoucherChangeType.valueOf(rs.getString(2)), toUUID(rs.getBytes(3)),
+            rs.getTimestamp(4), rs.getBytes(5) == null ? null : mapToVoucher(rs, 4)),
+        rs.getBoolean(12));
+
     private final NamedParameterJdbcTemplate jdbcTemplate;
 
     public JdbcVoucherRepository(NamedParameterJdbcTemplate jdbcTemplate) {
@@ -30,9 +57,10 @@ public class JdbcVoucherRepository implements VoucherRepository {
     @Override
     public Voucher findById(UUID voucherId) {
         try {
-            return jdbcTemplate.queryForObject("SELECT * from voucher WHERE id = UNHEX(REPLACE(:id, '-', ''))",
+            return jdbcTemplate.queryForObject("SELECT " + VOUCHER_COLUMNS + " from voucher " +
+                    "WHERE id = UNHEX(REPLACE(:id, '-', '')) AND " + NOT_EXPIRED,
                 Collections.singletonMap("id", voucherId.toString()),
-                (rs, rowNum) -> mapToVoucher(rs));
+                VOUCHER_ROW_MAPPER);
         } catch (EmptyResultDataAccessException e) {
             throw new FindFailException("찾는 ID에 대한 바우처가 없습니다.");
         }
@@ -40,9 +68,10 @@ public class JdbcVoucherRepository implements VoucherRepository {
 
     @Override
     public List<Voucher> findByType(VoucherType type) {
-        return jdbcTemplate.query("SELECT * from voucher WHERE type = :type ORDER BY created_at DESC",
+        return jdbcTemplate.query("SELECT " + VOUCHER_COLUMNS + " from voucher WHERE type = :type AND " + NOT_EXPIRED +
+                " ORDER BY created_at DESC",
             Collections.singletonMap("type", type.toString()),
-            (rs, rowNum) -> mapToVoucher(rs));
+            VOUCHER_ROW_MAPPER);
     }
 
     @Override
@@ -51,10 +80,10 @@ public class JdbcVoucherRepository implements VoucherRepository {
             put("start", start);
             put("end", end);
         }};
-        return jdbcTemplate.query("SELECT * from voucher WHERE created_at BETWEEN :start AND :end " +
-                "ORDER BY created_at DESC",
+        return jdbcTemplate.query("SELECT " + VOUCHER_COLUMNS + " from voucher WHERE created_at BETWEEN :start AND :end " +
+                "AND " + NOT_EXPIRED + " ORDER BY created_at DESC",
             paramMap,
-            (rs, rowNum) -> mapToVoucher(rs));
+            VOUCHER_ROW_MAPPER);
     }
 
     @Override
@@ -64,60 +93,397 @@ public class JdbcVoucherRepository implements VoucherRepository {
             put("start", start);
             put("end", end);
         }};
-        return jdbcTemplate.query("SELECT * from voucher WHERE type = :type AND created_at BETWEEN :start AND :end " +
-                "ORDER BY created_at DESC",
+        return jdbcTemplate.query("SELECT " + VOUCHER_COLUMNS + " from voucher WHERE type = :type AND created_at " +
+                "BETWEEN :start AND :end AND " + NOT_EXPIRED + " ORDER BY created_at DESC",
             paramMap,
-            (rs, rowNum) -> mapToVoucher(rs));
+            VOUCHER_ROW_MAPPER);
     }
 
     @Override
     public List<Voucher> findAll() {
-        return jdbcTemplate.query("SELECT * from voucher ORDER BY created_at DESC", (rs, rowNum) -> mapToVoucher(rs));
+        return jdbcTemplate.query("SELECT " + VOUCHER_COLUMNS + " from voucher WHERE " + NOT_EXPIRED +
+                " ORDER BY created_at DESC",
+            VOUCHER_ROW_MAPPER);
+    }
+
+    @Override
+    public List<Voucher> findByIds(List<UUID> voucherIds) {
+        if (voucherIds.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Voucher> found = jdbcTemplate.query("SELECT " + VOUCHER_COLUMNS + " from voucher " +
+                    "WHERE id IN (:ids) AND " + NOT_EXPIRED,
+                Collections.singletonMap("ids", voucherIds.stream().map(JdbcVoucherRepository::toBytes).toList()),
+                VOUCHER_ROW_MAPPER).stream()
+            .collect(Collectors.toMap(Voucher::getId, voucher -> voucher));
+        return voucherIds.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+
+    @Override
+    public List<Voucher> findPage(int page, int size) {
+        Map<String, Object> paramMap = new HashMap<>() {{
+            put("size", size);
+            put("offset", (page - 1) * size);
+        }};
+        return jdbcTemplate.query("SELECT v.id, v.name, v.type, v.figure, v.created_at, v.expires_at, v.campaign_id " +
+                "from voucher v " +
+                "JOIN (SELECT id from voucher WHERE " + NOT_EXPIRED + " ORDER BY created_at DESC, id " +
+                "LIMIT :size OFFSET :offset) p " +
+                "ON v.id = p.id ORDER BY v.created_at DESC, v.id",
+            paramMap,
+            VOUCHER_ROW_MAPPER);
+    }
+
+    @Override
+    public List<Voucher> findSlice(VoucherType type, Timestamp createdAt, UUID id, int size) {
+        Map<String, Object> paramMap = new HashMap<>();
+        List<String> conditions = new ArrayList<>(List.of(NOT_EXPIRED));
+        if (type != null) {
+            conditions.add("type = :type");
+            paramMap.put("type", type.toString());
+        }
+        if (createdAt != null) {
+            conditions.add("(created_at < :createdAt OR (created_at = :createdAt AND id > UNHEX(REPLACE(:id, '-', ''))))");
+            paramMap.put("createdAt", createdAt);
+            paramMap.put("id", id.toString());
+        }
+        paramMap.put("size", size);
+
+        String where = " WHERE " + String.join(" AND ", conditions);
+        return jdbcTemplate.query("SELECT " + VOUCHER_COLUMNS + " from voucher" + where +
+            " ORDER BY created_at DESC, id LIMIT :size", paramMap, VOUCHER_ROW_MAPPER);
+    }
+
+    // 통계에는 만료됐지만 아직 정리되지 않은 바우처도 들어 있으므로, 만료일 인덱스로 그만큼을 빼서 목록과 개수를 맞춘다.
+    @Override
+    public long count(VoucherType type) {
+        if (type == null) {
+            return count();
+        }
+        Map<String, Object> paramMap = Collections.singletonMap("type", type.toString());
+        Long total = jdbcTemplate.queryForObject(
+            "SELECT COALESCE(SUM(voucher_count), 0) from voucher_statistics WHERE type = :type", paramMap, Long.class);
+        Long expired = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) from voucher WHERE expires_at <= CURRENT_TIMESTAMP AND type = :type", paramMap, Long.class);
+        return Math.max(0, (total == null ? 0 : total) - (expired == null ? 0 : expired));
+    }
+
+    @Override
+    public long count() {
+        Long total = jdbcTemplate.queryForObject("SELECT COALESCE(SUM(voucher_count), 0) from voucher_statistics",
+            Collections.emptyMap(), Long.class);
+        Long expired = jdbcTemplate.queryForObject("SELECT COUNT(*) from voucher WHERE expires_at <= CURRENT_TIMESTAMP",
+            Collections.emptyMap(), Long.class);
+        return Math.max(0, (total == null ? 0 : total) - (expired == null ? 0 : expired));
+    }
+
+    @Override
+    public List<Map<String, Object>> findFields(List<VoucherField> fields, VoucherType type, Timestamp start,
+                                                Timestamp end) {
+        Map<String, Object> paramMap = new HashMap<>();
+        List<String> conditions = new ArrayList<>(List.of(NOT_EXPIRED));
+        if (type != null) {
+            conditions.add("type = :type");
+            paramMap.put("type", type.toString());
+        }
+        if (start != null && end != null) {
+            conditions.add("created_at BETWEEN :start AND :end");
+            paramMap.put("start", start);
+            paramMap.put("end", end);
+        }
+
+        String columns = fields.stream().map(VoucherField::getColumn).collect(Collectors.joining(", "));
+        String where = " WHERE " + String.join(" AND ", conditions);
+        return jdbcTemplate.query("SELECT " + columns + " from voucher" + where + " ORDER BY created_at DESC",
+            paramMap,
+            (rs, rowNum) -> VoucherField.mapRow(fields, rs));
+    }
+
+    @Override
+    public List<VoucherStatistics> findStatistics(StatisticsUnit unit) {
+        if (unit == StatisticsUnit.HOUR) {
+            return jdbcTemplate.query("SELECT type, bucket, SUM(voucher_count), SUM(figure_sum) from voucher_statistics " +
+                    "GROUP BY type, bucket HAVING SUM(voucher_count) > 0 ORDER BY bucket DESC, type",
+                STATISTICS_ROW_MAPPER);
+        }
+        return jdbcTemplate.query("SELECT type, TIMESTAMP(DATE(bucket)) AS period, SUM(voucher_count), " +
+                "SUM(figure_sum) from voucher_statistics GROUP BY type, period HAVING SUM(voucher_count) > 0 " +
+                "ORDER BY period DESC, type",
+            STATISTICS_ROW_MAPPER);
+    }
+
+    @Override
+    @Transactional
+    public void refreshStatistics() {
+        jdbcTemplate.update("DELETE FROM voucher_statistics", Collections.emptyMap());
+        jdbcTemplate.update("INSERT INTO voucher_statistics(type, bucket, voucher_count, figure_sum) " +
+                "SELECT type, DATE_FORMAT(created_at, '%Y-%m-%d %H:00:00') AS bucket, COUNT(*), SUM(figure) " +
+                "from voucher GROUP BY type, bucket",
+            Collections.emptyMap());
+    }
+
+    // 정리된 마지막 번호와, 빈틈을 넘어 보여줄 만큼 오래된 변경 중 마지막 번호 가운데 큰 값이다.
+    @Override
+    public long findSettledChangeSequence() {
+        Long seq = jdbcTemplate.queryForObject("SELECT GREATEST(" +
+                "(SELECT COALESCE(MAX(seq), 0) from voucher_change " +
+                "WHERE changed_at <= CURRENT_TIMESTAMP - INTERVAL :settle SECOND), " +
+                "(SELECT COALESCE(MAX(pruned_seq), 0) from voucher_change_retention))",
+            Collections.singletonMap("settle", CHANGE_SETTLE_SECONDS), Long.class);
+        return seq == null ? 0 : seq;
+    }
+
+    @Override
+    public List<VoucherChange> findChanges(long after, int limit) {
+        Long prunedSeq = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(pruned_seq), 0) from voucher_change_retention",
+            Collections.emptyMap(), Long.class);
+        if (prunedSeq != null && after < prunedSeq) {
+            throw new WrongRequestParamException("변경 이력이 만료되었습니다. 전체 목록을 다시 조회해주세요.");
+        }
+
+        Map<String, Object> paramMap = new HashMap<>() {{
+            put("after", after);
+            put("limit", limit);
+            put("settle", CHANGE_SETTLE_SECONDS);
+        }};
+        List<ChangeRow> rows = jdbcTemplate.query("SELECT c.seq, c.type, c.voucher_id, c.changed_at, v.id, v.name, " +
+                "v.type, v.figure, v.created_at, v.expires_at, v.campaign_id, " +
+                "c.changed_at <= CURRENT_TIMESTAMP - INTERVAL :settle SECOND from voucher_change c " +
+                "LEFT JOIN voucher v ON c.type = 'CREATE' AND v.id = c.voucher_id " +
+                "WHERE c.seq > :after ORDER BY c.seq LIMIT :limit",
+            paramMap,
+            CHANGE_ROW_MAPPER);
+
+        List<VoucherChange> changes = new ArrayList<>();
+        long expected = after + 1;
+        for (ChangeRow row : rows) {
+            if (row.change().sequence() != expected && !row.settled()) {
+                break;
+            }
+            changes.add(row.change());
+            expected = row.change().sequence() + 1;
+        }
+        return changes;
+    }
+
+    // 오래된 변경부터 limit개씩 지우고, 지운 마지막 번호를 남겨 그보다 앞선 커서로 조회하면 만료를 알린다.
+    @Override
+    @Transactional
+    public int removeChangesBefore(Timestamp before, int limit) {
+        Map<String, Object> paramMap = new HashMap<>() {{
+            put("before", before);
+            put("limit", limit);
+        }};
+        Long lastSeq = jdbcTemplate.queryForObject("SELECT MAX(seq) from (SELECT seq from voucher_change " +
+            "WHERE changed_at < :before ORDER BY seq LIMIT :limit) c", paramMap, Long.class);
+        if (lastSeq == null) {
+            return 0;
+        }
+        Map<String, Object> seqMap = Collections.singletonMap("seq", lastSeq);
+        jdbcTemplate.update("INSERT INTO voucher_change_retention(id, pruned_seq) VALUES (1, :seq) " +
+            "ON DUPLICATE KEY UPDATE pruned_seq = GREATEST(pruned_seq, :seq)", seqMap);
+        return jdbcTemplate.update("DELETE FROM voucher_change WHERE seq <= :seq", seqMap);
     }
 
     @Override
+    @Transactional
     public Voucher save(Voucher voucher) {
+        int result = jdbcTemplate.update(INSERT_VOUCHER_SQL, getVoucherMap(voucher));
+        if (result != 1) {
+            throw new SaveFailException();
+        }
+        jdbcTemplate.update(UPSERT_STATISTICS_SQL, getStatisticsMap(voucher.getType(), voucher.getCreatedAt(),
+            1, voucher.getFigure()));
+        jdbcTemplate.update(INSERT_CHANGE_SQL, getChangeMap(voucher.getId(), VoucherChangeType.CREATE));
+        return voucher;
+    }
+
+    @Override
+    @Transactional
+    public List<Voucher> saveAll(List<Voucher> vouchers) {
+        if (vouchers.isEmpty()) {
+            return vouchers;
+        }
+
+        int[] results = jdbcTemplate.batchUpdate(INSERT_VOUCHER_SQL,
+            SqlParameterSourceUtils.createBatch(vouchers.stream().map(this::getVoucherMap).toList()));
+        if (Arrays.stream(results).anyMatch(result -> result == 0 || result == Statement.EXECUTE_FAILED)) {
+            throw new SaveFailException();
+        }
+
+        Map<List<Object>, List<Voucher>> groups = vouchers.stream()
+            .collect(Collectors.groupingBy(voucher -> List.of(voucher.getType(),
+                StatisticsUnit.HOUR.truncate(voucher.getCreatedAt()))));
+        jdbcTemplate.batchUpdate(UPSERT_STATISTICS_SQL, SqlParameterSourceUtils.createBatch(groups.values().stream()
+            .map(group -> getStatisticsMap(group.get(0).getType(), group.get(0).getCreatedAt(), group.size(),
+                group.stream().mapToLong(Voucher::getFigure).sum()))
+            .toList()));
+        jdbcTemplate.batchUpdate(INSERT_CHANGE_SQL, SqlParameterSourceUtils.createBatch(vouchers.stream()
+            .map(voucher -> getChangeMap(voucher.getId(), VoucherChangeType.CREATE))
+            .toList()));
+        return vouchers;
+    }
+
+    @Override
+    @Transactional
+    public void removeById(UUID voucherId) {
+        List<Voucher> vouchers = jdbcTemplate.query("SELECT " + VOUCHER_COLUMNS + " from voucher " +
+                "WHERE id = UNHEX(REPLACE(:id, '-', '')) FOR UPDATE",
+            Collections.singletonMap("id", voucherId.toString()),
+            VOUCHER_ROW_MAPPER);
+        if (vouchers.isEmpty()) {
+            throw new DeleteFailException();
+        }
+        removeVouchers(vouchers);
+    }
+
+    // 만료일 인덱스 순서로 한 묶음만 잠그고 지우므로 트랜잭션이 짧게 끝나고, 통계와 변경 이력도 같은 행 기준으로 맞춘다.
+    @Override
+    @Transactional
+    public List<Voucher> removeExpired(Timestamp now, int limit) {
         Map<String, Object> paramMap = new HashMap<>() {{
+            put("now", now);
+            put("limit", limit);
+        }};
+        List<Voucher> expired = jdbcTemplate.query("SELECT " + VOUCHER_COLUMNS + " from voucher " +
+                "WHERE expires_at <= :now ORDER BY expires_at LIMIT :limit FOR UPDATE",
+            paramMap,
+            VOUCHER_ROW_MAPPER);
+        removeVouchers(expired);
+        return expired;
+    }
+
+    @Override
+    @Transactional
+    public int removeByIds(Collection<UUID> voucherIds) {
+        if (voucherIds.isEmpty()) {
+            return 0;
+        }
+        List<Voucher> vouchers = jdbcTemplate.query("SELECT " + VOUCHER_COLUMNS + " from voucher " +
+                "WHERE id IN (:ids) FOR UPDATE",
+            Collections.singletonMap("ids", voucherIds.stream().map(JdbcVoucherRepository::toBytes).toList()),
+            VOUCHER_ROW_MAPPER);
+        removeVouchers(vouchers);
+        return vouchers.size();
+    }
+
+    // 만료 여부와 관계없이 조건에 맞는 바우처를 지울 대상으로 고르므로, 이미 만료된 바우처도 함께 정리된다.
+    @Override
+    public List<UUID> findIds(VoucherType type, Timestamp start, Timestamp end, int limit) {
+        Map<String, Object> paramMap = new HashMap<>();
+        List<String> conditions = new ArrayList<>();
+        if (type != null) {
+            conditions.add("type = :type");
+            paramMap.put("type", type.toString());
+        }
+        if (start != null && end != null) {
+            conditions.add("created_at BETWEEN :start AND :end");
+            paramMap.put("start", start);
+            paramMap.put("end", end);
+        }
+        paramMap.put("limit", limit);
+
+        String where = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+        return jdbcTemplate.query("SELECT id from voucher" + where + " ORDER BY created_at LIMIT :limit",
+            paramMap,
+            (resultSet, i) -> toUUID(resultSet.getBytes(1)));
+    }
+
+    // 기본 키 순서로 after 다음부터 읽으므로 OFFSET 없이 인덱스만 따라간다.
+    @Override
+    public List<UUID> findIdSlice(UUID after, int size) {
+        Map<String, Object> paramMap = new HashMap<>();
+        paramMap.put("size", size);
+        String where = "";
+        if (after != null) {
+            where = " WHERE id > :after";
+            paramMap.put("after", toBytes(after));
+        }
+        return jdbcTemplate.query("SELECT id from voucher" + where + " ORDER BY id LIMIT :size",
+            paramMap,
+            (resultSet, i) -> toUUID(resultSet.getBytes(1)));
+    }
+
+    // 지울 행을 먼저 잠근 뒤 통계를 (타입, 시간) 단위로 한 번씩만 빼고, 삭제와 변경 이력 기록을 같은 트랜잭션에서 묶어 처리한다.
+    private void removeVouchers(List<Voucher> vouchers) {
+        if (vouchers.isEmpty()) {
+            return;
+        }
+
+        Map<List<Object>, List<Voucher>> groups = vouchers.stream()
+            .collect(Collectors.groupingBy(voucher -> List.of(voucher.getType(),
+                StatisticsUnit.HOUR.truncate(voucher.getCreatedAt()))));
+        jdbcTemplate.batchUpdate(UPSERT_STATISTICS_SQL, SqlParameterSourceUtils.createBatch(groups.values().stream()
+            .map(group -> getStatisticsMap(group.get(0).getType(), group.get(0).getCreatedAt(), -group.size(),
+                -group.stream().mapToLong(Voucher::getFigure).sum()))
+            .toList()));
+        jdbcTemplate.update("DELETE FROM voucher WHERE id IN (:ids)",
+            Collections.singletonMap("ids", vouchers.stream().map(voucher -> toBytes(voucher.getId())).toList()));
+        jdbcTemplate.batchUpdate(INSERT_CHANGE_SQL, SqlParameterSourceUtils.createBatch(vouchers.stream()
+            .map(voucher -> getChangeMap(voucher.getId(), VoucherChangeType.DELETE))
+            .toList()));
+    }
+
+    private Map<String, Object> getVoucherMap(Voucher voucher) {
+        return new HashMap<>() {{
             put("id", voucher.getId().toString());
             put("name", voucher.getName());
             put("type", voucher.getType().toString());
             put("figure", voucher.getFigure());
             put("created_at", voucher.getCreatedAt());
+            put("expires_at", voucher.getExpiresAt());
+            put("campaign_id", voucher.getCampaignId() == null ? null : voucher.getCampaignId().toString());
         }};
-        int result = jdbcTemplate.update("INSERT INTO voucher(id, name, type, figure, created_at) " +
-                "VALUES (UNHEX(REPLACE(:id, '-', '')), :name, :type, :figure, :created_at)",
-            paramMap);
-        if (result == 1) {
-            return voucher;
-        }
-        throw new SaveFailException();
     }
 
-    @Override
-    public void removeById(UUID voucherId) {
-        int result = jdbcTemplate.update("DELETE FROM voucher WHERE id = (UNHEX(REPLACE(:id, '-', '')))",
-            Collections.singletonMap("id", voucherId.toString()));
-        if (result != 1) {
-            throw new DeleteFailException();
-        }
+    private Map<String, Object> getStatisticsMap(VoucherType type, Timestamp createdAt, long count, long figure) {
+        return new HashMap<>() {{
+            put("type", type.toString());
+            put("created_at", createdAt);
+            put("slot", ThreadLocalRandom.current().nextInt(STATISTICS_SLOTS));
+            put("count", count);
+            put("figure", figure);
+        }};
     }
 
-    private UUID toUUID(byte[] bytes) {
+    private Map<String, Object> getChangeMap(UUID voucherId, VoucherChangeType type) {
+        return new HashMap<>() {{
+            put("id", voucherId.toString());
+            put("change_type", type.toString());
+        }};
+    }
+
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+            .putLong(id.getMostSignificantBits())
+            .putLong(id.getLeastSignificantBits())
+            .array();
+    }
+
+    private static UUID toUUID(byte[] bytes) {
         var buffer = ByteBuffer.wrap(bytes);
         return new UUID(buffer.getLong(), buffer.getLong());
     }
 
-    private Voucher mapToVoucher(ResultSet set) throws SQLException {
-        UUID id = toUUID(set.getBytes("id"));
-        String type = set.getString("type");
-        String name = set.getString("name");
-        int figure = set.getInt("figure");
-        Timestamp createdAt = set.getTimestamp("created_at");
+    public static Voucher mapToVoucher(ResultSet set, int offset) throws SQLException {
+        UUID id = toUUID(set.getBytes(offset + 1));
+        String name = set.getString(offset + 2);
+        String type = set.getString(offset + 3);
+        int figure = set.getInt(offset + 4);
+        Timestamp createdAt = set.getTimestamp(offset + 5);
 
+        Voucher voucher;
         if (type.equals(VoucherType.FIXED.toString())) {
-            return new FixedAmountVoucher(id, name, figure, createdAt);
+            voucher = new FixedAmountVoucher(id, name, figure, createdAt);
         } else {
-            return new PercentDiscountVoucher(id, name, figure, createdAt);
+            voucher = new PercentDiscountVoucher(id, name, figure, createdAt);
         }
+        voucher.setExpiresAt(set.getTimestamp(offset + 6));
+        byte[] campaignId = set.getBytes(offset + 7);
+        voucher.setCampaignId(campaignId == null ? null : toUUID(campaignId));
+        return voucher;
+    }
+
+    private record ChangeRow(VoucherChange change, boolean settled) {
     }
 }
@@ -1,23 +1,77 @@
 package com.prgms.management.voucher.repository;
 
 import com.prgms.management.common.exception.FindFailException;
+import com.prgms.management.common.util.UuidHashMap;
 import com.prgms.management.voucher.model.Voucher;
+import com.prgms.management.voucher.model.VoucherChange;
+import com.prgms.management.voucher.model.VoucherChangeType;
 import com.prgms.management.voucher.model.VoucherType;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
+import javax.annotation.PostConstruct;
 import java.sql.Timestamp;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 @Repository
 @Profile({"local"})
 public class MemoryVoucherRepository implements VoucherRepository {
-    private final Map<UUID, Voucher> storage = new ConcurrentHashMap<>();
+    private static final int MAX_CHANGES = 100_000;
+
+    private final UuidHashMap<Voucher> storage = new UuidHashMap<>();
+    private final VoucherChangeLog changeLog = new VoucherChangeLog(MAX_CHANGES);
+    // 쓰기는 서로 동시에 진행할 수 있도록 read lock을, 체크포인트는 쓰기를 잠시 멈추도록 write lock을 사용한다.
+    private final ReadWriteLock snapshotLock = new ReentrantReadWriteLock();
+    // 쓰기는 read lock 안에서 올리므로, write lock을 잡고 읽은 값은 그때 복사한 저장소의 내용과 정확히 맞는다.
+    private final AtomicLong version = new AtomicLong();
+    private final Lock rebuildLock = new ReentrantLock();
+    private volatile Snapshot snapshot = new Snapshot(0, List.of(), Long.MAX_VALUE);
+    private final VoucherJournal journal;
+
+    public MemoryVoucherRepository() {
+        this.journal = null;
+    }
+
+    @Autowired
+    public MemoryVoucherRepository(Optional<VoucherJournal> journal) {
+        this.journal = journal.orElse(null);
+    }
+
+    @PostConstruct
+    public void recover() {
+        if (journal != null) {
+            journal.recover(storage);
+            version.incrementAndGet();
+            journal.start(this::checkpoint);
+        }
+    }
+
+    public void checkpoint() {
+        if (journal == null) {
+            return;
+        }
+        List<Voucher> vouchers;
+        long firstSegment;
+        snapshotLock.writeLock().lock();
+        try {
+            vouchers = storage.values();
+            firstSegment = journal.roll();
+        } finally {
+            snapshotLock.writeLock().unlock();
+        }
+        journal.writeSnapshot(vouchers, firstSegment);
+    }
 
     @Override
     public Voucher findById(UUID voucherId) {
-        Optional<Voucher> voucher = Optional.ofNullable(storage.get(voucherId));
+        Optional<Voucher> voucher = Optional.ofNullable(storage.get(voucherId))
+            .filter(found -> !found.isExpired(now()));
         if (voucher.isEmpty()) {
             throw new FindFailException("찾는 ID에 대한 바우처가 없습니다.");
         }
@@ -26,35 +80,166 @@ public class MemoryVoucherRepository implements VoucherRepository {
 
     @Override
     public List<Voucher> findByType(VoucherType type) {
-        return storage.values().stream().filter(voucher -> (voucher.getType() == type)).toList();
+        return snapshot().stream().filter(voucher -> (voucher.getType() == type)).toList();
     }
 
     @Override
     public List<Voucher> findByDate(Timestamp start, Timestamp end) {
-        return storage.values().stream().filter(voucher -> (voucher.getCreatedAt().after(start) && voucher.getCreatedAt().before(end))).toList();
+        return snapshot().stream().filter(voucher -> (voucher.getCreatedAt().after(start) && voucher.getCreatedAt().before(end))).toList();
     }
 
     @Override
     public List<Voucher> findByTypeAndDate(VoucherType type, Timestamp start, Timestamp end) {
-        return storage.values().stream().filter(voucher -> (voucher.getCreatedAt().after(start) && voucher.getCreatedAt().before(end) && voucher.getType() == type)).toList();
+        return snapshot().stream().filter(voucher -> (voucher.getCreatedAt().after(start) && voucher.getCreatedAt().before(end) && voucher.getType() == type)).toList();
     }
 
     @Override
     public List<Voucher> findAll() {
-        if (storage.isEmpty()) {
-            return new ArrayList<>();
+        return snapshot();
+    }
+
+    @Override
+    public int removeByIds(Collection<UUID> voucherIds) {
+        int removed = 0;
+        for (UUID voucherId : voucherIds) {
+            if (storage.containsKey(voucherId)) {
+                removeById(voucherId);
+                removed++;
+            }
         }
-        return new ArrayList<>(storage.values());
+        return removed;
+    }
+
+    @Override
+    public List<Voucher> removeExpired(Timestamp now, int limit) {
+        List<Voucher> expired = storage.values().stream()
+            .filter(voucher -> voucher.isExpired(now))
+            .sorted(Comparator.comparing(Voucher::getExpiresAt))
+            .limit(limit)
+            .toList();
+        expired.forEach(voucher -> removeById(voucher.getId()));
+        return expired;
+    }
+
+    @Override
+    public long findSettledChangeSequence() {
+        return changeLog.latest();
+    }
+
+    @Override
+    public List<VoucherChange> findChanges(long after, int limit) {
+        return changeLog.find(after, limit);
     }
 
     @Override
     public Voucher save(Voucher voucher) {
-        storage.put(voucher.getId(), voucher);
+        snapshotLock.readLock().lock();
+        try {
+            if (journal != null) {
+                journal.appendSave(List.of(voucher));
+            }
+            storage.put(voucher.getId(), voucher);
+            changeLog.append(VoucherChangeType.CREATE, voucher.getId(), voucher);
+            version.incrementAndGet();
+        } finally {
+            snapshotLock.readLock().unlock();
+        }
         return voucher;
     }
 
+    @Override
+    public List<Voucher> saveAll(List<Voucher> vouchers) {
+        snapshotLock.readLock().lock();
+        try {
+            if (journal != null) {
+                journal.appendSave(vouchers);
+            }
+            for (Voucher voucher : vouchers) {
+                storage.put(voucher.getId(), voucher);
+                changeLog.append(VoucherChangeType.CREATE, voucher.getId(), voucher);
+            }
+            version.incrementAndGet();
+        } finally {
+            snapshotLock.readLock().unlock();
+        }
+        return vouchers;
+    }
+
     @Override
     public void removeById(UUID voucherId) {
-        storage.remove(voucherId);
+        snapshotLock.readLock().lock();
+        try {
+            if (journal != null && storage.containsKey(voucherId)) {
+                journal.appendDelete(voucherId);
+            }
+            if (storage.remove(voucherId) != null) {
+                changeLog.append(VoucherChangeType.DELETE, voucherId, null);
+                version.incrementAndGet();
+            }
+        } finally {
+            snapshotLock.readLock().unlock();
+        }
+    }
+
+    // 버전이 그대로이고 남은 바우처 중 가장 이른 만료일이 아직 오지 않았다면, 만료를 걸러 둔 목록을 그대로 돌려준다.
+    private List<Voucher> snapshot() {
+        Snapshot current = snapshot;
+        if (current.isValid(version.get(), System.currentTimeMillis())) {
+            return current.vouchers();
+        }
+        return rebuildSnapshot().vouchers();
+    }
+
+    // 한 스레드만 다시 만들고, 기다리던 스레드는 그 결과를 쓴다.
+    // 복사하는 동안만 쓰기를 멈추므로, 스냅샷의 버전과 내용이 어긋나지 않는다.
+    // 버전이 그대로라면 만료일만 지난 것이므로 저장소를 다시 복사하지 않고 지난 목록에서 걸러낸다.
+    private Snapshot rebuildSnapshot() {
+        rebuildLock.lock();
+        try {
+            Snapshot current = snapshot;
+            long now = System.currentTimeMillis();
+            if (current.isValid(version.get(), now)) {
+                return current;
+            }
+
+            long latest = current.version();
+            List<Voucher> vouchers = current.vouchers();
+            if (latest != version.get()) {
+                snapshotLock.writeLock().lock();
+                try {
+                    latest = version.get();
+                    vouchers = storage.values();
+                } finally {
+                    snapshotLock.writeLock().unlock();
+                }
+            }
+            Snapshot next = Snapshot.of(latest, vouchers, now);
+            snapshot = next;
+            return next;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private static Timestamp now() {
+        return new Timestamp(System.currentTimeMillis());
+    }
+
+    private record Snapshot(long version, List<Voucher> vouchers, long validUntil) {
+        private static Snapshot of(long version, List<Voucher> vouchers, long now) {
+            Timestamp at = new Timestamp(now);
+            List<Voucher> live = vouchers.stream().filter(voucher -> !voucher.isExpired(at)).toList();
+            long earliestExpiry = live.stream()
+                .map(Voucher::getExpiresAt)
+                .filter(Objects::nonNull)
+                .mapToLong(Timestamp::getTime)
+                .min()
+                .orElse(Long.MAX_VALUE);
+            return new Snapshot(version, live, earliestExpiry);
+        }
+
+        private boolean isValid(long latest, long now) {
+            return version == latest && now < validUntil;
+        }
     }
 }
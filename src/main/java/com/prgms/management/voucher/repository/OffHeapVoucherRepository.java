@@ -0,0 +1,425 @@
+package com.prgms.management.voucher.repository;
+
+import com.prgms.management.common.exception.DeleteFailException;
+import com.prgms.management.common.exception.FindFailException;
+import com.prgms.management.common.exception.SaveFailException;
+import com.prgms.management.common.util.UuidOrder;
+import com.prgms.management.voucher.model.FixedAmountVoucher;
+import com.prgms.management.voucher.model.PercentDiscountVoucher;
+import com.prgms.management.voucher.model.Voucher;
+import com.prgms.management.voucher.model.VoucherChange;
+import com.prgms.management.voucher.model.VoucherChangeType;
+import com.prgms.management.voucher.model.VoucherType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+@Repository
+@Profile({"offheap"})
+public class OffHeapVoucherRepository implements VoucherRepository {
+    // 레코드 구조 : 사용 여부(1) | id(16) | 타입(1) | 금액(4) | 생성일 millis(8) | 생성일 nanos(4) | 이름 길이(1) | 이름(40)
+    //             | 만료일 millis(8, 없으면 Long.MIN_VALUE)
+    private static final int RECORD_SIZE = 88;
+    private static final int USED = 0;
+    private static final byte IN_USE = 1;
+    private static final byte UNUSED = 0;
+    private static final int MOST_SIG_BITS = 1;
+    private static final int LEAST_SIG_BITS = 9;
+    private static final int NEXT_FREE = 1;
+    private static final int TYPE = 17;
+    private static final int FIGURE = 18;
+    private static final int CREATED_MILLIS = 22;
+    private static final int CREATED_NANOS = 30;
+    private static final int NAME_LENGTH = 34;
+    private static final int NAME = 35;
+    private static final int EXPIRES_MILLIS = 75;
+    private static final long NO_EXPIRY = Long.MIN_VALUE;
+    private static final int MAX_NAME_LENGTH = 20;
+    private static final int INITIAL_INDEX_CAPACITY = 1 << 10;
+    private static final int MAX_CHANGES = 100_000;
+
+    private final int slabRecords;
+    private final List<ByteBuffer> slabs = new ArrayList<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 바우처 내용은 힙에 두지 않도록 id만 기록하고, 조회할 때 슬랩에서 읽어 온다.
+    private final VoucherChangeLog changeLog = new VoucherChangeLog(MAX_CHANGES);
+    private int[] index = new int[INITIAL_INDEX_CAPACITY];
+    private int size = 0;
+    private int nextSlot = 0;
+    private int freeHead = -1;
+
+    public OffHeapVoucherRepository(@Value("${database.offheap.slab-records:1048576}") int slabRecords) {
+        this.slabRecords = slabRecords;
+        this.slabs.add(ByteBuffer.allocateDirect(slabRecords * RECORD_SIZE));
+    }
+
+    @Override
+    public Voucher findById(UUID voucherId) {
+        lock.readLock().lock();
+        try {
+            int slot = findSlot(voucherId.getMostSignificantBits(), voucherId.getLeastSignificantBits());
+            if (slot < 0 || isExpired(slot, System.currentTimeMillis())) {
+                throw new FindFailException("찾는 ID에 대한 바우처가 없습니다.");
+            }
+            return read(slot);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Voucher> findByType(VoucherType type) {
+        return scan(voucher -> voucher.getType() == type);
+    }
+
+    @Override
+    public List<Voucher> findByDate(Timestamp start, Timestamp end) {
+        return scan(voucher -> !voucher.getCreatedAt().before(start) && !voucher.getCreatedAt().after(end));
+    }
+
+    @Override
+    public List<Voucher> findByTypeAndDate(VoucherType type, Timestamp start, Timestamp end) {
+        return scan(voucher -> voucher.getType() == type && !voucher.getCreatedAt().before(start) &&
+            !voucher.getCreatedAt().after(end));
+    }
+
+    @Override
+    public List<Voucher> findAll() {
+        return scan(voucher -> true);
+    }
+
+    @Override
+    public long count() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Voucher save(Voucher voucher) {
+        if (voucher.getName() != null && voucher.getName().length() > MAX_NAME_LENGTH) {
+            throw new SaveFailException("바우처 이름은 " + MAX_NAME_LENGTH + "자를 넘을 수 없습니다.");
+        }
+
+        lock.writeLock().lock();
+        try {
+            long most = voucher.getId().getMostSignificantBits();
+            long least = voucher.getId().getLeastSignificantBits();
+            int slot = findSlot(most, least);
+            if (slot < 0) {
+                slot = allocateSlot();
+                insertIndex(most, least, slot);
+            }
+            write(slot, voucher);
+            changeLog.append(VoucherChangeType.CREATE, voucher.getId(), null);
+            return voucher;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Voucher> saveAll(List<Voucher> vouchers) {
+        vouchers.forEach(this::save);
+        return vouchers;
+    }
+
+    @Override
+    public void removeById(UUID voucherId) {
+        lock.writeLock().lock();
+        try {
+            int slot = removeIndex(voucherId.getMostSignificantBits(), voucherId.getLeastSignificantBits());
+            if (slot < 0) {
+                throw new DeleteFailException();
+            }
+            release(slot);
+            changeLog.append(VoucherChangeType.DELETE, voucherId, null);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 만료일은 레코드 안에 있으므로 객체를 만들지 않고 슬롯만 훑어 후보를 고른 뒤, 이른 순서로 limit개만 지운다.
+    @Override
+    public List<Voucher> removeExpired(Timestamp now, int limit) {
+        lock.writeLock().lock();
+        try {
+            List<Voucher> expired = new ArrayList<>();
+            for (int slot = 0; slot < nextSlot; slot++) {
+                if (slab(slot).get(offset(slot) + USED) == IN_USE && isExpired(slot, now.getTime())) {
+                    expired.add(read(slot));
+                }
+            }
+            expired.sort(Comparator.comparing(Voucher::getExpiresAt));
+            List<Voucher> removed = expired.subList(0, Math.min(limit, expired.size()));
+            for (Voucher voucher : removed) {
+                release(removeIndex(voucher.getId().getMostSignificantBits(),
+                    voucher.getId().getLeastSignificantBits()));
+                changeLog.append(VoucherChangeType.DELETE, voucher.getId(), null);
+            }
+            return List.copyOf(removed);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 바우처 객체를 만들지 않고 슬롯의 id만 훑어, after보다 큰 id 중 가장 작은 size개를 고른다.
+    @Override
+    public List<UUID> findIdSlice(UUID after, int size) {
+        lock.readLock().lock();
+        try {
+            PriorityQueue<UUID> smallest = new PriorityQueue<>(UuidOrder.BYTES.reversed());
+            for (int slot = 0; slot < nextSlot; slot++) {
+                ByteBuffer slab = slab(slot);
+                int offset = offset(slot);
+                if (slab.get(offset + USED) != IN_USE) {
+                    continue;
+                }
+                UUID id = new UUID(slab.getLong(offset + MOST_SIG_BITS), slab.getLong(offset + LEAST_SIG_BITS));
+                if (after != null && UuidOrder.compare(id, after) <= 0) {
+                    continue;
+                }
+                if (smallest.size() < size) {
+                    smallest.add(id);
+                } else if (UuidOrder.compare(id, smallest.peek()) < 0) {
+                    smallest.poll();
+                    smallest.add(id);
+                }
+            }
+            List<UUID> ids = new ArrayList<>(smallest);
+            ids.sort(UuidOrder.BYTES);
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long findSettledChangeSequence() {
+        return changeLog.latest();
+    }
+
+    // 생성 이후 지워진 바우처는 JDBC 저장소와 같이 내용 없이 돌려준다.
+    @Override
+    public List<VoucherChange> findChanges(long after, int limit) {
+        List<VoucherChange> changes = changeLog.find(after, limit);
+        lock.readLock().lock();
+        try {
+            return changes.stream()
+                .map(change -> {
+                    if (change.type() != VoucherChangeType.CREATE) {
+                        return change;
+                    }
+                    int slot = findSlot(change.voucherId().getMostSignificantBits(),
+                        change.voucherId().getLeastSignificantBits());
+                    return new VoucherChange(change.sequence(), change.type(), change.voucherId(), change.changedAt(),
+                        slot < 0 ? null : read(slot));
+                })
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void release(int slot) {
+        ByteBuffer slab = slab(slot);
+        int offset = offset(slot);
+        slab.put(offset + USED, UNUSED);
+        slab.putInt(offset + NEXT_FREE, freeHead);
+        freeHead = slot;
+    }
+
+    private boolean isExpired(int slot, long now) {
+        long expiresAt = slab(slot).getLong(offset(slot) + EXPIRES_MILLIS);
+        return expiresAt != NO_EXPIRY && expiresAt <= now;
+    }
+
+    private List<Voucher> scan(Predicate<Voucher> predicate) {
+        lock.readLock().lock();
+        try {
+            long now = System.currentTimeMillis();
+            List<Voucher> result = new ArrayList<>();
+            for (int slot = 0; slot < nextSlot; slot++) {
+                if (slab(slot).get(offset(slot) + USED) == IN_USE && !isExpired(slot, now)) {
+                    Voucher voucher = read(slot);
+                    if (predicate.test(voucher)) {
+                        result.add(voucher);
+                    }
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Voucher read(int slot) {
+        ByteBuffer slab = slab(slot);
+        int offset = offset(slot);
+        UUID id = new UUID(slab.getLong(offset + MOST_SIG_BITS), slab.getLong(offset + LEAST_SIG_BITS));
+        VoucherType type = VoucherType.values()[slab.get(offset + TYPE)];
+        int figure = slab.getInt(offset + FIGURE);
+        Timestamp createdAt = new Timestamp(slab.getLong(offset + CREATED_MILLIS));
+        createdAt.setNanos(slab.getInt(offset + CREATED_NANOS));
+
+        String name = null;
+        int length = slab.get(offset + NAME_LENGTH);
+        if (length >= 0) {
+            char[] chars = new char[length];
+            for (int i = 0; i < length; i++) {
+                chars[i] = slab.getChar(offset + NAME + i * 2);
+            }
+            name = new String(chars);
+        }
+
+        Voucher voucher;
+        if (type == VoucherType.FIXED) {
+            voucher = new FixedAmountVoucher(id, name, figure, createdAt);
+        } else {
+            voucher = new PercentDiscountVoucher(id, name, figure, createdAt);
+        }
+        long expiresAt = slab.getLong(offset + EXPIRES_MILLIS);
+        if (expiresAt != NO_EXPIRY) {
+            voucher.setExpiresAt(new Timestamp(expiresAt));
+        }
+        return voucher;
+    }
+
+    private void write(int slot, Voucher voucher) {
+        ByteBuffer slab = slab(slot);
+        int offset = offset(slot);
+        slab.put(offset + USED, IN_USE);
+        slab.putLong(offset + MOST_SIG_BITS, voucher.getId().getMostSignificantBits());
+        slab.putLong(offset + LEAST_SIG_BITS, voucher.getId().getLeastSignificantBits());
+        slab.put(offset + TYPE, (byte) voucher.getType().ordinal());
+        slab.putInt(offset + FIGURE, voucher.getFigure());
+        slab.putLong(offset + CREATED_MILLIS, voucher.getCreatedAt().getTime());
+        slab.putInt(offset + CREATED_NANOS, voucher.getCreatedAt().getNanos());
+
+        String name = voucher.getName();
+        slab.put(offset + NAME_LENGTH, (byte) (name == null ? -1 : name.length()));
+        if (name != null) {
+            for (int i = 0; i < name.length(); i++) {
+                slab.putChar(offset + NAME + i * 2, name.charAt(i));
+            }
+        }
+        slab.putLong(offset + EXPIRES_MILLIS, voucher.getExpiresAt() == null ? NO_EXPIRY : voucher.getExpiresAt().getTime());
+    }
+
+    private int allocateSlot() {
+        if (freeHead >= 0) {
+            int slot = freeHead;
+            freeHead = slab(slot).getInt(offset(slot) + NEXT_FREE);
+            return slot;
+        }
+        if (nextSlot == slabs.size() * slabRecords) {
+            slabs.add(ByteBuffer.allocateDirect(slabRecords * RECORD_SIZE));
+        }
+        return nextSlot++;
+    }
+
+    private ByteBuffer slab(int slot) {
+        return slabs.get(slot / slabRecords);
+    }
+
+    private int offset(int slot) {
+        return (slot % slabRecords) * RECORD_SIZE;
+    }
+
+    private boolean matches(int slot, long most, long least) {
+        ByteBuffer slab = slab(slot);
+        int offset = offset(slot);
+        return slab.getLong(offset + MOST_SIG_BITS) == most && slab.getLong(offset + LEAST_SIG_BITS) == least;
+    }
+
+    private int home(long most, long least) {
+        long hash = most ^ least;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return (int) hash & (index.length - 1);
+    }
+
+    private int homeOfSlot(int slot) {
+        ByteBuffer slab = slab(slot);
+        int offset = offset(slot);
+        return home(slab.getLong(offset + MOST_SIG_BITS), slab.getLong(offset + LEAST_SIG_BITS));
+    }
+
+    private int findSlot(long most, long least) {
+        int mask = index.length - 1;
+        for (int i = home(most, least); index[i] != 0; i = (i + 1) & mask) {
+            if (matches(index[i] - 1, most, least)) {
+                return index[i] - 1;
+            }
+        }
+        return -1;
+    }
+
+    private void insertIndex(long most, long least, int slot) {
+        if ((size + 1) * 2 > index.length) {
+            resizeIndex();
+        }
+        int mask = index.length - 1;
+        int i = home(most, least);
+        while (index[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        index[i] = slot + 1;
+        size++;
+    }
+
+    private int removeIndex(long most, long least) {
+        int mask = index.length - 1;
+        int i = home(most, least);
+        while (index[i] != 0 && !matches(index[i] - 1, most, least)) {
+            i = (i + 1) & mask;
+        }
+        if (index[i] == 0) {
+            return -1;
+        }
+
+        int slot = index[i] - 1;
+        index[i] = 0;
+        size--;
+        for (int j = (i + 1) & mask; index[j] != 0; j = (j + 1) & mask) {
+            int k = homeOfSlot(index[j] - 1);
+            boolean movable = i <= j ? (k <= i || k > j) : (k <= i && k > j);
+            if (movable) {
+                index[i] = index[j];
+                index[j] = 0;
+                i = j;
+            }
+        }
+        return slot;
+    }
+
+    private void resizeIndex() {
+        int[] old = index;
+        index = new int[old.length * 2];
+        int mask = index.length - 1;
+        for (int entry : old) {
+            if (entry != 0) {
+                int i = homeOfSlot(entry - 1);
+                while (index[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                index[i] = entry;
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.prgms.management.voucher.repository;
+
+import com.prgms.management.common.exception.WrongRequestParamException;
+import com.prgms.management.voucher.model.Voucher;
+import com.prgms.management.voucher.model.VoucherChange;
+import com.prgms.management.voucher.model.VoucherChangeType;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 한 프로세스 안의 저장소가 함께 쓰는 변경 이력이다. 번호는 먼저 받았지만 아직 기록하지 못한 변경이 있으면
+// 그 뒤의 변경도 보여주지 않으므로, 커서를 앞으로 옮긴 구독자가 변경을 건너뛰지 않는다.
+public class VoucherChangeLog {
+    private final int capacity;
+    private final ConcurrentSkipListMap<Long, VoucherChange> changes = new ConcurrentSkipListMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    // 빈틈 없이 기록이 끝난 마지막 번호
+    private final AtomicLong published = new AtomicLong();
+
+    public VoucherChangeLog(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public void append(VoucherChangeType type, UUID voucherId, Voucher voucher) {
+        long seq = sequence.incrementAndGet();
+        changes.put(seq, new VoucherChange(seq, type, voucherId, new Timestamp(System.currentTimeMillis()), voucher));
+        long current;
+        while (changes.containsKey((current = published.get()) + 1)) {
+            published.compareAndSet(current, current + 1);
+        }
+        long oldest = published.get() - capacity;
+        if (oldest > 0 && changes.firstKey() <= oldest) {
+            changes.headMap(oldest, true).clear();
+        }
+    }
+
+    // 이 번호까지의 변경은 모두 기록되었으므로, 여기서부터 따라가면 빠지는 변경이 없다.
+    public long latest() {
+        return published.get();
+    }
+
+    public List<VoucherChange> find(long after, int limit) {
+        long last = published.get();
+        if (!changes.isEmpty() && after < changes.firstKey() - 1) {
+            throw new WrongRequestParamException("변경 이력이 만료되었습니다. 전체 목록을 다시 조회해주세요.");
+        }
+        if (after >= last) {
+            return List.of();
+        }
+        return changes.subMap(after, false, last, true).values().stream().limit(limit).toList();
+    }
+}
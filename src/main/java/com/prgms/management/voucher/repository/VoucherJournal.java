@@ -0,0 +1,326 @@
+package com.prgms.management.voucher.repository;
+
+import com.prgms.management.common.exception.DeleteFailException;
+import com.prgms.management.common.exception.SaveFailException;
+import com.prgms.management.common.util.UuidHashMap;
+import com.prgms.management.voucher.model.FixedAmountVoucher;
+import com.prgms.management.voucher.model.PercentDiscountVoucher;
+import com.prgms.management.voucher.model.Voucher;
+import com.prgms.management.voucher.model.VoucherType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+@Component
+@Profile({"local"})
+@ConditionalOnProperty(prefix = "voucher.memory.persistence", name = "enabled", havingValue = "true")
+public class VoucherJournal {
+    private static final Logger logger = LoggerFactory.getLogger(VoucherJournal.class);
+    private static final byte SAVE = 1;
+    private static final byte DELETE = 2;
+    // 만료일이 있는 바우처는 SAVE 기록 끝에 만료 시각을 덧붙이므로, 예전 기록도 그대로 읽을 수 있다.
+    private static final byte SAVE_EXPIRING = 3;
+    private static final String SNAPSHOT_FILE = "voucher.snapshot";
+    private static final String SEGMENT_PREFIX = "voucher-";
+    private static final String SEGMENT_SUFFIX = ".wal";
+
+    private final Path directory;
+    private final long snapshotIntervalMillis;
+    private final ScheduledExecutorService scheduler;
+    // 락 순서는 항상 syncLock -> appendLock 이다.
+    private final Object appendLock = new Object();
+    private final Object syncLock = new Object();
+    private FileChannel channel;
+    private long segment;
+    private long writtenPosition;
+    private volatile long syncedPosition;
+
+    public VoucherJournal(@Value("${voucher.memory.persistence.directory:voucher-data}") String directory,
+                          @Value("${voucher.memory.persistence.snapshot-interval-ms:60000}") long snapshotIntervalMillis) {
+        this.directory = Path.of(directory);
+        this.snapshotIntervalMillis = snapshotIntervalMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "voucher-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void recover(UuidHashMap<Voucher> storage) {
+        long start = System.nanoTime();
+        try {
+            Files.createDirectories(directory);
+            long firstSegment = 0;
+            Path snapshotFile = directory.resolve(SNAPSHOT_FILE);
+            if (Files.exists(snapshotFile)) {
+                try (DataInputStream input = open(snapshotFile)) {
+                    firstSegment = input.readLong();
+                    int count = input.readInt();
+                    List<Voucher> vouchers = new ArrayList<>(count);
+                    for (int i = 0; i < count; i++) {
+                        byte op = input.readByte();
+                        vouchers.add(readVoucher(input, op, readId(input)));
+                    }
+                    vouchers.parallelStream().forEach(voucher -> storage.put(voucher.getId(), voucher));
+                }
+            }
+
+            // 같은 키의 기록은 같은 파티션에 순서대로 모이므로 파티션끼리는 병렬로 적용해도 된다.
+            int partitions = Runtime.getRuntime().availableProcessors();
+            List<List<Entry>> tail = new ArrayList<>(partitions);
+            for (int i = 0; i < partitions; i++) {
+                tail.add(new ArrayList<>());
+            }
+            long lastSegment = firstSegment;
+            for (long number : segments()) {
+                lastSegment = Math.max(lastSegment, number);
+                if (number >= firstSegment) {
+                    readSegment(segmentFile(number), partitions, tail);
+                }
+            }
+            IntStream.range(0, partitions).parallel().forEach(partition -> tail.get(partition).forEach(entry -> {
+                if (entry.voucher() == null) {
+                    storage.remove(entry.id());
+                } else {
+                    storage.put(entry.id(), entry.voucher());
+                }
+            }));
+
+            synchronized (appendLock) {
+                segment = lastSegment + 1;
+                channel = openSegment(segment);
+            }
+            logger.info("바우처 {}개를 {}ms 만에 복구하였습니다.", storage.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (IOException e) {
+            throw new IllegalStateException("바우처 저장소를 복구하지 못했습니다.", e);
+        }
+    }
+
+    public void start(Runnable checkpoint) {
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                checkpoint.run();
+            } catch (Exception e) {
+                logger.error("바우처 스냅샷 생성에 실패하였습니다. {}", e.getMessage());
+            }
+        }, snapshotIntervalMillis, snapshotIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        scheduler.shutdownNow();
+        synchronized (syncLock) {
+            synchronized (appendLock) {
+                if (channel != null && channel.isOpen()) {
+                    channel.force(false);
+                    channel.close();
+                }
+            }
+        }
+    }
+
+    public void appendSave(List<Voucher> vouchers) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream output = new DataOutputStream(bytes);
+            for (Voucher voucher : vouchers) {
+                writeVoucher(output, voucher);
+            }
+            append(bytes.toByteArray());
+        } catch (IOException e) {
+            throw new SaveFailException("바우처 변경 이력을 기록하지 못했습니다.");
+        }
+    }
+
+    public void appendDelete(UUID voucherId) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream output = new DataOutputStream(bytes);
+            output.writeByte(DELETE);
+            writeId(output, voucherId);
+            append(bytes.toByteArray());
+        } catch (IOException e) {
+            throw new DeleteFailException("바우처 변경 이력을 기록하지 못했습니다.");
+        }
+    }
+
+    // 새 로그 파일로 넘어가고 그 번호를 반환한다. 호출하는 쪽은 그동안 기록이 끼어들지 않도록 막아야 한다.
+    public long roll() {
+        synchronized (syncLock) {
+            synchronized (appendLock) {
+                try {
+                    channel.force(false);
+                    channel.close();
+                    segment++;
+                    channel = openSegment(segment);
+                    syncedPosition = writtenPosition;
+                    return segment;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+
+    public void writeSnapshot(List<Voucher> vouchers, long firstSegment) {
+        Path temp = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        try (FileOutputStream file = new FileOutputStream(temp.toFile());
+             DataOutputStream output = new DataOutputStream(new BufferedOutputStream(file, 1 << 16))) {
+            output.writeLong(firstSegment);
+            output.writeInt(vouchers.size());
+            for (Voucher voucher : vouchers) {
+                writeVoucher(output, voucher);
+            }
+            output.flush();
+            file.getChannel().force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        try {
+            Files.move(temp, directory.resolve(SNAPSHOT_FILE), StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+            for (long number : segments()) {
+                if (number < firstSegment) {
+                    Files.deleteIfExists(segmentFile(number));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 먼저 fsync를 시작한 스레드가 그때까지 쌓인 기록을 한 번에 디스크로 내리고, 나머지는 그 결과를 함께 사용한다.
+    private void append(byte[] record) throws IOException {
+        long target;
+        synchronized (appendLock) {
+            ByteBuffer buffer = ByteBuffer.wrap(record);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            writtenPosition += record.length;
+            target = writtenPosition;
+        }
+
+        if (syncedPosition >= target) {
+            return;
+        }
+        synchronized (syncLock) {
+            if (syncedPosition >= target) {
+                return;
+            }
+            FileChannel current;
+            long position;
+            synchronized (appendLock) {
+                current = channel;
+                position = writtenPosition;
+            }
+            current.force(false);
+            syncedPosition = position;
+        }
+    }
+
+    private void readSegment(Path file, int partitions, List<List<Entry>> tail) throws IOException {
+        try (DataInputStream input = open(file)) {
+            while (true) {
+                int op = input.read();
+                if (op < 0) {
+                    return;
+                }
+                UUID id = readId(input);
+                Voucher voucher = op == DELETE ? null : readVoucher(input, (byte) op, id);
+                tail.get(Math.floorMod(id.hashCode(), partitions)).add(new Entry(id, voucher));
+            }
+        } catch (EOFException e) {
+            logger.warn("{}의 마지막 기록이 완전하지 않아 무시합니다.", file.getFileName());
+        }
+    }
+
+    private List<Long> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                .map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                .sorted()
+                .toList();
+        }
+    }
+
+    private Path segmentFile(long number) {
+        return directory.resolve(String.format("%s%019d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+    }
+
+    private FileChannel openSegment(long number) throws IOException {
+        return FileChannel.open(segmentFile(number), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.APPEND);
+    }
+
+    private static DataInputStream open(Path file) throws IOException {
+        return new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16));
+    }
+
+    private static void writeId(DataOutputStream output, UUID id) throws IOException {
+        output.writeLong(id.getMostSignificantBits());
+        output.writeLong(id.getLeastSignificantBits());
+    }
+
+    private static UUID readId(DataInputStream input) throws IOException {
+        return new UUID(input.readLong(), input.readLong());
+    }
+
+    private static void writeVoucher(DataOutputStream output, Voucher voucher) throws IOException {
+        output.writeByte(voucher.getExpiresAt() == null ? SAVE : SAVE_EXPIRING);
+        writeId(output, voucher.getId());
+        output.writeByte(voucher.getType().ordinal());
+        output.writeInt(voucher.getFigure());
+        output.writeLong(voucher.getCreatedAt().getTime());
+        output.writeInt(voucher.getCreatedAt().getNanos());
+        output.writeBoolean(voucher.getName() != null);
+        if (voucher.getName() != null) {
+            output.writeUTF(voucher.getName());
+        }
+        if (voucher.getExpiresAt() != null) {
+            output.writeLong(voucher.getExpiresAt().getTime());
+        }
+    }
+
+    private static Voucher readVoucher(DataInputStream input, byte op, UUID id) throws IOException {
+        VoucherType type = VoucherType.values()[input.readByte()];
+        int figure = input.readInt();
+        Timestamp createdAt = new Timestamp(input.readLong());
+        createdAt.setNanos(input.readInt());
+        String name = input.readBoolean() ? input.readUTF() : null;
+        Voucher voucher = type == VoucherType.FIXED
+            ? new FixedAmountVoucher(id, name, figure, createdAt)
+            : new PercentDiscountVoucher(id, name, figure, createdAt);
+        if (op == SAVE_EXPIRING) {
+            voucher.setExpiresAt(new Timestamp(input.readLong()));
+        }
+        return voucher;
+    }
+
+    private record Entry(UUID id, Voucher voucher) {
+    }
+}
@@ -1,11 +1,20 @@
 package com.prgms.management.voucher.repository;
 
-import com.prgms.management.voucher.model.Voucher;
-import com.prgms.management.voucher.model.VoucherType;
+import com.prgms.management.common.exception.DeleteFailException;
+import com.prgms.management.common.exception.FindFailException;
+import com.prgms.management.common.util.UuidOrder;
+import com.prgms.management.config.CacheConfig;
+import com.prgms.management.voucher.model.*;
+import org.springframework.cache.annotation.CacheEvict;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 public interface VoucherRepository {
     Voucher findById(UUID voucherId);
@@ -18,7 +27,135 @@ public interface VoucherRepository {
 
     List<Voucher> findAll();
 
+    // 없거나 만료된 id는 건너뛰고, 찾은 바우처를 ids의 순서대로 반환한다.
+    default List<Voucher> findByIds(List<UUID> voucherIds) {
+        List<Voucher> vouchers = new ArrayList<>();
+        for (UUID voucherId : voucherIds) {
+            try {
+                vouchers.add(findById(voucherId));
+            } catch (FindFailException e) {
+                // 그 사이 지워졌거나 만료된 바우처다.
+            }
+        }
+        return vouchers;
+    }
+
+    // findSlice와 같은 순서로 나누어야 페이지를 이어서 읽을 때 항목이 겹치거나 빠지지 않는다.
+    default List<Voucher> findPage(int page, int size) {
+        return findSlice(null, null, null, Integer.MAX_VALUE).stream()
+            .skip((long) (page - 1) * size)
+            .limit(size)
+            .toList();
+    }
+
+    // createdAt 내림차순, 같은 시각이면 id 바이트 오름차순으로 JDBC 저장소와 같은 순서를 쓴다.
+    default List<Voucher> findSlice(VoucherType type, Timestamp createdAt, UUID id, int size) {
+        Comparator<Voucher> order = Comparator.comparing(Voucher::getCreatedAt).reversed()
+            .thenComparing(Voucher::getId, UuidOrder.BYTES);
+        return findAll().stream()
+            .filter(voucher -> type == null || voucher.getType() == type)
+            .filter(voucher -> createdAt == null || voucher.getCreatedAt().before(createdAt) ||
+                (voucher.getCreatedAt().equals(createdAt) && UuidOrder.compare(voucher.getId(), id) > 0))
+            .sorted(order)
+            .limit(size)
+            .toList();
+    }
+
+    default long count() {
+        return findAll().size();
+    }
+
+    default long count(VoucherType type) {
+        return type == null ? count() : findByType(type).size();
+    }
+
+    default List<Map<String, Object>> findFields(List<VoucherField> fields, VoucherType type, Timestamp start,
+                                                 Timestamp end) {
+        return findAll().stream()
+            .filter(voucher -> type == null || voucher.getType() == type)
+            .filter(voucher -> start == null || end == null ||
+                (!voucher.getCreatedAt().before(start) && !voucher.getCreatedAt().after(end)))
+            .map(voucher -> VoucherField.project(fields, voucher))
+            .toList();
+    }
+
+    default List<VoucherStatistics> findStatistics(StatisticsUnit unit) {
+        Map<List<Object>, List<Voucher>> groups = findAll().stream()
+            .collect(Collectors.groupingBy(voucher -> List.of(voucher.getType(), unit.truncate(voucher.getCreatedAt()))));
+        return groups.values().stream()
+            .map(group -> new VoucherStatistics(
+                group.get(0).getType().toString(),
+                unit.truncate(group.get(0).getCreatedAt()),
+                (long) group.size(),
+                group.stream().mapToLong(Voucher::getFigure).sum()))
+            .sorted(Comparator.comparing(VoucherStatistics::period).reversed().thenComparing(VoucherStatistics::type))
+            .toList();
+    }
+
+    default void refreshStatistics() {
+    }
+
+    // after 다음 번호부터 빈틈 없이 이어지는 변경을 최대 limit개 반환한다. after가 이미 정리된 위치면 WrongRequestParamException이다.
+    List<VoucherChange> findChanges(long after, int limit);
+
+    // 이 번호 이하의 변경은 더 이상 새로 보이지 않으므로, 이 번호부터 변경을 따라가면 빠뜨리는 변경이 없다.
+    default long findSettledChangeSequence() {
+        return 0;
+    }
+
+    // before보다 오래된 변경 이력을 최대 limit개 지우고 지운 개수를 반환한다. 이력의 개수에 상한을 두는 저장소는 지우지 않는다.
+    default int removeChangesBefore(Timestamp before, int limit) {
+        return 0;
+    }
+
     Voucher save(Voucher voucher);
 
+    default List<Voucher> saveAll(List<Voucher> vouchers) {
+        vouchers.forEach(this::save);
+        return vouchers;
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.VOUCHER_TABLE, allEntries = true)
     void removeById(UUID voucherId);
+
+    // 조건에 맞는 바우처의 id를 생성일 순서로 최대 limit개 반환한다. 조건이 비어 있으면 전체가 대상이다.
+    default List<UUID> findIds(VoucherType type, Timestamp start, Timestamp end, int limit) {
+        return findAll().stream()
+            .filter(voucher -> type == null || voucher.getType() == type)
+            .filter(voucher -> start == null || end == null ||
+                (!voucher.getCreatedAt().before(start) && !voucher.getCreatedAt().after(end)))
+            .sorted(Comparator.comparing(Voucher::getCreatedAt))
+            .limit(limit)
+            .map(Voucher::getId)
+            .toList();
+    }
+
+    // id 바이트 오름차순으로 after 다음의 id를 최대 size개 반환한다. after가 null이면 처음부터 읽는다.
+    default List<UUID> findIdSlice(UUID after, int size) {
+        return findAll().stream()
+            .map(Voucher::getId)
+            .filter(id -> after == null || UuidOrder.compare(id, after) > 0)
+            .sorted(UuidOrder.BYTES)
+            .limit(size)
+            .toList();
+    }
+
+    // 없는 id는 건너뛰고 실제로 지운 개수를 반환한다.
+    @CacheEvict(cacheNames = CacheConfig.VOUCHER_TABLE, allEntries = true)
+    default int removeByIds(Collection<UUID> voucherIds) {
+        int removed = 0;
+        for (UUID voucherId : voucherIds) {
+            try {
+                removeById(voucherId);
+                removed++;
+            } catch (DeleteFailException e) {
+                // 이미 지워진 바우처다.
+            }
+        }
+        return removed;
+    }
+
+    // now 시점에 만료된 바우처를 만료일이 이른 순서로 최대 limit개까지 지우고, 지운 바우처를 반환한다.
+    // 만료된 바우처는 조회할 때 이미 빠지므로 화면 캐시를 비우지 않는다.
+    List<Voucher> removeExpired(Timestamp now, int limit);
 }
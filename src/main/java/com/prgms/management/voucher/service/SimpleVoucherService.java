@@ -1,20 +1,41 @@
 package com.prgms.management.voucher.service;
 
-import com.prgms.management.voucher.model.Voucher;
-import com.prgms.management.voucher.model.VoucherType;
+import com.prgms.management.common.dto.PageResponse;
+import com.prgms.management.common.dto.SingleFlightResponse;
+import com.prgms.management.common.util.PageAnchors;
+import com.prgms.management.common.util.SingleFlight;
+import com.prgms.management.voucher.model.*;
 import com.prgms.management.voucher.repository.VoucherRepository;
 import org.springframework.stereotype.Service;
 
 import java.sql.Timestamp;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class SimpleVoucherService implements VoucherService {
+    private static final int MAX_TRACKED_KEYS = 1000;
+    private static final int MAX_PAGE_ANCHORS = 1000;
+    private static final long PAGE_ANCHOR_TTL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
     private final VoucherRepository voucherRepository;
+    private final VoucherSearchIndex voucherSearchIndex;
+    private final VoucherExistenceFilter voucherExistenceFilter;
+    private final VoucherChangeFeed voucherChangeFeed;
+    // 인기 바우처가 공유되면 같은 id 조회가 한꺼번에 몰리므로, 동시에 들어온 조회는 한 번만 DB에 보낸다.
+    private final SingleFlight<UUID, Voucher> lookups = new SingleFlight<>(MAX_TRACKED_KEYS);
+    // 화면은 이전/다음으로만 이동하므로 바로 앞 페이지의 마지막 항목을 알면 OFFSET 없이 읽을 수 있다.
+    private final PageAnchors pageAnchors = new PageAnchors(MAX_PAGE_ANCHORS, PAGE_ANCHOR_TTL_NANOS);
 
-    public SimpleVoucherService(VoucherRepository voucherRepository) {
+    public SimpleVoucherService(VoucherRepository voucherRepository, VoucherSearchIndex voucherSearchIndex,
+                                VoucherExistenceFilter voucherExistenceFilter, VoucherChangeFeed voucherChangeFeed) {
         this.voucherRepository = voucherRepository;
+        this.voucherSearchIndex = voucherSearchIndex;
+        this.voucherExistenceFilter = voucherExistenceFilter;
+        this.voucherChangeFeed = voucherChangeFeed;
     }
 
     @Override
@@ -30,18 +51,127 @@ public class SimpleVoucherService implements VoucherService {
         }
     }
 
+    @Override
+    public PageResponse<Voucher> findVoucherPage(int page, int size) {
+        PageAnchors.Anchor anchor = pageAnchors.find(page - 1, size);
+        List<Voucher> content;
+        if (page == 1) {
+            content = voucherRepository.findSlice(null, null, null, size);
+        } else if (anchor != null) {
+            content = voucherRepository.findSlice(null, anchor.createdAt(), anchor.id(), size);
+        } else {
+            content = voucherRepository.findPage(page, size);
+        }
+        if (!content.isEmpty()) {
+            Voucher last = content.get(content.size() - 1);
+            pageAnchors.remember(page, size, last.getCreatedAt(), last.getId());
+        }
+        return new PageResponse<>(content, page, size, voucherRepository.count());
+    }
+
+    @Override
+    public List<Voucher> findVoucherSlice(VoucherType type, Voucher after, int size) {
+        if (after == null) {
+            return voucherRepository.findSlice(type, null, null, size);
+        }
+        return voucherRepository.findSlice(type, after.getCreatedAt(), after.getId(), size);
+    }
+
+    @Override
+    public long countVouchers(VoucherType type) {
+        return voucherRepository.count(type);
+    }
+
+    @Override
+    public List<Voucher> searchVouchers(String query, int limit) {
+        return voucherSearchIndex.search(query, limit);
+    }
+
+    @Override
+    public List<Map<String, Object>> findVoucherFields(List<VoucherField> fields, VoucherType type, Timestamp start,
+                                                       Timestamp end) {
+        return voucherRepository.findFields(fields, type, start, end);
+    }
+
+    @Override
+    public List<VoucherStatistics> findVoucherStatistics(StatisticsUnit unit) {
+        return voucherRepository.findStatistics(unit);
+    }
+
+    @Override
+    public void refreshVoucherStatistics() {
+        voucherRepository.refreshStatistics();
+    }
+
+    @Override
+    public CompletableFuture<List<VoucherChange>> findVoucherChanges(long after, int limit, long waitMillis) {
+        return voucherChangeFeed.await(after, limit, waitMillis);
+    }
+
     @Override
     public Voucher addVoucher(Voucher voucher) {
-        return voucherRepository.save(voucher);
+        Voucher saved = voucherRepository.save(voucher);
+        voucherExistenceFilter.put(saved);
+        lookups.forget(saved.getId());
+        voucherSearchIndex.put(saved);
+        voucherChangeFeed.signal();
+        return saved;
+    }
+
+    @Override
+    public List<Voucher> addVouchers(List<Voucher> vouchers) {
+        List<Voucher> saved = voucherRepository.saveAll(vouchers);
+        voucherExistenceFilter.putAll(saved);
+        saved.forEach(voucher -> lookups.forget(voucher.getId()));
+        voucherSearchIndex.putAll(saved);
+        voucherChangeFeed.signal();
+        return saved;
     }
 
     @Override
     public Voucher findVoucherById(UUID id) {
-        return voucherRepository.findById(id);
+        return lookups.load(id, () -> voucherExistenceFilter.load(id, () -> voucherRepository.findById(id)));
     }
 
     @Override
     public void removeVoucherById(UUID id) {
         voucherRepository.removeById(id);
+        evict(id);
+        voucherChangeFeed.signal();
+    }
+
+    @Override
+    public List<UUID> findVoucherIds(VoucherType type, Timestamp start, Timestamp end, int limit) {
+        return voucherRepository.findIds(type, start, end, limit);
+    }
+
+    @Override
+    public int removeVouchersByIds(List<UUID> ids) {
+        int removed = voucherRepository.removeByIds(ids);
+        ids.forEach(this::evict);
+        voucherChangeFeed.signal();
+        return removed;
+    }
+
+    @Override
+    public List<Voucher> removeExpiredVouchers(Timestamp now, int limit) {
+        List<Voucher> removed = voucherRepository.removeExpired(now, limit);
+        removed.forEach(voucher -> evict(voucher.getId()));
+        if (!removed.isEmpty()) {
+            voucherChangeFeed.signal();
+        }
+        return removed;
+    }
+
+    @Override
+    public SingleFlightResponse findLookupMetrics(int limit) {
+        return SingleFlightResponse.of("voucher", lookups, limit);
+    }
+
+    // 지운 바우처가 진행 중인 조회, 존재 필터, 검색 색인에 남아 있지 않게 한다.
+    private void evict(UUID id) {
+        lookups.forget(id);
+        voucherExistenceFilter.remove(id);
+        voucherSearchIndex.remove(id);
     }
 }
@@ -0,0 +1,134 @@
+package com.prgms.management.voucher.service;
+
+import com.prgms.management.common.exception.WrongRequestParamException;
+import com.prgms.management.voucher.model.VoucherChange;
+import com.prgms.management.voucher.repository.VoucherRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// 변경을 기다리는 요청이 요청 스레드를 잡아 두거나 저마다 DB를 조회하지 않도록, 대기 요청을 모아 한 스레드가 대신 조회한다.
+// 이 서버의 저장, 삭제는 signal()로 바로 깨우고, 다른 서버의 변경은 poll-interval마다 한 번 조회해 찾는다.
+@Component
+public class VoucherChangeFeed {
+    private static final Logger logger = LoggerFactory.getLogger(VoucherChangeFeed.class);
+
+    private final VoucherRepository voucherRepository;
+    private final long pollIntervalMillis;
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+    private final AtomicLong signals = new AtomicLong();
+    private final AtomicBoolean pollQueued = new AtomicBoolean();
+    private final ScheduledExecutorService scheduler;
+
+    public VoucherChangeFeed(VoucherRepository voucherRepository,
+                             @Value("${voucher.change.poll-interval-ms:1000}") long pollIntervalMillis) {
+        this.voucherRepository = voucherRepository;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "voucher-change-feed");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::poll, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        scheduler.shutdownNow();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        waiters.forEach(waiter -> waiter.future().complete(List.of()));
+    }
+
+    // 바로 보여줄 변경이 없으면 기다리는 동안 변경이 생길 때 완료되고, 끝까지 없으면 빈 목록으로 완료된다.
+    // 처음 조회한 뒤 등록하기 전에 들어온 signal()은 놓칠 수 있으므로, 그 사이 신호가 있었다면 다시 조회하게 한다.
+    public CompletableFuture<List<VoucherChange>> await(long after, int limit, long waitMillis) {
+        long signalled = signals.get();
+        List<VoucherChange> changes = voucherRepository.findChanges(after, limit);
+        if (!changes.isEmpty() || waitMillis <= 0) {
+            return CompletableFuture.completedFuture(changes);
+        }
+        Waiter waiter = new Waiter(after, limit, new CompletableFuture<>());
+        waiters.add(waiter);
+        // 대기 목록에서 뺀 뒤에 완료되는 future를 돌려주어, 응답을 받은 요청이 대기 요청으로 남아 보이지 않게 한다.
+        // 돌려준 future를 취소하면 대기도 함께 끝낸다.
+        CompletableFuture<List<VoucherChange>> result = new CompletableFuture<>();
+        waiter.future().whenComplete((found, e) -> {
+            waiters.remove(waiter);
+            if (e != null) {
+                result.completeExceptionally(e);
+            } else {
+                result.complete(found);
+            }
+        });
+        result.whenComplete((found, e) -> waiter.future().cancel(false));
+        waiter.future().completeOnTimeout(List.of(), waitMillis, TimeUnit.MILLISECONDS);
+        if (signals.get() != signalled) {
+            signal();
+        }
+        return result;
+    }
+
+    // 기다리는 요청이 있을 때만 조회를 한 번 예약하고, 예약된 조회가 시작되기 전의 신호는 하나로 합친다.
+    public void signal() {
+        signals.incrementAndGet();
+        if (!waiters.isEmpty() && pollQueued.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(this::poll);
+            } catch (RuntimeException e) {
+                pollQueued.set(false);
+            }
+        }
+    }
+
+    public int getWaiterCount() {
+        return waiters.size();
+    }
+
+    // 같은 위치를 기다리는 요청은 가장 큰 limit으로 한 번만 조회해 나누어 준다.
+    void poll() {
+        pollQueued.set(false);
+        if (waiters.isEmpty()) {
+            return;
+        }
+        Map<Long, List<Waiter>> groups = waiters.stream()
+            .filter(waiter -> !waiter.future().isDone())
+            .collect(Collectors.groupingBy(Waiter::after));
+        groups.forEach((after, group) -> {
+            int limit = group.stream().mapToInt(Waiter::limit).max().orElse(0);
+            try {
+                List<VoucherChange> changes = voucherRepository.findChanges(after, limit);
+                if (!changes.isEmpty()) {
+                    group.forEach(waiter -> waiter.future()
+                        .complete(changes.subList(0, Math.min(waiter.limit(), changes.size()))));
+                }
+            } catch (WrongRequestParamException e) {
+                // 기다리는 사이 이력이 정리되어 이어서 읽을 수 없으므로 요청에 그대로 알린다.
+                group.forEach(waiter -> waiter.future().completeExceptionally(e));
+            } catch (RuntimeException e) {
+                logger.warn("바우처 변경 이력을 조회하지 못해 다음 조회에서 다시 시도합니다. {}", e.getMessage());
+            }
+        });
+    }
+
+    private record Waiter(long after, int limit, CompletableFuture<List<VoucherChange>> future) {
+    }
+}
@@ -0,0 +1,110 @@
+package com.prgms.management.voucher.service;
+
+import com.prgms.management.common.exception.WrongRequestParamException;
+import com.prgms.management.voucher.model.VoucherChange;
+import com.prgms.management.voucher.model.VoucherChangeType;
+import com.prgms.management.voucher.repository.VoucherRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 바우처 변경 이력을 따라가며 다른 서버와 정리 작업의 저장, 삭제를 이 서버의 검색 색인과 존재 필터에 반영한다.
+// 색인을 만들기 전에 따라갈 위치를 정해 두므로, 만드는 동안의 변경은 다시 반영될 뿐 빠지지 않는다.
+@Component
+public class VoucherChangeFollower {
+    private static final Logger logger = LoggerFactory.getLogger(VoucherChangeFollower.class);
+
+    private final VoucherRepository voucherRepository;
+    private final VoucherSearchIndex voucherSearchIndex;
+    private final VoucherExistenceFilter voucherExistenceFilter;
+    private final long followIntervalMillis;
+    private final int batchSize;
+    private final ScheduledExecutorService scheduler;
+    private long cursor;
+
+    public VoucherChangeFollower(VoucherRepository voucherRepository, VoucherSearchIndex voucherSearchIndex,
+                                 VoucherExistenceFilter voucherExistenceFilter,
+                                 @Value("${voucher.change.follow-interval-ms:1000}") long followIntervalMillis,
+                                 @Value("${voucher.change.follow-batch-size:500}") int batchSize) {
+        this.voucherRepository = voucherRepository;
+        this.voucherSearchIndex = voucherSearchIndex;
+        this.voucherExistenceFilter = voucherExistenceFilter;
+        this.followIntervalMillis = followIntervalMillis;
+        this.batchSize = batchSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "voucher-change-follower");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        rebuild();
+        scheduler.scheduleWithFixedDelay(this::follow, followIntervalMillis, followIntervalMillis,
+            TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        scheduler.shutdownNow();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    public synchronized void rebuild() {
+        try {
+            cursor = voucherRepository.findSettledChangeSequence();
+        } catch (RuntimeException e) {
+            logger.error("바우처 변경 이력의 위치를 읽지 못했습니다. {}", e.getMessage());
+        }
+        voucherSearchIndex.build();
+        voucherExistenceFilter.build();
+    }
+
+    // 끝까지 따라잡으면 존재 필터를 최신으로 표시하고, 변경 이력이 정리되어 따라갈 수 없게 되면 처음부터 다시 만든다.
+    public synchronized long follow() {
+        long applied = 0;
+        try {
+            List<VoucherChange> changes;
+            do {
+                changes = voucherRepository.findChanges(cursor, batchSize);
+                for (VoucherChange change : changes) {
+                    apply(change);
+                    cursor = change.sequence();
+                }
+                applied += changes.size();
+            } while (changes.size() == batchSize && !Thread.currentThread().isInterrupted());
+            if (changes.size() < batchSize) {
+                voucherExistenceFilter.markFresh();
+            }
+        } catch (WrongRequestParamException e) {
+            logger.warn("바우처 변경 이력을 놓쳐 검색 색인과 존재 필터를 다시 만듭니다. {}", e.getMessage());
+            rebuild();
+        } catch (Exception e) {
+            logger.error("바우처 변경 이력을 반영하지 못했습니다. {}", e.getMessage());
+        }
+        return applied;
+    }
+
+    public synchronized long getCursor() {
+        return cursor;
+    }
+
+    private void apply(VoucherChange change) {
+        if (change.type() == VoucherChangeType.DELETE || change.voucher() == null) {
+            voucherExistenceFilter.remove(change.voucherId());
+            voucherSearchIndex.remove(change.voucherId());
+        } else {
+            voucherExistenceFilter.put(change.voucher());
+            voucherSearchIndex.put(change.voucher());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.prgms.management.voucher.service;
+
+import com.prgms.management.voucher.repository.VoucherRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 보관 기간이 지난 바우처 변경 이력을 작은 묶음씩 지워 이력 테이블이 끝없이 커지지 않게 한다.
+@Component
+public class VoucherChangePruner {
+    private static final Logger logger = LoggerFactory.getLogger(VoucherChangePruner.class);
+
+    private final VoucherRepository voucherRepository;
+    private final long retentionMillis;
+    private final long pruneIntervalMillis;
+    private final int chunkSize;
+    private final ScheduledExecutorService scheduler;
+
+    public VoucherChangePruner(VoucherRepository voucherRepository,
+                               @Value("${voucher.change.retention-ms:604800000}") long retentionMillis,
+                               @Value("${voucher.change.prune-interval-ms:3600000}") long pruneIntervalMillis,
+                               @Value("${voucher.change.chunk-size:1000}") int chunkSize) {
+        this.voucherRepository = voucherRepository;
+        this.retentionMillis = retentionMillis;
+        this.pruneIntervalMillis = pruneIntervalMillis;
+        this.chunkSize = chunkSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "voucher-change-pruner");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::prune, pruneIntervalMillis, pruneIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        scheduler.shutdownNow();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    public synchronized long prune() {
+        Timestamp before = new Timestamp(System.currentTimeMillis() - retentionMillis);
+        long pruned = 0;
+        try {
+            int removed;
+            do {
+                removed = voucherRepository.removeChangesBefore(before, chunkSize);
+                pruned += removed;
+            } while (removed == chunkSize && !Thread.currentThread().isInterrupted());
+        } catch (Exception e) {
+            logger.error("바우처 변경 이력 정리에 실패하였습니다. {}", e.getMessage());
+        }
+        if (pruned > 0) {
+            logger.info("보관 기간이 지난 바우처 변경 이력 {}개를 정리하였습니다.", pruned);
+        }
+        return pruned;
+    }
+}
@@ -0,0 +1,164 @@
+package com.prgms.management.voucher.service;
+
+import com.prgms.management.common.exception.FindFailException;
+import com.prgms.management.common.util.UuidBloomFilter;
+import com.prgms.management.voucher.model.Voucher;
+import com.prgms.management.voucher.repository.VoucherRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+// 블룸 필터에 없는 id와 최근에 없다고 확인한 id는 DB에 묻지 않고 바로 FindFailException을 던진다.
+// 이 서버의 저장은 저장한 뒤에 바로, 다른 서버의 저장은 VoucherChangeFollower가 변경 이력을 따라가며 필터에 넣는다.
+// 변경 이력을 max-staleness 동안 따라잡지 못했다면 필터가 뒤처졌을 수 있으므로 블룸 필터를 믿지 않고 DB에 묻는다.
+@Component
+public class VoucherExistenceFilter {
+    private static final Logger logger = LoggerFactory.getLogger(VoucherExistenceFilter.class);
+    private static final String NOT_FOUND_MESSAGE = "찾는 ID에 대한 바우처가 없습니다.";
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int STRIPES = 64;
+    private static final int BUILD_PAGE_SIZE = 10_000;
+
+    private final VoucherRepository voucherRepository;
+    private final long minCapacity;
+    private final long negativeTtlNanos;
+    private final int negativeCapacity;
+    private final long maxStalenessNanos;
+    private final Map<UUID, Long> negatives = new ConcurrentHashMap<>();
+    // 저장이 있을 때마다 id가 속한 칸의 세대를 올려, 저장 전에 시작한 조회가 없다는 결과를 남기지 못하게 한다.
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+    // 만들어지기 전에는 null이며, 그동안의 조회는 모두 DB로 보낸다.
+    private volatile UuidBloomFilter filter;
+    private volatile UuidBloomFilter building;
+    // 이 시각까지는 필터가 변경 이력을 따라잡은 것으로 본다.
+    private volatile long freshUntilNanos = System.nanoTime();
+
+    public VoucherExistenceFilter(VoucherRepository voucherRepository,
+                                  @Value("${voucher.lookup.filter-capacity:1000000}") long minCapacity,
+                                  @Value("${voucher.lookup.negative-ttl-ms:5000}") long negativeTtlMillis,
+                                  @Value("${voucher.lookup.negative-capacity:100000}") int negativeCapacity,
+                                  @Value("${voucher.lookup.max-staleness-ms:5000}") long maxStalenessMillis) {
+        this.voucherRepository = voucherRepository;
+        this.minCapacity = minCapacity;
+        this.negativeTtlNanos = TimeUnit.MILLISECONDS.toNanos(negativeTtlMillis);
+        this.negativeCapacity = negativeCapacity;
+        this.maxStalenessNanos = TimeUnit.MILLISECONDS.toNanos(maxStalenessMillis);
+    }
+
+    // 만드는 동안 저장된 바우처도 놓치지 않도록 새 필터를 먼저 공개한 뒤, 전체 id를 나누어 읽으며 채운다.
+    public void build() {
+        long start = System.nanoTime();
+        try {
+            UuidBloomFilter next = new UuidBloomFilter(Math.max(voucherRepository.count() * 2, minCapacity),
+                FALSE_POSITIVE_RATE);
+            building = next;
+            long count = 0;
+            UUID after = null;
+            List<UUID> ids;
+            do {
+                ids = voucherRepository.findIdSlice(after, BUILD_PAGE_SIZE);
+                ids.forEach(next::put);
+                count += ids.size();
+                if (!ids.isEmpty()) {
+                    after = ids.get(ids.size() - 1);
+                }
+            } while (ids.size() == BUILD_PAGE_SIZE);
+            filter = next;
+            markFresh();
+            logger.info("바우처 {}개의 존재 필터({}비트, 해시 {}개)를 {}ms 만에 만들었습니다.", count,
+                next.getBitCount(), next.getHashCount(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (RuntimeException e) {
+            logger.error("바우처 존재 필터를 만들지 못했습니다. {}", e.getMessage());
+        } finally {
+            building = null;
+        }
+    }
+
+    public void put(Voucher voucher) {
+        UUID id = voucher.getId();
+        UuidBloomFilter current = filter;
+        if (current != null) {
+            current.put(id);
+        }
+        UuidBloomFilter next = building;
+        if (next != null) {
+            next.put(id);
+        }
+        generations.incrementAndGet(stripeOf(id));
+        negatives.remove(id);
+    }
+
+    public void putAll(List<Voucher> vouchers) {
+        vouchers.forEach(this::put);
+    }
+
+    // 변경 이력을 끝까지 따라잡았을 때 호출한다.
+    public void markFresh() {
+        freshUntilNanos = System.nanoTime() + maxStalenessNanos;
+    }
+
+    // 블룸 필터에서는 뺄 수 없으므로, 지운 id는 없다고 확인한 id와 같이 잠시 기억해 DB에 묻지 않는다.
+    public void remove(UUID id) {
+        int stripe = stripeOf(id);
+        remember(id, stripe, generations.get(stripe));
+    }
+
+    public Voucher load(UUID id, Supplier<Voucher> loader) {
+        if (isMissing(id)) {
+            throw new FindFailException(NOT_FOUND_MESSAGE);
+        }
+        int stripe = stripeOf(id);
+        long generation = generations.get(stripe);
+        try {
+            return loader.get();
+        } catch (FindFailException e) {
+            remember(id, stripe, generation);
+            throw e;
+        }
+    }
+
+    private boolean isMissing(UUID id) {
+        UuidBloomFilter current = filter;
+        if (current != null && System.nanoTime() - freshUntilNanos < 0 && !current.mightContain(id)) {
+            return true;
+        }
+        Long expiresAt = negatives.get(id);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - expiresAt < 0) {
+            return true;
+        }
+        negatives.remove(id, expiresAt);
+        return false;
+    }
+
+    private void remember(UUID id, int stripe, long generation) {
+        long now = System.nanoTime();
+        if (negatives.size() >= negativeCapacity) {
+            negatives.values().removeIf(expiresAt -> now - expiresAt >= 0);
+            if (negatives.size() >= negativeCapacity) {
+                return;
+            }
+        }
+        Long expiresAt = now + negativeTtlNanos;
+        negatives.put(id, expiresAt);
+        // 기록하는 사이에 저장이 끼어들었다면 방금 남긴 결과를 되돌린다.
+        if (generations.get(stripe) != generation) {
+            negatives.remove(id, expiresAt);
+        }
+    }
+
+    private static int stripeOf(UUID id) {
+        return (int) ((id.getMostSignificantBits() ^ id.getLeastSignificantBits()) & (STRIPES - 1));
+    }
+}
@@ -0,0 +1,94 @@
+package com.prgms.management.voucher.service;
+
+import com.prgms.management.voucher.dto.ExpirySweeperResponse;
+import com.prgms.management.voucher.model.Voucher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 만료된 바우처를 만료일 순서로 작은 묶음씩 지우므로, 한 번에 오래 잠그지 않고 묶음 사이에 다른 쓰기가 끼어들 수 있다.
+@Component
+public class VoucherExpirySweeper {
+    private static final Logger logger = LoggerFactory.getLogger(VoucherExpirySweeper.class);
+
+    private final VoucherService voucherService;
+    private final long sweepIntervalMillis;
+    private final int chunkSize;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicLong totalSwept = new AtomicLong();
+    private final AtomicLong lastRunSwept = new AtomicLong();
+    private final AtomicLong lastRunMillis = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final AtomicLong lastRunAt = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    public VoucherExpirySweeper(VoucherService voucherService,
+                                @Value("${voucher.expiry.sweep-interval-ms:60000}") long sweepIntervalMillis,
+                                @Value("${voucher.expiry.chunk-size:500}") int chunkSize) {
+        this.voucherService = voucherService;
+        this.sweepIntervalMillis = sweepIntervalMillis;
+        this.chunkSize = chunkSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "voucher-expiry-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::sweep, sweepIntervalMillis, sweepIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        scheduler.shutdownNow();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    // 묶음이 가득 차지 않을 때까지 반복하며, 지연 시간은 이번에 지운 것 중 가장 오래 방치된 만료일을 기준으로 한다.
+    public synchronized long sweep() {
+        long start = System.nanoTime();
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        long swept = 0;
+        long lag = 0;
+        try {
+            List<Voucher> chunk;
+            do {
+                chunk = voucherService.removeExpiredVouchers(now, chunkSize);
+                for (Voucher voucher : chunk) {
+                    lag = Math.max(lag, now.getTime() - voucher.getExpiresAt().getTime());
+                }
+                swept += chunk.size();
+                totalSwept.addAndGet(chunk.size());
+            } while (chunk.size() == chunkSize && !Thread.currentThread().isInterrupted());
+        } catch (Exception e) {
+            failedCount.incrementAndGet();
+            logger.error("만료된 바우처 정리에 실패하였습니다. {}", e.getMessage());
+        } finally {
+            lastRunSwept.set(swept);
+            lastRunMillis.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            lagMillis.set(lag);
+            lastRunAt.set(now.getTime());
+        }
+        if (swept > 0) {
+            logger.info("만료된 바우처 {}개를 {}ms 만에 정리하였습니다.", swept, lastRunMillis.get());
+        }
+        return swept;
+    }
+
+    public ExpirySweeperResponse getMetrics() {
+        return new ExpirySweeperResponse(totalSwept.get(), lastRunSwept.get(), lastRunMillis.get(), lagMillis.get(),
+            lastRunAt.get(), failedCount.get());
+    }
+}
@@ -0,0 +1,83 @@
+package com.prgms.management.voucher.service;
+
+import com.prgms.management.common.util.NgramIndex;
+import com.prgms.management.voucher.model.Voucher;
+import com.prgms.management.voucher.repository.VoucherRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// 바우처 전체가 아니라 id, 이름, 만료일만 색인에 두고, 찾은 id의 바우처는 저장소에서 읽는다.
+// 다른 서버의 변경과 만료 정리는 VoucherChangeFollower가 변경 이력을 따라가며 반영한다.
+@Component
+public class VoucherSearchIndex {
+    private static final Logger logger = LoggerFactory.getLogger(VoucherSearchIndex.class);
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+    private static final int BUILD_PAGE_SIZE = 10_000;
+
+    private final VoucherRepository voucherRepository;
+    private volatile NgramIndex<Entry> index = newIndex();
+
+    public VoucherSearchIndex(VoucherRepository voucherRepository) {
+        this.voucherRepository = voucherRepository;
+    }
+
+    // 전체를 한 번에 읽지 않고 페이지 단위로 새 색인을 채운 뒤 바꿔 끼우므로, 만드는 동안에도 지난 색인으로 검색할 수 있다.
+    // 만드는 동안 지난 색인에만 반영된 변경은 VoucherChangeFollower가 만들기 전의 위치부터 다시 반영한다.
+    public void build() {
+        long start = System.nanoTime();
+        try {
+            NgramIndex<Entry> next = newIndex();
+            List<Voucher> page = voucherRepository.findSlice(null, null, null, BUILD_PAGE_SIZE);
+            while (!page.isEmpty()) {
+                next.putAll(page.stream().map(Entry::of).toList());
+                Voucher last = page.get(page.size() - 1);
+                page = page.size() < BUILD_PAGE_SIZE ? List.of() :
+                    voucherRepository.findSlice(null, last.getCreatedAt(), last.getId(), BUILD_PAGE_SIZE);
+            }
+            index = next;
+            logger.info("바우처 {}개의 검색 색인을 {}ms 만에 만들었습니다.", next.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (RuntimeException e) {
+            logger.error("바우처 검색 색인을 만들지 못했습니다. {}", e.getMessage());
+        }
+    }
+
+    public void put(Voucher voucher) {
+        index.put(Entry.of(voucher));
+    }
+
+    public void putAll(List<Voucher> vouchers) {
+        index.putAll(vouchers.stream().map(Entry::of).toList());
+    }
+
+    public void remove(UUID voucherId) {
+        index.remove(voucherId);
+    }
+
+    // 만료됐지만 아직 정리되지 않은 바우처는 순위를 매기기 전에 빼므로, 결과가 limit보다 적게 잘리지 않는다.
+    public List<Voucher> search(String query, int limit) {
+        long now = System.currentTimeMillis();
+        List<UUID> ids = index.search(query, limit, entry -> entry.expiresAt() > now).stream()
+            .map(Entry::id)
+            .toList();
+        return voucherRepository.findByIds(ids);
+    }
+
+    private static NgramIndex<Entry> newIndex() {
+        return new NgramIndex<>(Entry::id, entry -> Collections.singletonList(entry.name()));
+    }
+
+    private record Entry(UUID id, String name, long expiresAt) {
+        private static Entry of(Voucher voucher) {
+            Timestamp expiresAt = voucher.getExpiresAt();
+            return new Entry(voucher.getId(), voucher.getName(), expiresAt == null ? NO_EXPIRY : expiresAt.getTime());
+        }
+    }
+}
@@ -1,18 +1,49 @@
 package com.prgms.management.voucher.service;
 
-import com.prgms.management.voucher.model.Voucher;
-import com.prgms.management.voucher.model.VoucherType;
+import com.prgms.management.common.dto.PageResponse;
+import com.prgms.management.common.dto.SingleFlightResponse;
+import com.prgms.management.voucher.model.*;
 
 import java.sql.Timestamp;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public interface VoucherService {
     List<Voucher> findVouchers(VoucherType type, Timestamp start, Timestamp end);
 
+    PageResponse<Voucher> findVoucherPage(int page, int size);
+
+    List<Voucher> findVoucherSlice(VoucherType type, Voucher after, int size);
+
+    long countVouchers(VoucherType type);
+
+    List<Voucher> searchVouchers(String query, int limit);
+
+    List<Map<String, Object>> findVoucherFields(List<VoucherField> fields, VoucherType type, Timestamp start,
+                                                Timestamp end);
+
+    List<VoucherStatistics> findVoucherStatistics(StatisticsUnit unit);
+
+    void refreshVoucherStatistics();
+
+    CompletableFuture<List<VoucherChange>> findVoucherChanges(long after, int limit, long waitMillis);
+
     Voucher addVoucher(Voucher voucher);
 
+    List<Voucher> addVouchers(List<Voucher> vouchers);
+
     Voucher findVoucherById(UUID id);
 
     void removeVoucherById(UUID id);
+
+    List<UUID> findVoucherIds(VoucherType type, Timestamp start, Timestamp end, int limit);
+
+    int removeVouchersByIds(List<UUID> ids);
+
+    // now 시점에 만료된 바우처를 만료일이 이른 순서로 최대 limit개까지 지우고, 지운 바우처를 반환한다.
+    List<Voucher> removeExpiredVouchers(Timestamp now, int limit);
+
+    SingleFlightResponse findLookupMetrics(int limit);
 }
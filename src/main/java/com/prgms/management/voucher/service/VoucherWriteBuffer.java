@@ -0,0 +1,220 @@
+package com.prgms.management.voucher.service;
+
+import com.prgms.management.common.exception.SaveFailException;
+import com.prgms.management.common.exception.TooManyRequestsException;
+import com.prgms.management.voucher.dto.WriteBufferResponse;
+import com.prgms.management.voucher.model.Voucher;
+import com.prgms.management.voucher.repository.VoucherRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@ConditionalOnProperty(prefix = "voucher.write-behind", name = "enabled", havingValue = "true")
+public class VoucherWriteBuffer {
+    private static final Logger logger = LoggerFactory.getLogger(VoucherWriteBuffer.class);
+
+    private final VoucherRepository voucherRepository;
+    private final VoucherSearchIndex voucherSearchIndex;
+    private final VoucherExistenceFilter voucherExistenceFilter;
+    private final VoucherChangeFeed voucherChangeFeed;
+    private final BlockingQueue<Voucher> queue;
+    private final Map<UUID, Voucher> pending = new ConcurrentHashMap<>();
+    // 저장 스레드만 사용한다.
+    private final List<Voucher> retry = new ArrayList<>();
+    private final int capacity;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final long retryAfterSeconds;
+    private final AtomicLong flushedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong lastFlushMillis = new AtomicLong();
+    private final AtomicLong maxFlushMillis = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public VoucherWriteBuffer(VoucherRepository voucherRepository, VoucherSearchIndex voucherSearchIndex,
+                              VoucherExistenceFilter voucherExistenceFilter, VoucherChangeFeed voucherChangeFeed,
+                              @Value("${voucher.write-behind.capacity:10000}") int capacity,
+                              @Value("${voucher.write-behind.batch-size:500}") int batchSize,
+                              @Value("${voucher.write-behind.max-delay-ms:200}") long maxDelayMillis) {
+        this.voucherRepository = voucherRepository;
+        this.voucherSearchIndex = voucherSearchIndex;
+        this.voucherExistenceFilter = voucherExistenceFilter;
+        this.voucherChangeFeed = voucherChangeFeed;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+        this.retryAfterSeconds = Math.max(1, (long) Math.ceil(maxDelayMillis / 1000.0));
+        this.writer = new Thread(this::writeLoop, "voucher-write-behind");
+    }
+
+    @PostConstruct
+    public void start() {
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.NANOSECONDS.toMillis(maxDelayNanos) + 10_000);
+        if (!pending.isEmpty()) {
+            logger.error("{}개의 바우처가 저장되지 못하고 종료되었습니다.", pending.size());
+        }
+    }
+
+    // 대기열이 가득 찬 것은 저장 스레드가 묶음을 비우면 풀리는 과부하이므로, 그 뒤에 다시 시도하도록 429로 거절한다.
+    // 넣은 뒤에 종료가 시작됐다면 저장 스레드가 이미 끝났을 수 있으므로, 아직 대기열에 남아 있으면 도로 빼고 거절한다.
+    public Voucher offer(Voucher voucher) {
+        pending.put(voucher.getId(), voucher);
+        if (running) {
+            if (!queue.offer(voucher)) {
+                reject(voucher);
+                throw new TooManyRequestsException("바우처 저장 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.",
+                    retryAfterSeconds);
+            }
+            if (running || !queue.remove(voucher)) {
+                return voucher;
+            }
+        }
+        reject(voucher);
+        throw new SaveFailException("바우처 저장 대기열이 종료되었습니다.");
+    }
+
+    private void reject(Voucher voucher) {
+        pending.remove(voucher.getId());
+        rejectedCount.incrementAndGet();
+    }
+
+    public Optional<Voucher> findPending(UUID id) {
+        return Optional.ofNullable(pending.get(id));
+    }
+
+    public WriteBufferResponse getMetrics() {
+        return new WriteBufferResponse(queue.size(), capacity, flushedCount.get(), failedCount.get(),
+            rejectedCount.get(), lastFlushMillis.get(), maxFlushMillis.get());
+    }
+
+    // 저장에 실패한 바우처는 이미 응답이 나갔으므로 버리지 않고 다음 묶음 앞에 다시 넣는다. 종료 중에 실패하면 더 기다리지 않는다.
+    private void writeLoop() {
+        while (running || !queue.isEmpty() || !retry.isEmpty()) {
+            try {
+                List<Voucher> batch = nextBatch();
+                if (!batch.isEmpty() && !flush(batch)) {
+                    if (!running) {
+                        return;
+                    }
+                    TimeUnit.NANOSECONDS.sleep(maxDelayNanos);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private List<Voucher> nextBatch() throws InterruptedException {
+        List<Voucher> batch = new ArrayList<>(batchSize);
+        if (!retry.isEmpty()) {
+            int size = Math.min(batchSize, retry.size());
+            batch.addAll(retry.subList(0, size));
+            retry.subList(0, size).clear();
+            queue.drainTo(batch, batchSize - batch.size());
+            return batch;
+        }
+        Voucher first = queue.poll(maxDelayNanos, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                break;
+            }
+            Voucher next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private boolean flush(List<Voucher> batch) {
+        long start = System.nanoTime();
+        try {
+            voucherRepository.saveAll(batch);
+            saved(batch);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // 묶음 안의 한 건 때문에 전체가 되돌려졌을 수 있으므로 한 건씩 다시 저장해 본다.
+            List<Voucher> failed = saveEach(batch);
+            fail(failed, e);
+            return failed.isEmpty();
+        } catch (Exception e) {
+            fail(batch, e);
+            return false;
+        } finally {
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            lastFlushMillis.set(elapsed);
+            maxFlushMillis.accumulateAndGet(elapsed, Math::max);
+        }
+    }
+
+    // 앞선 시도가 실제로는 반영됐다면 키가 겹치므로 저장된 것으로 본다.
+    private List<Voucher> saveEach(List<Voucher> batch) {
+        List<Voucher> failed = new ArrayList<>();
+        for (Voucher voucher : batch) {
+            try {
+                voucherRepository.save(voucher);
+                saved(List.of(voucher));
+            } catch (DuplicateKeyException e) {
+                saved(List.of(voucher));
+            } catch (Exception e) {
+                failed.add(voucher);
+            }
+        }
+        return failed;
+    }
+
+    private void saved(List<Voucher> vouchers) {
+        // 대기열에서 빠지기 전에 필터에 넣어야 조회가 그 사이에 없는 바우처로 끝나지 않는다.
+        voucherExistenceFilter.putAll(vouchers);
+        voucherSearchIndex.putAll(vouchers);
+        flushedCount.addAndGet(vouchers.size());
+        vouchers.forEach(voucher -> pending.remove(voucher.getId()));
+        voucherChangeFeed.signal();
+    }
+
+    private void fail(List<Voucher> vouchers, Exception e) {
+        if (vouchers.isEmpty()) {
+            return;
+        }
+        failedCount.addAndGet(vouchers.size());
+        retry.addAll(vouchers);
+        logger.error("{}개의 바우처 일괄 저장에 실패하여 다시 시도합니다. {}", vouchers.size(), e.getMessage());
+    }
+}
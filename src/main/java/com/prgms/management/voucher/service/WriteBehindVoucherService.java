@@ -0,0 +1,113 @@
+package com.prgms.management.voucher.service;
+
+import com.prgms.management.common.dto.PageResponse;
+import com.prgms.management.common.dto.SingleFlightResponse;
+import com.prgms.management.voucher.model.*;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+@Service
+@Primary
+@ConditionalOnProperty(prefix = "voucher.write-behind", name = "enabled", havingValue = "true")
+public class WriteBehindVoucherService implements VoucherService {
+    private final SimpleVoucherService voucherService;
+    private final VoucherWriteBuffer voucherWriteBuffer;
+
+    public WriteBehindVoucherService(SimpleVoucherService voucherService, VoucherWriteBuffer voucherWriteBuffer) {
+        this.voucherService = voucherService;
+        this.voucherWriteBuffer = voucherWriteBuffer;
+    }
+
+    @Override
+    public List<Voucher> findVouchers(VoucherType type, Timestamp start, Timestamp end) {
+        return voucherService.findVouchers(type, start, end);
+    }
+
+    @Override
+    public PageResponse<Voucher> findVoucherPage(int page, int size) {
+        return voucherService.findVoucherPage(page, size);
+    }
+
+    @Override
+    public List<Voucher> findVoucherSlice(VoucherType type, Voucher after, int size) {
+        return voucherService.findVoucherSlice(type, after, size);
+    }
+
+    @Override
+    public long countVouchers(VoucherType type) {
+        return voucherService.countVouchers(type);
+    }
+
+    @Override
+    public List<Voucher> searchVouchers(String query, int limit) {
+        return voucherService.searchVouchers(query, limit);
+    }
+
+    @Override
+    public List<Map<String, Object>> findVoucherFields(List<VoucherField> fields, VoucherType type, Timestamp start,
+                                                       Timestamp end) {
+        return voucherService.findVoucherFields(fields, type, start, end);
+    }
+
+    @Override
+    public List<VoucherStatistics> findVoucherStatistics(StatisticsUnit unit) {
+        return voucherService.findVoucherStatistics(unit);
+    }
+
+    @Override
+    public void refreshVoucherStatistics() {
+        voucherService.refreshVoucherStatistics();
+    }
+
+    @Override
+    public CompletableFuture<List<VoucherChange>> findVoucherChanges(long after, int limit, long waitMillis) {
+        return voucherService.findVoucherChanges(after, limit, waitMillis);
+    }
+
+    @Override
+    public Voucher addVoucher(Voucher voucher) {
+        return voucherWriteBuffer.offer(voucher);
+    }
+
+    @Override
+    public List<Voucher> addVouchers(List<Voucher> vouchers) {
+        return voucherService.addVouchers(vouchers);
+    }
+
+    @Override
+    public Voucher findVoucherById(UUID id) {
+        return voucherWriteBuffer.findPending(id).orElseGet(() -> voucherService.findVoucherById(id));
+    }
+
+    @Override
+    public void removeVoucherById(UUID id) {
+        voucherService.removeVoucherById(id);
+    }
+
+    @Override
+    public List<UUID> findVoucherIds(VoucherType type, Timestamp start, Timestamp end, int limit) {
+        return voucherService.findVoucherIds(type, start, end, limit);
+    }
+
+    @Override
+    public int removeVouchersByIds(List<UUID> ids) {
+        return voucherService.removeVouchersByIds(ids);
+    }
+
+    @Override
+    public List<Voucher> removeExpiredVouchers(Timestamp now, int limit) {
+        return voucherService.removeExpiredVouchers(now, limit);
+    }
+
+    @Override
+    public SingleFlightResponse findLookupMetrics(int limit) {
+        return voucherService.findLookupMetrics(limit);
+    }
+}
@@ -0,0 +1,38 @@
+package com.prgms.management.voucher_wallet.controller;
+
+import com.prgms.management.common.dto.Response;
+import com.prgms.management.common.exception.WrongRequestParamException;
+import com.prgms.management.common.ratelimit.AdmissionCategory;
+import com.prgms.management.common.ratelimit.RateLimit;
+import com.prgms.management.voucher_wallet.dto.VoucherClaimRequest;
+import com.prgms.management.voucher_wallet.dto.VoucherClaimResponse;
+import com.prgms.management.voucher_wallet.service.VoucherWalletService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("api/v1/vouchers")
+public class APIVoucherWalletController {
+    private final VoucherWalletService voucherWalletService;
+
+    public APIVoucherWalletController(VoucherWalletService voucherWalletService) {
+        this.voucherWalletService = voucherWalletService;
+    }
+
+    @PostMapping("{id}/claim")
+    @RateLimit(AdmissionCategory.WRITE)
+    public ResponseEntity<Response> voucherClaim(@PathVariable("id") UUID voucherId,
+                                                 @RequestBody VoucherClaimRequest request) {
+        if (request.customerId() == null) {
+            throw new WrongRequestParamException("customerId는 비어 있을 수 없습니다.");
+        }
+
+        voucherWalletService.claimVoucher(request.customerId(), voucherId);
+        Response response = new Response(HttpStatus.CREATED.value(), "바우처 지급 성공",
+            new VoucherClaimResponse(voucherId, request.customerId()));
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+}
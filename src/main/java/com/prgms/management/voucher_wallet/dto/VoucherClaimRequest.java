@@ -0,0 +1,9 @@
+package com.prgms.management.voucher_wallet.dto;
+
+import java.util.UUID;
+
+public record VoucherClaimRequest(
+    UUID customerId
+) {
+
+}
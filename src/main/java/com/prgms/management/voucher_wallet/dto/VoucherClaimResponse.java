@@ -0,0 +1,10 @@
+package com.prgms.management.voucher_wallet.dto;
+
+import java.util.UUID;
+
+public record VoucherClaimResponse(
+    UUID voucherId,
+    UUID customerId
+) {
+
+}
@@ -0,0 +1,8 @@
+package com.prgms.management.voucher_wallet.entity;
+
+public enum ClaimResult {
+    CLAIMED,
+    ALREADY_CLAIMED,
+    VOUCHER_NOT_FOUND,
+    CUSTOMER_NOT_FOUND
+}
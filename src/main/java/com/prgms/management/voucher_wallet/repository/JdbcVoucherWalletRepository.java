@@ -1,31 +1,39 @@
 package com.prgms.management.voucher_wallet.repository;
 
+import com.prgms.management.common.exception.AlreadyClaimedException;
 import com.prgms.management.common.exception.FindFailException;
 import com.prgms.management.common.exception.SaveFailException;
 import com.prgms.management.customer.model.Customer;
-import com.prgms.management.customer.repository.CustomerRepository;
-import com.prgms.management.voucher.model.Voucher;
-import com.prgms.management.voucher.repository.VoucherRepository;
+import com.prgms.management.customer.repository.JdbcCustomerRepository;
+import com.prgms.management.voucher.repository.JdbcVoucherRepository;
+import com.prgms.management.voucher_wallet.entity.ClaimResult;
 import com.prgms.management.voucher_wallet.entity.VoucherWallet;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.nio.ByteBuffer;
-import java.sql.ResultSet;
-import java.sql.SQLException;
 import java.util.*;
 
 @Repository
 public class JdbcVoucherWalletRepository implements VoucherWalletRepository {
+    private static final String CUSTOMER_COLUMNS = "c.id, c.name, c.type, c.email, c.last_login_at, c.created_at";
+    private static final String VOUCHER_COLUMNS = "v.id, v.name, v.type, v.figure, v.created_at, v.expires_at, " +
+        "v.campaign_id";
+    // 고객과 바우처를 한 번의 조인으로 함께 읽어 지갑 한 건마다 추가 조회가 일어나지 않도록 한다.
+    private static final String VOUCHER_WALLET_SELECT = "SELECT w.id, " + CUSTOMER_COLUMNS + ", " + VOUCHER_COLUMNS +
+        " from voucher_wallet w JOIN customer c ON c.id = w.customer_id JOIN voucher v ON v.id = w.voucher_id ";
+    private static final RowMapper<VoucherWallet> VOUCHER_WALLET_ROW_MAPPER = (rs, rowNum) ->
+        new VoucherWallet(toUUID(rs.getBytes(1)), JdbcCustomerRepository.mapToCustomer(rs, 1),
+            JdbcVoucherRepository.mapToVoucher(rs, 7));
+
     private final NamedParameterJdbcTemplate jdbcTemplate;
-    private final VoucherRepository voucherRepository;
-    private final CustomerRepository customerRepository;
 
-    public JdbcVoucherWalletRepository(NamedParameterJdbcTemplate jdbcTemplate, VoucherRepository voucherRepository,
-                                       CustomerRepository customerRepository) {
+    public JdbcVoucherWalletRepository(NamedParameterJdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
-        this.voucherRepository = voucherRepository;
-        this.customerRepository = customerRepository;
     }
 
     @Override
@@ -35,47 +43,77 @@ public class JdbcVoucherWalletRepository implements VoucherWalletRepository {
             put("voucherId", voucherWallet.getVoucher().getId().toString());
             put("customerId", voucherWallet.getCustomer().getId().toString());
         }};
-        int result = jdbcTemplate.update("INSERT INTO voucher_wallet(id, customer_id, voucher_id) " +
-                "VALUES (UNHEX(REPLACE(:id, '-', '')), UNHEX(REPLACE(:customerId, '-', '')), UNHEX(REPLACE" +
-                "(:voucherId, '-', '')))",
-            paramMap);
+        int result;
+        try {
+            result = jdbcTemplate.update("INSERT INTO voucher_wallet(id, customer_id, voucher_id) " +
+                    "VALUES (UNHEX(REPLACE(:id, '-', '')), UNHEX(REPLACE(:customerId, '-', '')), UNHEX(REPLACE" +
+                    "(:voucherId, '-', '')))",
+                paramMap);
+        } catch (DuplicateKeyException e) {
+            throw new AlreadyClaimedException();
+        }
         if (result == 1) {
             return voucherWallet;
         }
         throw new SaveFailException("바우처 지갑 저장에 실패하였습니다.");
     }
 
+    // 만료되지 않은 바우처가 있을 때만 한 행을 넣고, 동시에 들어온 나머지 요청은 uk_voucher_wallet_voucher_id에 막혀 바로 실패한다.
+    @Override
+    public ClaimResult claim(UUID customerId, UUID voucherId) {
+        Map<String, Object> paramMap = new HashMap<>() {{
+            put("id", UUID.randomUUID().toString());
+            put("voucherId", voucherId.toString());
+            put("customerId", customerId.toString());
+        }};
+        try {
+            int result = jdbcTemplate.update("INSERT INTO voucher_wallet(id, customer_id, voucher_id) " +
+                    "SELECT UNHEX(REPLACE(:id, '-', '')), UNHEX(REPLACE(:customerId, '-', '')), v.id from voucher v " +
+                    "WHERE v.id = UNHEX(REPLACE(:voucherId, '-', '')) " +
+                    "AND (v.expires_at IS NULL OR v.expires_at > CURRENT_TIMESTAMP)",
+                paramMap);
+            return result == 1 ? ClaimResult.CLAIMED : ClaimResult.VOUCHER_NOT_FOUND;
+        } catch (DuplicateKeyException e) {
+            return ClaimResult.ALREADY_CLAIMED;
+        } catch (DataIntegrityViolationException e) {
+            // 외래 키 위반은 고객이 없을 때뿐 아니라 그 사이 바우처가 지워져도 일어나므로, 어느 쪽이 없는지 확인한다.
+            if (!exists("customer", customerId)) {
+                return ClaimResult.CUSTOMER_NOT_FOUND;
+            }
+            if (!exists("voucher", voucherId)) {
+                return ClaimResult.VOUCHER_NOT_FOUND;
+            }
+            throw new SaveFailException("바우처 지급에 실패하였습니다. " + e.getMessage());
+        }
+    }
+
     @Override
     public List<VoucherWallet> findByCustomer(Customer customer) {
-        return jdbcTemplate.query("SELECT * from voucher_wallet where customer_id = UNHEX(REPLACE(:customerId, '-', " +
-                "''))",
+        return jdbcTemplate.query(VOUCHER_WALLET_SELECT + "where w.customer_id = UNHEX(REPLACE(:customerId, '-', ''))",
             Collections.singletonMap("customerId", customer.getId().toString()),
-            (rs, rowNum) -> mapToVoucherWallet(rs));
+            VOUCHER_WALLET_ROW_MAPPER);
     }
 
     @Override
     public Customer findCustomerByVoucherId(UUID voucherId) {
-        VoucherWallet result = jdbcTemplate.queryForObject("SELECT * from voucher_wallet where voucher_id = UNHEX" +
-                "(REPLACE(:voucherId, '-', ''))",
-            Collections.singletonMap("voucherId", voucherId.toString()),
-            (rs, rowNum) -> mapToVoucherWallet(rs));
-        if (result != null) {
-            return result.getCustomer();
+        try {
+            return jdbcTemplate.queryForObject("SELECT " + CUSTOMER_COLUMNS + " from voucher_wallet w " +
+                    "JOIN customer c ON c.id = w.customer_id where w.voucher_id = UNHEX(REPLACE(:voucherId, '-', ''))",
+                Collections.singletonMap("voucherId", voucherId.toString()),
+                (rs, rowNum) -> JdbcCustomerRepository.mapToCustomer(rs, 0));
+        } catch (EmptyResultDataAccessException e) {
+            throw new FindFailException("존재하지 않은 ID로 정보 조회에 실패했습니다.");
         }
-        throw new FindFailException("존재하지 않은 ID로 정보 조회에 실패했습니다.");
     }
 
-    private UUID toUUID(byte[] bytes) {
-        var buffer = ByteBuffer.wrap(bytes);
-        return new UUID(buffer.getLong(), buffer.getLong());
+    private boolean exists(String table, UUID id) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT EXISTS(SELECT 1 from " + table +
+                " WHERE id = UNHEX(REPLACE(:id, '-', '')))",
+            Collections.singletonMap("id", id.toString()), Boolean.class));
     }
 
-    private VoucherWallet mapToVoucherWallet(ResultSet set) throws SQLException {
-        UUID id = toUUID(set.getBytes("id"));
-        UUID customerId = toUUID(set.getBytes("customer_id"));
-        UUID voucherId = toUUID(set.getBytes("voucher_id"));
-        Customer customer = customerRepository.findById(customerId);
-        Voucher voucher = voucherRepository.findById(voucherId);
-        return new VoucherWallet(id, customer, voucher);
+    private static UUID toUUID(byte[] bytes) {
+        var buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
     }
 }
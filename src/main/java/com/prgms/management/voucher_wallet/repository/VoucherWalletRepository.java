@@ -1,6 +1,7 @@
 package com.prgms.management.voucher_wallet.repository;
 
 import com.prgms.management.customer.model.Customer;
+import com.prgms.management.voucher_wallet.entity.ClaimResult;
 import com.prgms.management.voucher_wallet.entity.VoucherWallet;
 
 import java.util.List;
@@ -9,6 +10,9 @@ import java.util.UUID;
 public interface VoucherWalletRepository {
     VoucherWallet giveVoucherToCustomer(VoucherWallet voucherWallet);
 
+    // 아직 누구에게도 지급되지 않은 바우처일 때만 고객에게 지급한다. 잠금이나 재시도 없이 한 번의 INSERT로 결과가 정해진다.
+    ClaimResult claim(UUID customerId, UUID voucherId);
+
     List<VoucherWallet> findByCustomer(Customer customer);
 
     Customer findCustomerByVoucherId(UUID voucherId);
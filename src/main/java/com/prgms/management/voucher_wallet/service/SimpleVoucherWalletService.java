@@ -0,0 +1,28 @@
+package com.prgms.management.voucher_wallet.service;
+
+import com.prgms.management.common.exception.AlreadyClaimedException;
+import com.prgms.management.common.exception.FindFailException;
+import com.prgms.management.voucher_wallet.repository.VoucherWalletRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+@Service
+public class SimpleVoucherWalletService implements VoucherWalletService {
+    private final VoucherWalletRepository voucherWalletRepository;
+
+    public SimpleVoucherWalletService(VoucherWalletRepository voucherWalletRepository) {
+        this.voucherWalletRepository = voucherWalletRepository;
+    }
+
+    @Override
+    public void claimVoucher(UUID customerId, UUID voucherId) {
+        switch (voucherWalletRepository.claim(customerId, voucherId)) {
+            case ALREADY_CLAIMED -> throw new AlreadyClaimedException();
+            case VOUCHER_NOT_FOUND -> throw new FindFailException("지급할 수 있는 바우처가 없습니다.");
+            case CUSTOMER_NOT_FOUND -> throw new FindFailException("찾는 ID에 대한 고객이 없습니다.");
+            default -> {
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.prgms.management.voucher_wallet.service;
+
+import java.util.UUID;
+
+public interface VoucherWalletService {
+    void claimVoucher(UUID customerId, UUID voucherId);
+}
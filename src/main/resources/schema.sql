@@ -6,7 +6,10 @@ CREATE TABLE customer
     email         varchar(50) NOT NULL,
     last_login_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP(),
     created_at    TIMESTAMP DEFAULT CURRENT_TIMESTAMP(),
-    CONSTRAINT unq_user_email UNIQUE (email)
+    CONSTRAINT unq_user_email UNIQUE (email),
+    INDEX idx_customer_created_at (created_at DESC, id),
+    INDEX idx_customer_type_created_at (type, created_at DESC, id),
+    INDEX idx_customer_last_login_at (last_login_at)
 );
 
 CREATE TABLE voucher
@@ -15,7 +18,13 @@ CREATE TABLE voucher
     name       varchar(20) NOT NULL,
     type       varchar(20) NOT NULL,
     figure     int         NOT NULL,
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP()
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP(),
+    expires_at TIMESTAMP NULL DEFAULT NULL,
+    campaign_id BINARY(16) NULL DEFAULT NULL,
+    INDEX idx_voucher_created_at (created_at),
+    INDEX idx_voucher_type_created_at (type, created_at),
+    INDEX idx_voucher_expires_at (expires_at),
+    INDEX idx_voucher_campaign_id (campaign_id)
 );
 
 CREATE TABLE voucher_wallet
@@ -23,6 +32,53 @@ CREATE TABLE voucher_wallet
     id          BINARY(16) PRIMARY KEY,
     customer_id BINARY(16) NOT NULL,
     voucher_id  BINARY(16) NOT NULL,
+    UNIQUE KEY uk_voucher_wallet_voucher_id (voucher_id),
     FOREIGN KEY (customer_id) REFERENCES customer (id) ON DELETE CASCADE,
     FOREIGN KEY (voucher_id) REFERENCES voucher (id) ON DELETE CASCADE
-);
\ No newline at end of file
+);
+
+CREATE TABLE voucher_statistics
+(
+    type          varchar(20) NOT NULL,
+    bucket        DATETIME    NOT NULL,
+    slot          TINYINT     NOT NULL DEFAULT 0,
+    voucher_count int         NOT NULL,
+    figure_sum    bigint      NOT NULL,
+    PRIMARY KEY (type, bucket, slot)
+);
+
+CREATE TABLE voucher_change
+(
+    seq        BIGINT AUTO_INCREMENT PRIMARY KEY,
+    voucher_id BINARY(16)  NOT NULL,
+    type       varchar(10) NOT NULL,
+    changed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP(),
+    INDEX idx_voucher_change_changed_at (changed_at)
+);
+
+CREATE TABLE voucher_change_retention
+(
+    id         TINYINT PRIMARY KEY,
+    pruned_seq BIGINT NOT NULL
+);
+
+CREATE TABLE voucher_campaign
+(
+    id         BINARY(16) PRIMARY KEY,
+    name       varchar(20) NOT NULL,
+    type       varchar(20) NOT NULL,
+    figure     int         NOT NULL,
+    stock      int         NOT NULL,
+    issued     int         NOT NULL DEFAULT 0,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP()
+);
+
+CREATE TABLE voucher_campaign_lease
+(
+    campaign_id BINARY(16)   NOT NULL,
+    holder      varchar(36)  NOT NULL,
+    amount      int          NOT NULL,
+    renewed_at  TIMESTAMP(3) NOT NULL,
+    PRIMARY KEY (campaign_id, holder),
+    FOREIGN KEY (campaign_id) REFERENCES voucher_campaign (id) ON DELETE CASCADE
+);
@@ -0,0 +1,116 @@
+package com.prgms.management.bulk;
+
+import com.prgms.management.common.bulk.BulkDeleteExecutor;
+import com.prgms.management.common.bulk.BulkDeleteJob;
+import com.prgms.management.common.bulk.BulkDeleteStatus;
+import com.prgms.management.common.dto.BulkDeleteResponse;
+import com.prgms.management.common.exception.FindFailException;
+import com.prgms.management.voucher.model.FixedAmountVoucher;
+import com.prgms.management.voucher.model.Voucher;
+import com.prgms.management.voucher.repository.MemoryVoucherRepository;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("BulkDeleteExecutor 유닛 테스트")
+class BulkDeleteExecutorTest {
+    BulkDeleteExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new BulkDeleteExecutor(2, 0);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.stop();
+    }
+
+    @DisplayName("submit() : 대량 삭제 작업 실행 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class SubmitTest {
+        @DisplayName("성공 : id 목록을 묶음 크기씩 나누어 지우고, 없는 id는 처리 건수에만 포함됩니다.")
+        @Test
+        void submitIdsSuccess() throws InterruptedException {
+            // given
+            MemoryVoucherRepository repository = new MemoryVoucherRepository();
+            List<UUID> ids = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                ids.add(repository.save(new FixedAmountVoucher(1000)).getId());
+            }
+            Voucher kept = repository.save(new FixedAmountVoucher(2000));
+            ids.add(UUID.randomUUID());
+            // when
+            BulkDeleteJob job = executor.submit(new BulkDeleteJob("voucher", (long) ids.size(),
+                BulkDeleteJob.chunksOf(ids), repository::removeByIds));
+            BulkDeleteResponse result = await(job);
+            // then
+            assertThat(result.status(), is(BulkDeleteStatus.DONE.name()));
+            assertThat(result.total(), is(5L));
+            assertThat(result.processed(), is(5L));
+            assertThat(result.deleted(), is(4L));
+            assertThat(result.chunks(), is(3L));
+            assertThat(repository.findAll(), contains(samePropertyValuesAs(kept)));
+        }
+
+        @DisplayName("성공 : 조건으로 고른 대상이 지워지지 않고 다시 나오면 작업을 멈춥니다.")
+        @Test
+        void submitStuckSource() throws InterruptedException {
+            // given
+            List<UUID> stuck = List.of(UUID.randomUUID());
+            // when
+            BulkDeleteJob job = executor.submit(new BulkDeleteJob("voucher", null, size -> stuck, ids -> 0));
+            BulkDeleteResponse result = await(job);
+            // then
+            assertThat(result.status(), is(BulkDeleteStatus.DONE.name()));
+            assertThat(result.chunks(), is(1L));
+            assertThat(result.message(), is(notNullValue()));
+        }
+
+        @DisplayName("실패 : 삭제 중 예외가 발생하면 FAILED 상태와 메시지가 남습니다.")
+        @Test
+        void submitFail() throws InterruptedException {
+            // given
+            List<UUID> ids = List.of(UUID.randomUUID());
+            // when
+            BulkDeleteJob job = executor.submit(new BulkDeleteJob("voucher", 1L, BulkDeleteJob.chunksOf(ids), chunk -> {
+                throw new IllegalStateException("삭제 실패");
+            }));
+            BulkDeleteResponse result = await(job);
+            // then
+            assertThat(result.status(), is(BulkDeleteStatus.FAILED.name()));
+            assertThat(result.message(), is("삭제 실패"));
+        }
+    }
+
+    @DisplayName("find() : 대량 삭제 작업 조회 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class FindTest {
+        @DisplayName("실패 : 다른 대상의 작업 ID로 조회하는 경우 FindFailException 예외가 발생합니다.")
+        @Test
+        void findFail() throws InterruptedException {
+            BulkDeleteJob job = executor.submit(new BulkDeleteJob("voucher", 0L, BulkDeleteJob.chunksOf(List.of()),
+                ids -> 0));
+            await(job);
+
+            assertThat(executor.find("voucher", job.getId()), is(job));
+            assertThrows(FindFailException.class, () -> executor.find("customer", job.getId()));
+        }
+    }
+
+    private static BulkDeleteResponse await(BulkDeleteJob job) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!job.isFinished() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        return job.toResponse();
+    }
+}
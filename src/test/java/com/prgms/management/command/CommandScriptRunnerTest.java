@@ -0,0 +1,189 @@
+package com.prgms.management.command;
+
+import com.prgms.management.customer.model.Customer;
+import com.prgms.management.customer.model.CustomerType;
+import com.prgms.management.common.exception.SaveFailException;
+import com.prgms.management.customer.service.BlackCustomerService;
+import com.prgms.management.voucher.model.FixedAmountVoucher;
+import com.prgms.management.voucher.model.PercentDiscountVoucher;
+import com.prgms.management.voucher.model.Voucher;
+import com.prgms.management.voucher.model.VoucherType;
+import com.prgms.management.voucher.service.VoucherService;
+import org.junit.jupiter.api.*;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CommandScriptRunnerTest {
+    @Mock
+    private VoucherService voucherService;
+
+    @Mock
+    private BlackCustomerService customerService;
+
+    private CommandScriptRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        runner = new CommandScriptRunner(voucherService, customerService);
+    }
+
+    @DisplayName("run() : 스크립트 실행 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class RunTest {
+        @DisplayName("성공 : 대량 생성 명령은 정해진 크기로 나누어 일괄 저장됩니다.")
+        @Test
+        void runBulkCreate() throws IOException {
+            // given
+            String script = """
+                # 스테이징 시드 데이터
+                create fixed 1000 x 2500
+                create percent 10
+                """;
+            // when
+            CommandScriptRunner.Summary summary = run(script);
+            // then
+            assertThat(summary.created(), is(2501L));
+            assertThat(summary.failed(), is(0L));
+            verify(voucherService, times(2)).addVouchers(argThat(list -> list.size() == 1000));
+            verify(voucherService).addVouchers(argThat(list -> list.size() == 500 &&
+                list.get(0) instanceof FixedAmountVoucher));
+            verify(voucherService).addVouchers(argThat(list -> list.size() == 1 &&
+                list.get(0) instanceof PercentDiscountVoucher));
+        }
+
+        @DisplayName("성공 : 중간 묶음의 저장이 실패해도 앞서 저장된 바우처는 생성 개수에 들어갑니다.")
+        @Test
+        void runPartialBulkCreate() throws IOException {
+            // given
+            when(voucherService.addVouchers(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0))
+                .thenThrow(new SaveFailException());
+            String script = """
+                create fixed 1000 x 2500
+                """;
+            // when
+            CommandScriptRunner.Summary summary = run(script);
+            // then
+            assertThat(summary.created(), is(1000L));
+            assertThat(summary.failed(), is(1L));
+            verify(voucherService, times(2)).addVouchers(anyList());
+        }
+
+        @DisplayName("성공 : 잘못된 명령은 실패로 집계하고 다음 명령을 계속 실행합니다.")
+        @Test
+        void runWithWrongCommand() throws IOException {
+            // given
+            when(voucherService.findVoucherSlice(null, null, 100)).thenReturn(List.of());
+            String script = """
+                create coupon 1000
+                hello
+                list
+                exit
+                create fixed 1000
+                """;
+            // when
+            CommandScriptRunner.Summary summary = run(script);
+            // then
+            assertThat(summary.commands(), is(4L));
+            assertThat(summary.failed(), is(2L));
+            verify(voucherService, never()).addVouchers(anyList());
+        }
+    }
+
+    @DisplayName("run() : 목록 출력 옵션 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class ListTest {
+        @DisplayName("성공 : 목록은 마지막 바우처를 기준으로 페이지 단위로 이어서 조회됩니다.")
+        @Test
+        void listByPage() throws IOException {
+            // given
+            List<Voucher> first = IntStream.range(0, 100).mapToObj(i -> (Voucher) new FixedAmountVoucher(1000)).toList();
+            Voucher lastOfFirst = first.get(99);
+            Voucher second = new FixedAmountVoucher(2000);
+            when(voucherService.findVoucherSlice(VoucherType.FIXED, null, 100)).thenReturn(first);
+            when(voucherService.findVoucherSlice(VoucherType.FIXED, lastOfFirst, 100)).thenReturn(List.of(second));
+            // when
+            String output = runAndPrint("list --type=fixed --compact");
+            // then
+            assertThat(output.lines().filter(line -> line.contains("FIXED")).count(), is(101L));
+            assertThat(output, containsString(second.getId().toString()));
+        }
+
+        @DisplayName("성공 : --count 옵션은 목록 대신 개수만 출력합니다.")
+        @Test
+        void listCountOnly() throws IOException {
+            // given
+            when(voucherService.countVouchers(VoucherType.PERCENT)).thenReturn(42L);
+            // when
+            String output = runAndPrint("list --count --type=percent");
+            // then
+            assertThat(output.lines().findFirst().orElseThrow(), Matchers.endsWith(" : 42"));
+            verify(voucherService, never()).findVoucherSlice(any(), any(), anyInt());
+        }
+    }
+
+    @DisplayName("run() : 블랙리스트 출력 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class BlacklistTest {
+        @DisplayName("성공 : 블랙리스트는 전체를 읽지 않고 마지막 고객을 기준으로 페이지 단위로 이어서 조회됩니다.")
+        @Test
+        void blacklistByPage() throws IOException {
+            // given
+            List<Customer> first = IntStream.range(0, 100)
+                .mapToObj(i -> new Customer("black" + i, CustomerType.BLACK, "black" + i + "@gmail.com")).toList();
+            Customer second = new Customer("last", CustomerType.BLACK, "last@gmail.com");
+            when(customerService.findCustomerSlice(null, 100)).thenReturn(first);
+            when(customerService.findCustomerSlice(first.get(99), 100)).thenReturn(List.of(second));
+            // when
+            String output = runAndPrint("blacklist --compact");
+            // then
+            assertThat(output, containsString(second.getId().toString()));
+            verify(customerService, never()).getAllCustomers();
+        }
+
+        @DisplayName("성공 : --count 옵션은 저장소의 개수를 그대로 출력합니다.")
+        @Test
+        void blacklistCountOnly() throws IOException {
+            // given
+            when(customerService.countCustomers()).thenReturn(7L);
+            // when
+            String output = runAndPrint("blacklist --count");
+            // then
+            assertThat(output.lines().findFirst().orElseThrow(), Matchers.endsWith(" : 7"));
+            verify(customerService, never()).findCustomerSlice(any(), anyInt());
+        }
+    }
+
+    private String runAndPrint(String script) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        runner.run(new BufferedReader(new StringReader(script)), new PrintStream(out));
+        return out.toString();
+    }
+
+    private CommandScriptRunner.Summary run(String script) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        return runner.run(new BufferedReader(new StringReader(script)), new PrintStream(out));
+    }
+}
@@ -0,0 +1,60 @@
+package com.prgms.management.command;
+
+import com.prgms.management.command.exception.WrongCommandException;
+import com.prgms.management.voucher.repository.MemoryVoucherRepository;
+import com.prgms.management.voucher.service.SimpleVoucherService;
+import com.prgms.management.voucher.service.VoucherChangeFeed;
+import com.prgms.management.voucher.service.VoucherExistenceFilter;
+import com.prgms.management.voucher.service.VoucherSearchIndex;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("VoucherBenchmark 유닛 테스트")
+class VoucherBenchmarkTest {
+    MemoryVoucherRepository voucherRepository;
+    SimpleVoucherService voucherService;
+
+    @BeforeEach
+    void setUp() {
+        voucherRepository = new MemoryVoucherRepository();
+        voucherService = new SimpleVoucherService(voucherRepository, new VoucherSearchIndex(voucherRepository),
+            new VoucherExistenceFilter(voucherRepository, 1000, 5000, 1000, 5000),
+            new VoucherChangeFeed(voucherRepository, 60_000));
+    }
+
+    @DisplayName("run() : 벤치마크 실행 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class RunTest {
+        @DisplayName("성공 : 구간별 결과를 보고하고 생성한 바우처를 정리합니다.")
+        @Test
+        void runSuccess() {
+            List<String> report = VoucherBenchmark.of(voucherService, List.of("--threads=2", "--count=200")).run();
+
+            assertThat(report, hasSize(5));
+            assertThat(report.get(1), allOf(startsWith("create"), containsString("ops=200 errors=0")));
+            assertThat(report.get(2), allOf(startsWith("read"), containsString("errors=0"), containsString("p999=")));
+            assertThat(voucherRepository.findAll(), is(empty()));
+        }
+
+        @DisplayName("성공 : --keep 옵션을 주면 생성한 바우처가 남습니다.")
+        @Test
+        void runKeepSuccess() {
+            VoucherBenchmark.of(voucherService, List.of("--count=10", "--keep")).run();
+
+            assertThat(voucherRepository.findAll(), hasSize(10));
+        }
+
+        @DisplayName("실패 : 잘못된 옵션을 주면 WrongCommandException 예외가 발생합니다.")
+        @Test
+        void runFail() {
+            assertThrows(WrongCommandException.class,
+                () -> VoucherBenchmark.of(voucherService, List.of("--threads=zero")));
+        }
+    }
+}
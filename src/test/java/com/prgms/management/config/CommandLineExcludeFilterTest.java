@@ -0,0 +1,51 @@
+package com.prgms.management.config;
+
+import com.prgms.management.command.io.Console;
+import com.prgms.management.voucher.service.SimpleVoucherService;
+import org.junit.jupiter.api.*;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@DisplayName("CommandLineExcludeFilter 유닛 테스트")
+class CommandLineExcludeFilterTest {
+    MetadataReaderFactory metadataReaderFactory = new SimpleMetadataReaderFactory();
+    MockEnvironment environment;
+    CommandLineExcludeFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        environment = new MockEnvironment();
+        filter = new CommandLineExcludeFilter();
+        filter.setEnvironment(environment);
+    }
+
+    @DisplayName("match() : 컴포넌트 스캔 제외 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class MatchTest {
+        @DisplayName("성공 : 기본 설정에서는 CLI 빈을 제외하지 않습니다.")
+        @Test
+        void matchDefault() throws IOException {
+            assertThat(match(Console.class), is(false));
+        }
+
+        @DisplayName("성공 : command.enabled=false 이면 command 패키지의 빈만 제외합니다.")
+        @Test
+        void matchWebOnly() throws IOException {
+            environment.setProperty(CommandLineExcludeFilter.ENABLED_PROPERTY, "false");
+
+            assertThat(match(Console.class), is(true));
+            assertThat(match(SimpleVoucherService.class), is(false));
+        }
+    }
+
+    private boolean match(Class<?> type) throws IOException {
+        return filter.match(metadataReaderFactory.getMetadataReader(type.getName()), metadataReaderFactory);
+    }
+}
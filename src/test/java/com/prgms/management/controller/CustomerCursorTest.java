@@ -0,0 +1,36 @@
+package com.prgms.management.controller;
+
+import com.prgms.management.common.exception.WrongRequestParamException;
+import com.prgms.management.customer.dto.CustomerCursor;
+import org.junit.jupiter.api.*;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("CustomerCursor 유닛 테스트")
+class CustomerCursorTest {
+    @DisplayName("decode() : 커서 해석 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class DecodeTest {
+        @DisplayName("성공 : 인코딩한 커서를 다시 해석하면 같은 값이 나옵니다.")
+        @Test
+        void decodeSuccess() {
+            Timestamp createdAt = Timestamp.valueOf("2022-05-01 10:20:30.123456789");
+            CustomerCursor cursor = new CustomerCursor(createdAt, UUID.randomUUID());
+
+            assertThat(CustomerCursor.decode(cursor.encode()), is(cursor));
+        }
+
+        @DisplayName("실패 : 올바르지 않은 커서는 WrongRequestParamException 예외가 발생합니다.")
+        @Test
+        void decodeFail() {
+            assertThrows(WrongRequestParamException.class, () -> CustomerCursor.decode("not-a-cursor"));
+            assertThrows(WrongRequestParamException.class, () -> CustomerCursor.decode("%%%"));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.prgms.management.jdbc;
+
+import com.prgms.management.common.jdbc.QueryStatistics;
+import com.prgms.management.common.jdbc.QueryStatistics.QuerySummary;
+import com.prgms.management.common.jdbc.TimedJdbcTemplate;
+import org.junit.jupiter.api.*;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("TimedJdbcTemplate 유닛 테스트")
+class TimedJdbcTemplateTest {
+    private static final String UPDATE_SQL = "UPDATE voucher SET name = :name\n    WHERE id = UNHEX(REPLACE(:id, '-', ''))";
+    private static final String DELETE_SQL = "DELETE FROM voucher WHERE id IN (:ids)";
+
+    QueryStatistics statistics;
+    TimedJdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        PreparedStatement statement = mock(PreparedStatement.class, RETURNS_DEEP_STUBS);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeUpdate()).thenReturn(1);
+        when(statement.executeBatch()).thenReturn(new int[]{1, 1});
+        when(connection.getMetaData().supportsBatchUpdates()).thenReturn(true);
+
+        statistics = new QueryStatistics(0, 60_000, 2);
+        jdbcTemplate = new TimedJdbcTemplate(dataSource, statistics);
+    }
+
+    @DisplayName("update() : 구문 측정 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class UpdateTest {
+        @DisplayName("성공 : 공백을 정리한 구문 단위로 실행 횟수와 파라미터 형태가 기록됩니다.")
+        @Test
+        void recordStatement() {
+            jdbcTemplate.update(UPDATE_SQL, Map.of("name", "여름 할인", "id", "x"));
+            jdbcTemplate.update(UPDATE_SQL, new MapSqlParameterSource("name", null).addValue("id", "y"));
+            jdbcTemplate.update(DELETE_SQL, Map.of("ids", List.of("a", "b", "c")));
+
+            List<QuerySummary> summaries = statistics.top(10, QueryStatistics.Order.TOTAL, false);
+            QuerySummary update = summaries.stream().filter(s -> s.sql().startsWith("UPDATE")).findFirst().orElseThrow();
+            QuerySummary delete = summaries.stream().filter(s -> s.sql().startsWith("DELETE")).findFirst().orElseThrow();
+
+            assertThat(update.sql(), is("UPDATE voucher SET name = :name WHERE id = UNHEX(REPLACE(:id, '-', ''))"));
+            assertThat(update.count(), is(2L));
+            assertThat(update.slowCount(), is(2L));
+            assertThat(update.lastParameters(), allOf(containsString("name:null"), containsString("id:String")));
+            assertThat(delete.lastParameters(), containsString("ids:"));
+            assertThat(delete.lastParameters(), containsString("(3)"));
+        }
+
+        @DisplayName("성공 : 배치 실행은 배치 크기와 첫 원소의 형태로 한 번 기록됩니다.")
+        @Test
+        void recordBatch() {
+            SqlParameterSource[] batch = {new MapSqlParameterSource("id", "a"), new MapSqlParameterSource("id", "b")};
+
+            jdbcTemplate.batchUpdate(DELETE_SQL.replace("IN (:ids)", "= :id"), batch);
+
+            QuerySummary summary = statistics.top(1, QueryStatistics.Order.P99, false).get(0);
+            assertThat(summary.count(), is(1L));
+            assertThat(summary.lastParameters(), is("[2]{id:String}"));
+        }
+    }
+
+    @DisplayName("top() : 상위 구문 조회 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class TopTest {
+        @DisplayName("성공 : 누적 시간 순으로 정렬되고 상한을 넘은 구문은 한 항목에 모입니다.")
+        @Test
+        void topByTotal() {
+            statistics.record("SELECT 1", "{}", 10);
+            statistics.record("SELECT 2", "{}", 30);
+            statistics.record("SELECT 3", "{}", 50);
+            statistics.record("SELECT 4", "{}", 70);
+
+            List<QuerySummary> summaries = statistics.top(10, QueryStatistics.Order.TOTAL, false);
+
+            assertThat(summaries, hasSize(3));
+            assertThat(summaries.get(0).totalNanos(), is(120L));
+            assertThat(summaries.get(1).sql(), is("SELECT 2"));
+            assertThat(summaries.get(2).sql(), is("SELECT 1"));
+        }
+
+        @DisplayName("성공 : 창이 바뀌면 직전 창의 통계를 따로 조회할 수 있습니다.")
+        @Test
+        void previousWindow() throws InterruptedException {
+            QueryStatistics rolling = new QueryStatistics(1000, 1, 10);
+            rolling.record("SELECT 1", "{}", 10);
+            Thread.sleep(5);
+            rolling.record("SELECT 2", "{}", 10);
+
+            List<QuerySummary> previous = rolling.top(10, QueryStatistics.Order.TOTAL, true);
+
+            assertThat(previous, hasSize(1));
+            assertThat(previous.get(0).sql(), is("SELECT 1"));
+        }
+    }
+}
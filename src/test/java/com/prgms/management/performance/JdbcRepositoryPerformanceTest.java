@@ -0,0 +1,271 @@
+package com.prgms.management.performance;
+
+import com.prgms.management.common.util.LatencyHistogram;
+import com.prgms.management.customer.model.Customer;
+import com.prgms.management.customer.model.CustomerType;
+import com.prgms.management.customer.repository.CustomerRepository;
+import com.prgms.management.voucher.model.FixedAmountVoucher;
+import com.prgms.management.voucher.model.StatisticsUnit;
+import com.prgms.management.voucher.model.Voucher;
+import com.prgms.management.voucher.model.VoucherField;
+import com.prgms.management.voucher.model.VoucherType;
+import com.prgms.management.voucher.repository.VoucherRepository;
+import com.prgms.management.voucher_wallet.entity.ClaimResult;
+import com.prgms.management.voucher_wallet.repository.VoucherWalletRepository;
+import com.wix.mysql.EmbeddedMysql;
+import com.wix.mysql.ScriptResolver;
+import com.wix.mysql.config.MysqldConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+
+import static com.wix.mysql.EmbeddedMysql.anEmbeddedMysql;
+import static com.wix.mysql.config.Charset.UTF8;
+import static com.wix.mysql.config.MysqldConfig.aMysqldConfig;
+import static com.wix.mysql.distribution.Version.v5_7_latest;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+// mvn test -Pperformance 로 실행한다. 데이터 크기는 -Dperformance.customers, -Dperformance.vouchers, -Dperformance.wallets 로 조절한다.
+@Tag("performance")
+@SpringJUnitConfig
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@ActiveProfiles("default")
+@DisplayName("JDBC 레포지토리 대용량 성능 테스트")
+class JdbcRepositoryPerformanceTest {
+    private static final int CUSTOMERS = Integer.getInteger("performance.customers", 1_000_000);
+    private static final int VOUCHERS = Integer.getInteger("performance.vouchers", 2_000_000);
+    private static final int WALLETS = Integer.getInteger("performance.wallets", 2_000_000);
+    private static final int ITERATIONS = 200;
+
+    @Autowired
+    CustomerRepository customerRepository;
+
+    @Autowired
+    VoucherRepository voucherRepository;
+
+    @Autowired
+    VoucherWalletRepository voucherWalletRepository;
+
+    @Autowired
+    QueryCountingDataSource dataSource;
+
+    @Autowired
+    NamedParameterJdbcTemplate jdbcTemplate;
+
+    EmbeddedMysql embeddedMysql;
+    LargeDatasetGenerator.Dataset dataset;
+    Random random = new Random(42);
+
+    @BeforeAll
+    void setUp() {
+        MysqldConfig config = aMysqldConfig(v5_7_latest)
+            .withCharset(UTF8)
+            .withPort(2216)
+            .withUser("test", "1234")
+            .withTimeZone("Asia/Seoul")
+            .withTimeout(10, TimeUnit.MINUTES)
+            .build();
+
+        embeddedMysql = anEmbeddedMysql(config)
+            .addSchema("demo", ScriptResolver.classPathScript("schema.sql"))
+            .start();
+
+        dataset = new LargeDatasetGenerator(jdbcTemplate.getJdbcTemplate()).generate(CUSTOMERS, VOUCHERS, WALLETS);
+        voucherRepository.refreshStatistics();
+    }
+
+    @AfterAll
+    void cleanUp() {
+        embeddedMysql.stop();
+    }
+
+    @Configuration
+    @ComponentScan(basePackages = {"com.prgms.management.customer.repository",
+        "com.prgms.management.voucher.repository", "com.prgms.management.voucher_wallet.repository"})
+    static class Config {
+        @Bean
+        public QueryCountingDataSource dataSource() {
+            return new QueryCountingDataSource(DataSourceBuilder.create()
+                .url("jdbc:mysql://localhost:2216/demo?rewriteBatchedStatements=true")
+                .username("test")
+                .password("1234")
+                .type(HikariDataSource.class)
+                .build());
+        }
+
+        @Bean
+        public NamedParameterJdbcTemplate namedParameterJdbcTemplate(QueryCountingDataSource dataSource) {
+            return new NamedParameterJdbcTemplate(dataSource);
+        }
+    }
+
+    @DisplayName("JdbcCustomerRepository 성능 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class CustomerRepositoryTest {
+        @DisplayName("findById() : 쿼리 1회, p99 20ms 이내")
+        @Test
+        void findById() {
+            assertBudget(1, 20, i -> customerRepository.findById(randomCustomerId()));
+        }
+
+        @DisplayName("findByEmail() : 쿼리 1회, p99 20ms 이내")
+        @Test
+        void findByEmail() {
+            assertBudget(1, 20, i -> customerRepository.findByEmail("user" + random.nextInt(CUSTOMERS) + "@example.com"));
+        }
+
+        @DisplayName("findPage() : 깊은 페이지도 쿼리 1회, p99 1000ms 이내")
+        @Test
+        void findPage() {
+            assertBudget(1, 1000, 20, i -> customerRepository.findPage(1 + random.nextInt(CUSTOMERS / 20), 20));
+        }
+
+        @DisplayName("count() : 쿼리 1회, p99 2000ms 이내")
+        @Test
+        void count() {
+            assertBudget(1, 2000, 5, i -> customerRepository.count());
+        }
+    }
+
+    @DisplayName("JdbcVoucherRepository 성능 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class VoucherRepositoryTest {
+        @DisplayName("findById() : 쿼리 1회, p99 20ms 이내")
+        @Test
+        void findById() {
+            assertBudget(1, 20, i -> voucherRepository.findById(randomVoucherId()));
+        }
+
+        @DisplayName("findPage() : 깊은 페이지도 쿼리 1회, p99 1000ms 이내")
+        @Test
+        void findPage() {
+            assertBudget(1, 1000, 20, i -> voucherRepository.findPage(1 + random.nextInt(VOUCHERS / 20), 20));
+        }
+
+        @DisplayName("findSlice() : 커서 위치와 관계없이 쿼리 1회, p99 30ms 이내")
+        @Test
+        void findSlice() {
+            List<Voucher> first = voucherRepository.findSlice(VoucherType.FIXED, null, null, 100);
+            Voucher cursor = first.get(first.size() - 1);
+            assertBudget(1, 30, i -> voucherRepository.findSlice(VoucherType.FIXED, cursor.getCreatedAt(), cursor.getId(), 100));
+        }
+
+        @DisplayName("count() : 통계 테이블을 사용하므로 쿼리 1회, p99 20ms 이내")
+        @Test
+        void count() {
+            assertBudget(1, 20, i -> voucherRepository.count(i % 2 == 0 ? null : VoucherType.PERCENT));
+        }
+
+        @DisplayName("findStatistics() : 쿼리 1회, p99 200ms 이내")
+        @Test
+        void findStatistics() {
+            assertBudget(1, 200, 20, i -> voucherRepository.findStatistics(StatisticsUnit.DAY));
+        }
+
+        @DisplayName("findFields() : 하루 범위 조회는 쿼리 1회, p99 200ms 이내")
+        @Test
+        void findFields() {
+            List<VoucherField> fields = List.of(VoucherField.ID, VoucherField.FIGURE);
+            assertBudget(1, 200, 20, i -> {
+                LocalDateTime end = LocalDateTime.now().minusDays(random.nextInt(365));
+                voucherRepository.findFields(fields, null, Timestamp.valueOf(end.minusDays(1)), Timestamp.valueOf(end));
+            });
+        }
+    }
+
+    @DisplayName("JdbcVoucherWalletRepository 성능 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class VoucherWalletRepositoryTest {
+        @DisplayName("findByCustomer() : 지갑 수와 관계없이 쿼리 1회(N+1 없음), p99 20ms 이내")
+        @Test
+        void findByCustomer() {
+            assertBudget(1, 20, i -> {
+                UUID customerId = dataset.customerIds()[random.nextInt(Math.min(CUSTOMERS, WALLETS))];
+                Customer customer = new Customer(CustomerType.WHITE, customerId, "user");
+                assertThat(voucherWalletRepository.findByCustomer(customer), not(empty()));
+            });
+        }
+
+        @DisplayName("findCustomerByVoucherId() : 쿼리 1회, p99 20ms 이내")
+        @Test
+        void findCustomerByVoucherId() {
+            int walletVouchers = Math.min(VOUCHERS, WALLETS);
+            assertBudget(1, 20, i -> voucherWalletRepository.findCustomerByVoucherId(
+                dataset.voucherIds()[random.nextInt(walletVouchers)]));
+        }
+
+        @DisplayName("claim() : 한 바우처에 동시에 몰려도 한 명만 지급받고, 나머지는 ALREADY_CLAIMED를 받는다")
+        @Test
+        void claimContention() throws InterruptedException {
+            Voucher voucher = voucherRepository.save(new FixedAmountVoucher(1000));
+            int claimers = 1000;
+            Map<ClaimResult, LongAdder> results = new ConcurrentHashMap<>();
+            ExecutorService executor = Executors.newFixedThreadPool(32);
+            for (int i = 0; i < claimers; i++) {
+                UUID customerId = dataset.customerIds()[i % CUSTOMERS];
+                executor.execute(() -> results.computeIfAbsent(voucherWalletRepository.claim(customerId,
+                    voucher.getId()), result -> new LongAdder()).increment());
+            }
+            executor.shutdown();
+            assertThat(executor.awaitTermination(1, TimeUnit.MINUTES), is(true));
+
+            assertThat(results.get(ClaimResult.CLAIMED).sum(), is(1L));
+            assertThat(results.get(ClaimResult.ALREADY_CLAIMED).sum(), is((long) claimers - 1));
+            assertThat(voucherWalletRepository.findCustomerByVoucherId(voucher.getId()), is(notNullValue()));
+        }
+    }
+
+    private void assertBudget(long queriesPerCall, long p99BudgetMillis, IntConsumer call) {
+        assertBudget(queriesPerCall, p99BudgetMillis, ITERATIONS, call);
+    }
+
+    private void assertBudget(long queriesPerCall, long p99BudgetMillis, int iterations, IntConsumer call) {
+        for (int i = 0; i < Math.min(10, iterations); i++) {
+            call.accept(i);
+        }
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        dataSource.reset();
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            call.accept(i);
+            histogram.record(System.nanoTime() - start);
+        }
+
+        assertThat("쿼리 수", dataSource.getQueryCount(), is(queriesPerCall * iterations));
+        assertThat("p99(ms)", TimeUnit.NANOSECONDS.toMillis(histogram.getValueAtPercentile(99)),
+            lessThanOrEqualTo(p99BudgetMillis));
+    }
+
+    private UUID randomCustomerId() {
+        return dataset.customerIds()[random.nextInt(CUSTOMERS)];
+    }
+
+    private UUID randomVoucherId() {
+        return dataset.voucherIds()[random.nextInt(VOUCHERS)];
+    }
+}
@@ -0,0 +1,105 @@
+package com.prgms.management.performance;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.UUID;
+
+// 고객, 바우처, 바우처 지갑을 대량으로 적재한다. 같은 시드로 실행하면 항상 같은 데이터가 만들어진다.
+class LargeDatasetGenerator {
+    private static final int BATCH_SIZE = 5_000;
+    private static final long ONE_YEAR_MILLIS = 365L * 24 * 60 * 60 * 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Random random = new Random(20220415L);
+    private final long now = Timestamp.valueOf(LocalDateTime.now()).getTime();
+
+    LargeDatasetGenerator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    Dataset generate(int customers, int vouchers, int wallets) {
+        UUID[] customerIds = randomIds(customers);
+        UUID[] voucherIds = randomIds(vouchers);
+
+        insert("INSERT INTO customer(id, name, type, email, last_login_at, created_at) VALUES (?, ?, ?, ?, ?, ?)",
+            customers, (statement, i) -> {
+                Timestamp createdAt = randomTimestamp();
+                statement.setBytes(1, toBytes(customerIds[i]));
+                statement.setString(2, "user" + i);
+                statement.setString(3, i % 100 == 0 ? "BLACK" : "WHITE");
+                statement.setString(4, "user" + i + "@example.com");
+                statement.setTimestamp(5, createdAt);
+                statement.setTimestamp(6, createdAt);
+            });
+
+        insert("INSERT INTO voucher(id, name, type, figure, created_at) VALUES (?, ?, ?, ?, ?)",
+            vouchers, (statement, i) -> {
+                boolean fixed = i % 2 == 0;
+                statement.setBytes(1, toBytes(voucherIds[i]));
+                statement.setString(2, "voucher" + i);
+                statement.setString(3, fixed ? "FIXED" : "PERCENT");
+                statement.setInt(4, fixed ? 1000 + random.nextInt(9000) : 1 + random.nextInt(99));
+                statement.setTimestamp(5, randomTimestamp());
+            });
+
+        // 바우처 한 장은 한 지갑에만 들어갈 수 있으므로 지갑 수는 바우처 수를 넘지 않는다.
+        wallets = Math.min(wallets, vouchers);
+        insert("INSERT INTO voucher_wallet(id, customer_id, voucher_id) VALUES (?, ?, ?)",
+            wallets, (statement, i) -> {
+                statement.setBytes(1, toBytes(UUID.randomUUID()));
+                statement.setBytes(2, toBytes(customerIds[i % customers]));
+                statement.setBytes(3, toBytes(voucherIds[i % vouchers]));
+            });
+
+        return new Dataset(customerIds, voucherIds, wallets);
+    }
+
+    private void insert(String sql, int total, RowSetter setter) {
+        for (int from = 0; from < total; from += BATCH_SIZE) {
+            int offset = from;
+            int size = Math.min(BATCH_SIZE, total - from);
+            jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    setter.set(ps, offset + i);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size;
+                }
+            });
+        }
+    }
+
+    private UUID[] randomIds(int count) {
+        UUID[] ids = new UUID[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = new UUID(random.nextLong(), random.nextLong());
+        }
+        return ids;
+    }
+
+    private Timestamp randomTimestamp() {
+        return new Timestamp(now - (long) (random.nextDouble() * ONE_YEAR_MILLIS) / 1000 * 1000);
+    }
+
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16).putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array();
+    }
+
+    @FunctionalInterface
+    private interface RowSetter {
+        void set(PreparedStatement statement, int index) throws SQLException;
+    }
+
+    record Dataset(UUID[] customerIds, UUID[] voucherIds, int wallets) {
+    }
+}
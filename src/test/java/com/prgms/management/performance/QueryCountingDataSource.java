@@ -0,0 +1,52 @@
+package com.prgms.management.performance;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 커넥션에서 만들어진 Statement 수를 센다. 배치는 한 번으로 집계된다.
+class QueryCountingDataSource extends DelegatingDataSource {
+    private final AtomicLong queryCount = new AtomicLong();
+
+    QueryCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingProxy(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingProxy(super.getConnection(username, password));
+    }
+
+    long getQueryCount() {
+        return queryCount.get();
+    }
+
+    void reset() {
+        queryCount.set(0);
+    }
+
+    private Connection countingProxy(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{Connection.class},
+            (proxy, method, args) -> {
+                String name = method.getName();
+                if (name.equals("createStatement") || name.equals("prepareStatement") || name.equals("prepareCall")) {
+                    queryCount.incrementAndGet();
+                }
+                try {
+                    return method.invoke(connection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            });
+    }
+}
@@ -0,0 +1,158 @@
+package com.prgms.management.ratelimit;
+
+import com.prgms.management.common.exception.TooManyRequestsException;
+import com.prgms.management.common.ratelimit.AdmissionCategory;
+import com.prgms.management.common.ratelimit.RateLimit;
+import com.prgms.management.common.ratelimit.RateLimitInterceptor;
+import org.junit.jupiter.api.*;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("RateLimitInterceptor 유닛 테스트")
+class RateLimitInterceptorTest {
+    RateLimitInterceptor interceptor;
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty("api.rate-limit.list.client-capacity", "2")
+            .withProperty("api.rate-limit.list.client-per-second", "0.001")
+            .withProperty("api.rate-limit.list.global-capacity", "3")
+            .withProperty("api.rate-limit.list.global-per-second", "0.001")
+            .withProperty("api.rate-limit.endpoints.export.client-capacity", "1")
+            .withProperty("api.rate-limit.api-keys", "key-a,key-b,key-c");
+        interceptor = new RateLimitInterceptor(true, environment);
+    }
+
+    @DisplayName("preHandle() : 요청 허용 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class PreHandleTest {
+        @DisplayName("성공 : 클라이언트 예산을 넘으면 Retry-After 초와 함께 TooManyRequestsException 예외가 발생합니다.")
+        @Test
+        void rejectClient() throws NoSuchMethodException {
+            HandlerMethod handler = handler("list");
+
+            assertThat(interceptor.preHandle(request("key-a"), response, handler), is(true));
+            assertThat(interceptor.preHandle(request("key-a"), response, handler), is(true));
+            TooManyRequestsException e = assertThrows(TooManyRequestsException.class,
+                () -> interceptor.preHandle(request("key-a"), response, handler));
+            assertThat(e.getRetryAfterSeconds(), greaterThan(0L));
+        }
+
+        @DisplayName("성공 : 다른 클라이언트는 전체 예산이 남아 있는 동안 허용됩니다.")
+        @Test
+        void rejectGlobal() throws NoSuchMethodException {
+            HandlerMethod handler = handler("list");
+            interceptor.preHandle(request("key-a"), response, handler);
+            interceptor.preHandle(request("key-a"), response, handler);
+
+            assertThat(interceptor.preHandle(request("key-b"), response, handler), is(true));
+            assertThrows(TooManyRequestsException.class, () -> interceptor.preHandle(request("key-c"), response, handler));
+        }
+
+        @DisplayName("성공 : 등록되지 않은 키는 접속 주소의 예산을 함께 씁니다.")
+        @Test
+        void unknownKeyUsesRemoteAddress() throws NoSuchMethodException {
+            HandlerMethod handler = handler("list");
+            interceptor.preHandle(request("unknown-1"), response, handler);
+            interceptor.preHandle(request("unknown-2"), response, handler);
+
+            assertThrows(TooManyRequestsException.class,
+                () -> interceptor.preHandle(request("unknown-3"), response, handler));
+            assertThat(interceptor.preHandle(request("key-a"), response, handler), is(true));
+        }
+
+        @DisplayName("성공 : 같은 분류의 핸들러는 예산을 함께 씁니다.")
+        @Test
+        void budgetPerCategory() throws NoSuchMethodException {
+            HandlerMethod handler = handler("list");
+            interceptor.preHandle(request("key-a"), response, handler);
+            interceptor.preHandle(request("key-a"), response, handler);
+
+            assertThrows(TooManyRequestsException.class,
+                () -> interceptor.preHandle(request("key-a"), response, handler("search")));
+        }
+
+        @DisplayName("성공 : key를 지정한 핸들러는 따로 예산을 쓰고, 설정하지 않은 값은 분류의 설정을 따릅니다.")
+        @Test
+        void budgetPerKey() throws NoSuchMethodException {
+            HandlerMethod handler = handler("export");
+
+            assertThat(interceptor.preHandle(request("key-a"), response, handler), is(true));
+            assertThrows(TooManyRequestsException.class, () -> interceptor.preHandle(request("key-a"), response, handler));
+            assertThat(interceptor.preHandle(request("key-a"), response, handler("list")), is(true));
+            assertThat(interceptor.preHandle(request("key-b"), response, handler), is(true));
+            assertThat(interceptor.preHandle(request("key-c"), response, handler), is(true));
+            assertThrows(TooManyRequestsException.class,
+                () -> interceptor.preHandle(request("unknown"), response, handler));
+        }
+
+        @DisplayName("성공 : 예산이 지정되지 않은 핸들러는 제한하지 않습니다.")
+        @Test
+        void passUnannotated() throws NoSuchMethodException {
+            HandlerMethod handler = handler("unlimited");
+
+            for (int i = 0; i < 10; i++) {
+                assertThat(interceptor.preHandle(request("key-a"), response, handler), is(true));
+            }
+        }
+    }
+
+    @DisplayName("sweep() : 클라이언트 버킷 정리 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class SweepTest {
+        @DisplayName("성공 : 다시 가득 찬 클라이언트 버킷만 지웁니다.")
+        @Test
+        void sweepFullBuckets() throws NoSuchMethodException, InterruptedException {
+            interceptor.preHandle(request("key-a"), response, handler("read"));
+            interceptor.preHandle(request("key-b"), response, handler("list"));
+            Thread.sleep(50);
+
+            assertThat(interceptor.sweep(), is(1));
+            assertThat(interceptor.sweep(), is(0));
+            assertThat(interceptor.preHandle(request("key-b"), response, handler("list")), is(true));
+            assertThrows(TooManyRequestsException.class,
+                () -> interceptor.preHandle(request("key-b"), response, handler("list")));
+        }
+    }
+
+    private MockHttpServletRequest request(String apiKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-API-Key", apiKey);
+        return request;
+    }
+
+    private HandlerMethod handler(String name) throws NoSuchMethodException {
+        return new HandlerMethod(new SampleController(), SampleController.class.getMethod(name));
+    }
+
+    static class SampleController {
+        @RateLimit(AdmissionCategory.LIST)
+        public void list() {
+        }
+
+        @RateLimit(AdmissionCategory.LIST)
+        public void search() {
+        }
+
+        @RateLimit(value = AdmissionCategory.LIST, key = "export")
+        public void export() {
+        }
+
+        @RateLimit(AdmissionCategory.READ)
+        public void read() {
+        }
+
+        public void unlimited() {
+        }
+    }
+}
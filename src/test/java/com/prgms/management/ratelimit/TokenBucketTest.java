@@ -0,0 +1,80 @@
+package com.prgms.management.ratelimit;
+
+import com.prgms.management.common.ratelimit.TokenBucket;
+import org.junit.jupiter.api.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@DisplayName("TokenBucket 유닛 테스트")
+class TokenBucketTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @DisplayName("tryAcquire() : 토큰 획득 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class TryAcquireTest {
+        @DisplayName("성공 : 용량만큼은 즉시 허용하고 이후에는 다음 토큰까지의 대기 시간을 반환합니다.")
+        @Test
+        void acquireBurst() {
+            TokenBucket bucket = new TokenBucket(5, 10);
+            long now = System.nanoTime();
+
+            for (int i = 0; i < 5; i++) {
+                assertThat(bucket.tryAcquire(now), is(0L));
+            }
+            assertThat(bucket.tryAcquire(now), is(SECOND / 10));
+        }
+
+        @DisplayName("성공 : 시간이 지나면 초당 보충량만큼 다시 허용합니다.")
+        @Test
+        void acquireAfterRefill() {
+            TokenBucket bucket = new TokenBucket(1, 10);
+            long now = System.nanoTime();
+            bucket.tryAcquire(now);
+
+            assertThat(bucket.tryAcquire(now + SECOND / 20), greaterThan(0L));
+            assertThat(bucket.tryAcquire(now + SECOND / 10), is(0L));
+            assertThat(bucket.isFull(now + SECOND), is(true));
+        }
+
+        @DisplayName("성공 : 여러 스레드가 동시에 요청해도 용량을 넘게 허용하지 않습니다.")
+        @Test
+        void acquireConcurrently() {
+            TokenBucket bucket = new TokenBucket(100, 0.001);
+            long now = System.nanoTime();
+            AtomicInteger admitted = new AtomicInteger();
+
+            CompletableFuture.allOf(IntStream.range(0, 8)
+                .mapToObj(t -> CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 100; i++) {
+                        if (bucket.tryAcquire(now) == 0) {
+                            admitted.incrementAndGet();
+                        }
+                    }
+                }))
+                .toArray(CompletableFuture[]::new)).join();
+
+            assertThat(admitted.get(), is(100));
+        }
+
+        @DisplayName("성공 : 되돌린 토큰은 다시 허용됩니다.")
+        @Test
+        void acquireAfterRefund() {
+            TokenBucket bucket = new TokenBucket(2, 0.001);
+            long now = System.nanoTime();
+            bucket.tryAcquire(now);
+            bucket.tryAcquire(now);
+
+            bucket.refund();
+
+            assertThat(bucket.tryAcquire(now), is(0L));
+            assertThat(bucket.tryAcquire(now), greaterThan(0L));
+        }
+    }
+}
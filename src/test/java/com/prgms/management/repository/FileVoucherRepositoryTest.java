@@ -0,0 +1,73 @@
+package com.prgms.management.repository;
+
+import com.prgms.management.common.exception.FindFailException;
+import com.prgms.management.voucher.model.FixedAmountVoucher;
+import com.prgms.management.voucher.model.PercentDiscountVoucher;
+import com.prgms.management.voucher.model.Voucher;
+import com.prgms.management.voucher.repository.FileVoucherRepository;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("FileVoucherRepository 유닛 테스트")
+class FileVoucherRepositoryTest {
+    @TempDir
+    Path tempDir;
+    Path file;
+    FileVoucherRepository voucherRepository;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.createFile(tempDir.resolve("voucher.csv"));
+        voucherRepository = new FileVoucherRepository("file:" + file);
+    }
+
+    @DisplayName("removeExpired() : 만료된 바우처 삭제 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class RemoveExpiredTest {
+        @DisplayName("성공 : 만료일은 파일에 남아 만료된 바우처만 조회에서 빠지고 삭제됩니다.")
+        @Test
+        void removeExpired() {
+            long now = System.currentTimeMillis();
+            Voucher expired = new FixedAmountVoucher(1000);
+            expired.setExpiresAt(new Timestamp(now - 1000));
+            Voucher live = new PercentDiscountVoucher(10);
+            live.setExpiresAt(new Timestamp(now + 60_000));
+            voucherRepository.save(expired);
+            voucherRepository.save(live);
+
+            assertThat(voucherRepository.findAll(), contains(live));
+            assertThat(voucherRepository.findById(live.getId()).getExpiresAt(), is(live.getExpiresAt()));
+            assertThrows(FindFailException.class, () -> voucherRepository.findById(expired.getId()));
+
+            List<Voucher> removed = voucherRepository.removeExpired(new Timestamp(now), 10);
+
+            assertThat(removed, contains(expired));
+            assertThat(voucherRepository.findAll(), contains(live));
+            assertThat(voucherRepository.removeExpired(new Timestamp(now), 10), is(empty()));
+        }
+
+        @DisplayName("성공 : 만료일 없이 저장된 이전 형식의 줄도 읽습니다.")
+        @Test
+        void readWithoutExpiresAt() throws IOException {
+            UUID id = UUID.randomUUID();
+            Files.writeString(file, FixedAmountVoucher.class.getCanonicalName() + "," + id + ",1000\n");
+
+            Voucher voucher = voucherRepository.findById(id);
+
+            assertThat(voucher.getExpiresAt(), is(nullValue()));
+            assertThat(voucherRepository.removeExpired(new Timestamp(System.currentTimeMillis()), 10), is(empty()));
+        }
+    }
+}
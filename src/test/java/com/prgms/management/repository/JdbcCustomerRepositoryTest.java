@@ -3,6 +3,8 @@ package com.prgms.management.repository;
 import com.prgms.management.common.exception.FindFailException;
 import com.prgms.management.common.exception.InvalidParameterException;
 import com.prgms.management.customer.model.Customer;
+import com.prgms.management.customer.model.CustomerField;
+import com.prgms.management.customer.model.CustomerFilter;
 import com.prgms.management.customer.model.CustomerType;
 import com.prgms.management.customer.repository.CustomerRepository;
 import com.wix.mysql.EmbeddedMysql;
@@ -71,8 +73,8 @@ class JdbcCustomerRepositoryTest {
     }
 
     @Configuration
-    @ComponentScan(basePackages = {"com.prgms.management.customer", "com.prgms.management.voucher_wallet", "com.prgms" +
-        ".management.voucher"})
+    @ComponentScan(basePackages = {"com.prgms.management.customer.repository", "com.prgms.management.voucher_wallet" +
+        ".repository", "com.prgms.management.voucher.repository"})
     static class Config {
         @Bean
         public DataSource dataSource() {
@@ -195,4 +197,41 @@ class JdbcCustomerRepositoryTest {
             assertThat(resultCustomers.isEmpty(), is(true));
         }
     }
-}
\ No newline at end of file
+
+    @DisplayName("findSlice() : 고객 목록 커서 조회 테스트")
+    @Nested
+    @Order(4)
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class FindSliceTest {
+        @DisplayName("성공 : 마지막 고객을 기준으로 이어서 조회하면 모든 고객을 중복 없이 순회합니다.")
+        @Test
+        void findSuccess() {
+            List<Customer> result = new ArrayList<>();
+            List<Customer> slice = customerRepository.findSlice(CustomerFilter.NONE, null, null, 3);
+            while (!slice.isEmpty()) {
+                result.addAll(slice);
+                Customer last = slice.get(slice.size() - 1);
+                slice = customerRepository.findSlice(CustomerFilter.NONE, last.getCreatedAt(), last.getId(), 3);
+            }
+            assertThat(result, containsInAnyOrder(customers.toArray()));
+        }
+
+        @DisplayName("성공 : 타입 조건이 주어진 경우 해당 타입의 고객만 반환됩니다.")
+        @Test
+        void findByTypeSuccess() {
+            CustomerFilter filter = new CustomerFilter(CustomerType.BLACK, null, null, null, null);
+            var result = customerRepository.findSlice(filter, null, null, customers.size());
+            assertThat(result, hasSize(2));
+            assertThat(result, everyItem(hasProperty("type", is(CustomerType.BLACK))));
+        }
+
+        @DisplayName("성공 : 필드를 지정한 경우 지정한 필드만 조회됩니다.")
+        @Test
+        void findFieldsSuccess() {
+            var result = customerRepository.findFieldSlice(CustomerField.of("email"), CustomerFilter.NONE, null, null,
+                customers.size());
+            assertThat(result, hasSize(customers.size()));
+            assertThat(result.get(0).keySet(), contains("id", "createdAt", "email"));
+        }
+    }
+}
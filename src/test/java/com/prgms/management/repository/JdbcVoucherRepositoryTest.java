@@ -3,9 +3,15 @@ package com.prgms.management.repository;
 import com.prgms.management.common.exception.DeleteFailException;
 import com.prgms.management.common.exception.FindFailException;
 import com.prgms.management.common.exception.InvalidParameterException;
+import com.prgms.management.common.exception.WrongRequestParamException;
+import com.prgms.management.common.util.UuidOrder;
 import com.prgms.management.voucher.model.FixedAmountVoucher;
 import com.prgms.management.voucher.model.PercentDiscountVoucher;
+import com.prgms.management.voucher.model.StatisticsUnit;
 import com.prgms.management.voucher.model.Voucher;
+import com.prgms.management.voucher.model.VoucherField;
+import com.prgms.management.voucher.model.VoucherStatistics;
+import com.prgms.management.voucher.model.VoucherType;
 import com.prgms.management.voucher.repository.VoucherRepository;
 import com.wix.mysql.EmbeddedMysql;
 import com.wix.mysql.ScriptResolver;
@@ -75,7 +81,7 @@ class JdbcVoucherRepositoryTest {
     }
 
     @Configuration
-    @ComponentScan(basePackages = {"com.prgms.management.voucher"})
+    @ComponentScan(basePackages = {"com.prgms.management.voucher.repository"})
     static class Config {
         @Bean
         public DataSource dataSource() {
@@ -184,9 +190,155 @@ class JdbcVoucherRepositoryTest {
         }
     }
 
-    @DisplayName("removeById() : ID로 바우처 삭제 테스트")
+    @DisplayName("findFields() : 바우처 필드 조회 테스트")
+    @Nested
+    @Order(4)
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class FindFieldsTest {
+        @DisplayName("성공 : 요청한 필드만 담긴 바우처 목록이 반환됩니다.")
+        @Test
+        void findSuccess() {
+            var fields = List.of(VoucherField.ID, VoucherField.NAME, VoucherField.TYPE);
+            var result = voucherRepository.findFields(fields, null, null, null);
+            assertThat(result, hasSize(vouchers.size()));
+            assertThat(result.get(0).keySet(), contains("id", "name", "type"));
+        }
+
+        @DisplayName("성공 : 타입이 주어진 경우 타입에 맞는 바우처만 반환됩니다.")
+        @Test
+        void findByTypeSuccess() {
+            var result = voucherRepository.findFields(List.of(VoucherField.TYPE), VoucherType.FIXED, null, null);
+            assertThat(result, everyItem(hasEntry("type", (Object) VoucherType.FIXED.toString())));
+        }
+    }
+
+    @DisplayName("findSlice() : 바우처 키셋 페이지 조회 테스트")
     @Nested
     @Order(4)
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class FindSliceTest {
+        @DisplayName("성공 : 마지막 바우처를 기준으로 이어서 조회하면 모든 바우처를 중복 없이 순회합니다.")
+        @Test
+        void findSuccess() {
+            List<Voucher> result = new ArrayList<>();
+            List<Voucher> slice = voucherRepository.findSlice(null, null, null, 3);
+            while (!slice.isEmpty()) {
+                result.addAll(slice);
+                Voucher last = slice.get(slice.size() - 1);
+                slice = voucherRepository.findSlice(null, last.getCreatedAt(), last.getId(), 3);
+            }
+            assertThat(result, containsInAnyOrder(vouchers.toArray()));
+        }
+
+        @DisplayName("성공 : 타입이 주어진 경우 타입별 개수와 조회 결과가 일치합니다.")
+        @Test
+        void findByTypeSuccess() {
+            var result = voucherRepository.findSlice(VoucherType.FIXED, null, null, vouchers.size());
+            assertThat(result, everyItem(hasProperty("type", is(VoucherType.FIXED))));
+            assertThat((long) result.size(), is(voucherRepository.count(VoucherType.FIXED)));
+        }
+
+        @DisplayName("성공 : id 순서로 마지막 id 다음부터 이어서 조회하면 모든 id를 바이트 순서대로 한 번씩 읽습니다.")
+        @Test
+        void findIdSliceSuccess() {
+            List<UUID> result = new ArrayList<>();
+            List<UUID> slice = voucherRepository.findIdSlice(null, 2);
+            while (!slice.isEmpty()) {
+                result.addAll(slice);
+                slice = voucherRepository.findIdSlice(slice.get(slice.size() - 1), 2);
+            }
+            assertThat(result, is(vouchers.stream().map(Voucher::getId).sorted(UuidOrder.BYTES).toList()));
+        }
+    }
+
+    @DisplayName("findStatistics() : 바우처 통계 조회 테스트")
+    @Nested
+    @Order(5)
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class FindStatisticsTest {
+        @DisplayName("성공 : 저장된 바우처 수와 통계의 합계가 일치합니다.")
+        @Test
+        void findSuccess() {
+            var result = voucherRepository.findStatistics(StatisticsUnit.DAY);
+            assertThat(result.stream().mapToLong(VoucherStatistics::count).sum(), is((long) vouchers.size()));
+        }
+
+        @DisplayName("성공 : 통계를 재계산해도 시간 단위 통계가 유지됩니다.")
+        @Test
+        void refreshSuccess() {
+            var before = voucherRepository.findStatistics(StatisticsUnit.HOUR);
+            voucherRepository.refreshStatistics();
+            assertThat(voucherRepository.findStatistics(StatisticsUnit.HOUR), equalTo(before));
+        }
+    }
+
+    @DisplayName("removeExpired() : 만료된 바우처 정리 테스트")
+    @Nested
+    @Order(6)
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class RemoveExpiredTest {
+        @DisplayName("성공 : 만료된 바우처는 조회에서 제외되고, 정리하면 통계에서도 빠집니다.")
+        @Test
+        void removeExpiredSuccess() {
+            long before = voucherRepository.count();
+            Voucher voucher = new FixedAmountVoucher(1000);
+            voucher.setExpiresAt(new Timestamp(System.currentTimeMillis() + 1000));
+            voucherRepository.save(voucher);
+            Timestamp later = new Timestamp(System.currentTimeMillis() + 2000);
+
+            var removed = voucherRepository.removeExpired(later, 10);
+
+            assertThat(removed, contains(hasProperty("id", equalTo(voucher.getId()))));
+            assertThat(voucherRepository.count(), is(before));
+            assertThat(voucherRepository.removeExpired(later, 10), is(empty()));
+        }
+
+        @DisplayName("성공 : 아직 정리되지 않은 만료 바우처도 개수에서는 빠집니다.")
+        @Test
+        void countExcludesExpired() {
+            long before = voucherRepository.count(VoucherType.FIXED);
+            Voucher voucher = new FixedAmountVoucher(1000);
+            voucher.setExpiresAt(new Timestamp(System.currentTimeMillis() - 1000));
+            voucherRepository.save(voucher);
+
+            assertThat(voucherRepository.count(VoucherType.FIXED), is(before));
+            voucherRepository.removeExpired(new Timestamp(System.currentTimeMillis()), 10);
+            assertThat(voucherRepository.count(VoucherType.FIXED), is(before));
+        }
+    }
+
+    @DisplayName("removeByIds() : 여러 ID로 바우처 삭제 테스트")
+    @Nested
+    @Order(6)
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class RemoveByIdsTest {
+        @DisplayName("성공 : 존재하는 바우처만 지우고 지운 개수를 반환하며, 통계에서도 빠집니다.")
+        @Test
+        void removeByIdsSuccess() {
+            long before = voucherRepository.count();
+            List<UUID> ids = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                ids.add(voucherRepository.save(new PercentDiscountVoucher(10)).getId());
+            }
+            ids.add(UUID.randomUUID());
+
+            assertThat(voucherRepository.removeByIds(ids), is(3));
+            assertThat(voucherRepository.count(), is(before));
+        }
+
+        @DisplayName("성공 : 조건에 맞는 바우처 id를 생성일 순서로 limit개까지 반환합니다.")
+        @Test
+        void findIdsSuccess() {
+            var ids = voucherRepository.findIds(VoucherType.FIXED, null, null, 2);
+
+            assertThat(ids, hasSize(lessThanOrEqualTo(2)));
+            ids.forEach(id -> assertThat(voucherRepository.findById(id).getType(), is(VoucherType.FIXED)));
+        }
+    }
+
+    @DisplayName("removeById() : ID로 바우처 삭제 테스트")
+    @Nested
+    @Order(7)
     @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
     class RemoveByIdTest {
         List<UUID> oldVouchers = new ArrayList<>();
@@ -215,4 +367,23 @@ class JdbcVoucherRepositoryTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    @DisplayName("removeChangesBefore() : 바우처 변경 이력 정리 테스트")
+    @Nested
+    @Order(8)
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class RemoveChangesBeforeTest {
+        @DisplayName("성공 : 정리된 이력보다 앞선 커서로 조회하면 WrongRequestParamException 예외가 발생합니다.")
+        @Test
+        void removeChangesSuccess() {
+            voucherRepository.save(new FixedAmountVoucher(1000));
+            Timestamp later = new Timestamp(System.currentTimeMillis() + 60_000);
+
+            int removed = voucherRepository.removeChangesBefore(later, 100_000);
+
+            assertThat(removed, greaterThan(0));
+            assertThat(voucherRepository.removeChangesBefore(later, 100_000), is(0));
+            assertThrows(WrongRequestParamException.class, () -> voucherRepository.findChanges(0, 10));
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.prgms.management.repository;
+
+import com.prgms.management.common.exception.FindFailException;
+import com.prgms.management.voucher.model.FixedAmountVoucher;
+import com.prgms.management.voucher.model.PercentDiscountVoucher;
+import com.prgms.management.voucher.model.Voucher;
+import com.prgms.management.voucher.model.VoucherType;
+import com.prgms.management.voucher.repository.MemoryVoucherRepository;
+import com.prgms.management.voucher.repository.VoucherJournal;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("MemoryVoucherRepository 유닛 테스트")
+class MemoryVoucherRepositoryTest {
+    MemoryVoucherRepository voucherRepository;
+
+    @BeforeEach
+    void setUp() {
+        voucherRepository = new MemoryVoucherRepository();
+    }
+
+    @DisplayName("findAll() : 전체 바우처 목록 조회 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class FindAllTest {
+        @DisplayName("성공 : 변경이 없는 경우 같은 스냅샷을 복사 없이 반환합니다.")
+        @Test
+        void findSameSnapshot() {
+            voucherRepository.save(new FixedAmountVoucher(1000));
+
+            List<Voucher> first = voucherRepository.findAll();
+            List<Voucher> second = voucherRepository.findAll();
+
+            assertThat(second, sameInstance(first));
+        }
+
+        @DisplayName("성공 : 반환된 스냅샷은 이후의 저장과 삭제에 영향을 받지 않습니다.")
+        @Test
+        void findPointInTimeSnapshot() {
+            Voucher voucher = voucherRepository.save(new FixedAmountVoucher(1000));
+            List<Voucher> before = voucherRepository.findAll();
+
+            voucherRepository.save(new PercentDiscountVoucher(10));
+            voucherRepository.removeById(voucher.getId());
+
+            assertThat(before, contains(voucher));
+            assertThat(voucherRepository.findAll(), hasSize(1));
+            assertThat(voucherRepository.findByType(VoucherType.FIXED), is(empty()));
+        }
+
+        @DisplayName("성공 : 조회와 저장이 동시에 일어나도 저장이 끝난 뒤의 조회에는 모든 바우처가 보입니다.")
+        @Test
+        void findAfterConcurrentWrites() throws InterruptedException {
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            for (int i = 0; i < 8; i++) {
+                executor.execute(() -> {
+                    for (int j = 0; j < 200; j++) {
+                        voucherRepository.save(new FixedAmountVoucher(1000));
+                        voucherRepository.findAll();
+                    }
+                });
+            }
+            executor.shutdown();
+
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS), is(true));
+            assertThat(voucherRepository.findAll(), hasSize(1600));
+        }
+
+        @DisplayName("성공 : 만료를 걸러 낸 목록은 다음 만료일까지 다시 거르지 않고, 만료일이 지나면 쓰기 없이도 빠집니다.")
+        @Test
+        void findCachedExpiryView() throws InterruptedException {
+            Voucher expiring = voucherRepository.save(expiring(new FixedAmountVoucher(1000), 200));
+            Voucher alive = voucherRepository.save(new FixedAmountVoucher(2000));
+
+            List<Voucher> first = voucherRepository.findAll();
+            List<Voucher> second = voucherRepository.findAll();
+            Thread.sleep(300);
+            List<Voucher> third = voucherRepository.findAll();
+
+            assertThat(first, containsInAnyOrder(expiring, alive));
+            assertThat(second, sameInstance(first));
+            assertThat(third, contains(alive));
+            assertThat(voucherRepository.findAll(), sameInstance(third));
+        }
+
+        @DisplayName("실패 : 반환된 스냅샷은 수정할 수 없습니다.")
+        @Test
+        void findUnmodifiableSnapshot() {
+            voucherRepository.save(new FixedAmountVoucher(1000));
+            List<Voucher> vouchers = voucherRepository.findAll();
+
+            assertThrows(UnsupportedOperationException.class, () -> vouchers.add(new FixedAmountVoucher(1000)));
+        }
+    }
+
+    @DisplayName("findById() : ID로 바우처 조회 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class FindByIdTest {
+        @DisplayName("실패 : 삭제된 ID로 조회하는 경우 FindFailException 예외가 발생합니다.")
+        @Test
+        void findFail() {
+            Voucher voucher = voucherRepository.save(new FixedAmountVoucher(1000));
+            voucherRepository.removeById(voucher.getId());
+
+            assertThrows(FindFailException.class, () -> voucherRepository.findById(voucher.getId()));
+        }
+    }
+
+    @DisplayName("removeExpired() : 만료된 바우처 정리 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class RemoveExpiredTest {
+        @DisplayName("성공 : 만료된 바우처는 정리되기 전에도 조회 결과에서 제외됩니다.")
+        @Test
+        void excludeExpiredSuccess() {
+            Voucher expired = voucherRepository.save(expiring(new FixedAmountVoucher(1000), -1000));
+            Voucher alive = voucherRepository.save(expiring(new FixedAmountVoucher(2000), 60_000));
+
+            assertThat(voucherRepository.findAll(), contains(samePropertyValuesAs(alive)));
+            assertThat(voucherRepository.findByType(VoucherType.FIXED), hasSize(1));
+            assertThrows(FindFailException.class, () -> voucherRepository.findById(expired.getId()));
+        }
+
+        @DisplayName("성공 : 만료일이 이른 순서로 최대 limit개까지 지웁니다.")
+        @Test
+        void removeExpiredSuccess() {
+            Voucher oldest = voucherRepository.save(expiring(new FixedAmountVoucher(1000), -3000));
+            Voucher older = voucherRepository.save(expiring(new FixedAmountVoucher(1000), -2000));
+            voucherRepository.save(expiring(new FixedAmountVoucher(1000), -1000));
+            voucherRepository.save(new PercentDiscountVoucher(10));
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+
+            List<Voucher> first = voucherRepository.removeExpired(now, 2);
+            List<Voucher> second = voucherRepository.removeExpired(now, 2);
+
+            assertThat(first.stream().map(Voucher::getId).toList(), contains(oldest.getId(), older.getId()));
+            assertThat(second, hasSize(1));
+            assertThat(voucherRepository.removeExpired(now, 2), is(empty()));
+            assertThat(voucherRepository.findAll(), hasSize(1));
+        }
+    }
+
+    @DisplayName("recover() : 스냅샷과 로그를 이용한 복구 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class RecoverTest {
+        @TempDir
+        Path directory;
+
+        @DisplayName("성공 : 스냅샷 이후의 저장과 삭제까지 재시작 후 복구됩니다.")
+        @Test
+        void recoverSuccess() throws IOException {
+            VoucherJournal journal = new VoucherJournal(directory.toString(), 60_000);
+            MemoryVoucherRepository repository = new MemoryVoucherRepository(Optional.of(journal));
+            repository.recover();
+            Voucher removed = repository.save(new FixedAmountVoucher("삭제될 바우처", 1000));
+            Voucher beforeSnapshot = repository.save(new PercentDiscountVoucher(10));
+            repository.checkpoint();
+            Voucher afterSnapshot = repository.save(new FixedAmountVoucher(2000));
+            repository.removeById(removed.getId());
+            journal.stop();
+
+            VoucherJournal restartedJournal = new VoucherJournal(directory.toString(), 60_000);
+            MemoryVoucherRepository restarted = new MemoryVoucherRepository(Optional.of(restartedJournal));
+            restarted.recover();
+            restartedJournal.stop();
+
+            assertThat(restarted.findAll(), containsInAnyOrder(samePropertyValuesAs(beforeSnapshot),
+                samePropertyValuesAs(afterSnapshot)));
+            assertThrows(FindFailException.class, () -> restarted.findById(removed.getId()));
+        }
+
+        @DisplayName("성공 : 만료일이 있는 바우처는 만료일까지 복구됩니다.")
+        @Test
+        void recoverExpiresAtSuccess() throws IOException {
+            VoucherJournal journal = new VoucherJournal(directory.toString(), 60_000);
+            MemoryVoucherRepository repository = new MemoryVoucherRepository(Optional.of(journal));
+            repository.recover();
+            Voucher inSnapshot = repository.save(expiring(new FixedAmountVoucher(1000), 60_000));
+            repository.checkpoint();
+            Voucher inLog = repository.save(expiring(new PercentDiscountVoucher(10), 60_000));
+            journal.stop();
+
+            VoucherJournal restartedJournal = new VoucherJournal(directory.toString(), 60_000);
+            MemoryVoucherRepository restarted = new MemoryVoucherRepository(Optional.of(restartedJournal));
+            restarted.recover();
+            restartedJournal.stop();
+
+            assertThat(restarted.findById(inSnapshot.getId()).getExpiresAt(), is(inSnapshot.getExpiresAt()));
+            assertThat(restarted.findById(inLog.getId()).getExpiresAt(), is(inLog.getExpiresAt()));
+        }
+    }
+
+    private static Voucher expiring(Voucher voucher, long afterMillis) {
+        voucher.setExpiresAt(new Timestamp(System.currentTimeMillis() + afterMillis));
+        return voucher;
+    }
+}
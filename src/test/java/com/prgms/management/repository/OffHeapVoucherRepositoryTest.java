@@ -0,0 +1,147 @@
+package com.prgms.management.repository;
+
+import com.prgms.management.common.exception.DeleteFailException;
+import com.prgms.management.common.exception.FindFailException;
+import com.prgms.management.common.exception.SaveFailException;
+import com.prgms.management.voucher.model.FixedAmountVoucher;
+import com.prgms.management.voucher.model.PercentDiscountVoucher;
+import com.prgms.management.voucher.model.Voucher;
+import com.prgms.management.voucher.model.VoucherChange;
+import com.prgms.management.voucher.model.VoucherChangeType;
+import com.prgms.management.voucher.model.VoucherType;
+import com.prgms.management.voucher.repository.OffHeapVoucherRepository;
+import org.junit.jupiter.api.*;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("OffHeapVoucherRepository 유닛 테스트")
+class OffHeapVoucherRepositoryTest {
+    OffHeapVoucherRepository voucherRepository;
+
+    @BeforeEach
+    void setUp() {
+        voucherRepository = new OffHeapVoucherRepository(16);
+    }
+
+    @DisplayName("save() : 바우처 저장 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class SaveTest {
+        @DisplayName("성공 : 저장한 바우처를 같은 값으로 다시 읽을 수 있습니다.")
+        @Test
+        void saveSuccess() {
+            Voucher fixed = voucherRepository.save(new FixedAmountVoucher("여름 할인", 1000));
+            Voucher percent = voucherRepository.save(new PercentDiscountVoucher(10));
+
+            assertThat(voucherRepository.findById(fixed.getId()), samePropertyValuesAs(fixed));
+            assertThat(voucherRepository.findById(percent.getId()), samePropertyValuesAs(percent));
+            assertThat(voucherRepository.findByType(VoucherType.FIXED), hasSize(1));
+        }
+
+        @DisplayName("성공 : 여러 슬랩과 인덱스 확장을 거쳐도 모든 바우처를 찾을 수 있습니다.")
+        @Test
+        void saveManySuccess() {
+            List<Voucher> vouchers = new ArrayList<>();
+            for (int i = 0; i < 5000; i++) {
+                vouchers.add(new FixedAmountVoucher(i));
+            }
+            voucherRepository.saveAll(vouchers);
+
+            for (int i = 0; i < vouchers.size(); i += 2) {
+                voucherRepository.removeById(vouchers.get(i).getId());
+            }
+
+            assertThat(voucherRepository.count(), is(2500L));
+            for (int i = 1; i < vouchers.size(); i += 2) {
+                assertThat(voucherRepository.findById(vouchers.get(i).getId()).getFigure(), is(i));
+            }
+        }
+
+        @DisplayName("실패 : 이름이 20자를 넘는 경우 SaveFailException 예외가 발생합니다.")
+        @Test
+        void saveFail() {
+            assertThrows(SaveFailException.class,
+                () -> voucherRepository.save(new FixedAmountVoucher("a".repeat(21), 1000)));
+        }
+    }
+
+    @DisplayName("removeById() : ID로 바우처 삭제 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class RemoveByIdTest {
+        @DisplayName("성공 : 삭제된 슬롯은 다음 저장에 재사용됩니다.")
+        @Test
+        void removeSuccess() {
+            Voucher first = voucherRepository.save(new FixedAmountVoucher(1000));
+            voucherRepository.removeById(first.getId());
+            Voucher second = voucherRepository.save(new FixedAmountVoucher(2000));
+
+            assertThrows(FindFailException.class, () -> voucherRepository.findById(first.getId()));
+            assertThat(voucherRepository.findAll(), contains(samePropertyValuesAs(second)));
+        }
+
+        @DisplayName("실패 : 없는 ID를 삭제하는 경우 DeleteFailException 예외가 발생합니다.")
+        @Test
+        void removeFail() {
+            Voucher voucher = voucherRepository.save(new FixedAmountVoucher(1000));
+            voucherRepository.removeById(voucher.getId());
+
+            assertThrows(DeleteFailException.class, () -> voucherRepository.removeById(voucher.getId()));
+        }
+    }
+
+    @DisplayName("removeExpired() : 만료된 바우처 정리 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class RemoveExpiredTest {
+        @DisplayName("성공 : 만료된 바우처는 조회에서 제외되고, 만료일이 이른 순서로 지워집니다.")
+        @Test
+        void removeExpiredSuccess() {
+            long now = System.currentTimeMillis();
+            Voucher older = voucherRepository.save(expiring(new FixedAmountVoucher(1000), now - 2000));
+            Voucher newer = voucherRepository.save(expiring(new FixedAmountVoucher(1000), now - 1000));
+            Voucher alive = voucherRepository.save(expiring(new PercentDiscountVoucher(10), now + 60_000));
+
+            assertThat(voucherRepository.findAll(), contains(samePropertyValuesAs(alive)));
+            assertThrows(FindFailException.class, () -> voucherRepository.findById(older.getId()));
+
+            List<Voucher> removed = voucherRepository.removeExpired(new Timestamp(now), 1);
+            assertThat(removed, contains(samePropertyValuesAs(older)));
+            assertThat(voucherRepository.removeExpired(new Timestamp(now), 1),
+                contains(samePropertyValuesAs(newer)));
+            assertThat(voucherRepository.count(), is(1L));
+        }
+    }
+
+    @DisplayName("findChanges() : 바우처 변경 이력 조회 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class FindChangesTest {
+        @DisplayName("성공 : 변경이 일어난 순서대로 반환하고, 지워진 바우처의 생성 이력은 내용 없이 반환합니다.")
+        @Test
+        void findChangesSuccess() {
+            Voucher kept = voucherRepository.save(new FixedAmountVoucher(1000));
+            Voucher removed = voucherRepository.save(new PercentDiscountVoucher(10));
+            voucherRepository.removeById(removed.getId());
+
+            List<VoucherChange> changes = voucherRepository.findChanges(0, 10);
+
+            assertThat(changes.stream().map(VoucherChange::type).toList(),
+                contains(VoucherChangeType.CREATE, VoucherChangeType.CREATE, VoucherChangeType.DELETE));
+            assertThat(changes.get(0).voucher(), samePropertyValuesAs(kept));
+            assertThat(changes.get(1).voucher(), is(nullValue()));
+            assertThat(voucherRepository.findChanges(changes.get(2).sequence(), 10), is(empty()));
+        }
+    }
+
+    private static Voucher expiring(Voucher voucher, long expiresAt) {
+        voucher.setExpiresAt(new Timestamp(expiresAt));
+        return voucher;
+    }
+}
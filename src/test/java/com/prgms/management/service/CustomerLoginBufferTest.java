@@ -0,0 +1,107 @@
+package com.prgms.management.service;
+
+import com.prgms.management.common.exception.TooManyRequestsException;
+import com.prgms.management.customer.repository.CustomerRepository;
+import com.prgms.management.customer.service.CustomerLoginBuffer;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@TestClassOrder(ClassOrderer.DisplayName.class)
+class CustomerLoginBufferTest {
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @DisplayName("flush() : 마지막 로그인 시각 반영 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class FlushTest {
+        @DisplayName("성공 : 같은 고객의 로그인은 가장 늦은 시각 하나로 합쳐지고 묶음 크기를 넘지 않게 나뉘어 반영됩니다.")
+        @Test
+        @SuppressWarnings("unchecked")
+        void flushSuccess() {
+            // given
+            CustomerLoginBuffer buffer = new CustomerLoginBuffer(customerRepository, 2, 100, 60_000);
+            UUID first = UUID.randomUUID();
+            buffer.record(first, Timestamp.valueOf("2022-05-01 10:00:00"));
+            buffer.record(first, Timestamp.valueOf("2022-05-01 12:00:00"));
+            buffer.record(first, Timestamp.valueOf("2022-05-01 11:00:00"));
+            buffer.record(UUID.randomUUID(), Timestamp.valueOf("2022-05-01 10:00:00"));
+            buffer.record(UUID.randomUUID(), Timestamp.valueOf("2022-05-01 10:00:00"));
+            Map<UUID, Timestamp> written = new HashMap<>();
+            doAnswer(invocation -> {
+                written.putAll(invocation.getArgument(0));
+                return null;
+            }).when(customerRepository).updateLastLogins(anyMap());
+            // when
+            buffer.flush();
+            // then
+            ArgumentCaptor<Map<UUID, Timestamp>> captor = ArgumentCaptor.forClass(Map.class);
+            verify(customerRepository, times(2)).updateLastLogins(captor.capture());
+            List<Map<UUID, Timestamp>> batches = captor.getAllValues();
+            assertThat(batches, everyItem(aMapWithSize(lessThanOrEqualTo(2))));
+            assertThat(written, aMapWithSize(3));
+            assertThat(written.get(first), is(Timestamp.valueOf("2022-05-01 12:00:00")));
+            assertThat(buffer.getMetrics().recordedCount(), is(5L));
+            assertThat(buffer.getMetrics().flushedCount(), is(3L));
+            assertThat(buffer.getMetrics().pendingCount(), is(0));
+        }
+
+        @DisplayName("실패 : 반영에 실패한 로그인 시각은 대기열에 남아 다음 반영 때 다시 시도됩니다.")
+        @Test
+        void flushFail() {
+            // given
+            CustomerLoginBuffer buffer = new CustomerLoginBuffer(customerRepository, 10, 100, 60_000);
+            buffer.record(UUID.randomUUID(), Timestamp.valueOf("2022-05-01 10:00:00"));
+            doThrow(new RuntimeException("down")).doNothing().when(customerRepository).updateLastLogins(anyMap());
+            // when
+            buffer.flush();
+            // then
+            assertThat(buffer.getMetrics().pendingCount(), is(1));
+            assertThat(buffer.getMetrics().failedCount(), is(1L));
+            buffer.flush();
+            assertThat(buffer.getMetrics().pendingCount(), is(0));
+            assertThat(buffer.getMetrics().flushedCount(), is(1L));
+        }
+    }
+
+    @DisplayName("record() : 로그인 기록 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class RecordTest {
+        @DisplayName("실패 : 대기열이 가득 차면 새 고객의 로그인은 TooManyRequestsException 예외로 거절하고 바로 반영을 시작합니다.")
+        @Test
+        void recordFull() throws InterruptedException {
+            // given
+            CustomerLoginBuffer buffer = new CustomerLoginBuffer(customerRepository, 10, 2, 60_000);
+            UUID first = UUID.randomUUID();
+            buffer.record(first, Timestamp.valueOf("2022-05-01 10:00:00"));
+            buffer.record(UUID.randomUUID(), Timestamp.valueOf("2022-05-01 10:00:00"));
+            // when
+            buffer.record(first, Timestamp.valueOf("2022-05-01 11:00:00"));
+            TooManyRequestsException e = assertThrows(TooManyRequestsException.class,
+                () -> buffer.record(UUID.randomUUID(), Timestamp.valueOf("2022-05-01 10:00:00")));
+            // then
+            assertThat(e.getRetryAfterSeconds(), is(60L));
+            assertThat(buffer.getMetrics().rejectedCount(), is(1L));
+            verify(customerRepository, timeout(5000)).updateLastLogins(anyMap());
+            buffer.stop();
+            assertThat(buffer.getMetrics().pendingCount(), is(0));
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.prgms.management.service;
+
+import com.prgms.management.campaign.model.Campaign;
+import com.prgms.management.campaign.model.CampaignReservation;
+import com.prgms.management.campaign.model.CampaignStock;
+import com.prgms.management.campaign.repository.CampaignRepository;
+import com.prgms.management.campaign.service.SimpleCampaignService;
+import com.prgms.management.common.exception.SoldOutException;
+import com.prgms.management.voucher.model.Voucher;
+import com.prgms.management.voucher.model.VoucherType;
+import com.prgms.management.voucher.service.SimpleVoucherService;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@TestClassOrder(ClassOrderer.DisplayName.class)
+class SimpleCampaignServiceTest {
+    @Mock
+    private SimpleVoucherService voucherService;
+
+    private final AtomicLong issued = new AtomicLong();
+    private FakeCampaignRepository campaignRepository;
+    private Campaign campaign;
+
+    @BeforeEach
+    void setUp() {
+        campaign = new Campaign("한정 할인", VoucherType.FIXED, 1000, 1000);
+        campaignRepository = new FakeCampaignRepository(campaign);
+    }
+
+    @DisplayName("issueVoucher() : 한정 수량 바우처 발급 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class IssueVoucherTest {
+        @DisplayName("성공 : 동시에 몰려도 재고만큼만 발급되고, DB 임대는 묶음 단위로 일어나며 품절 뒤에는 DB에 묻지 않습니다.")
+        @Test
+        void issueConcurrently() {
+            // given
+            when(voucherService.addVoucher(any())).thenAnswer(invocation -> {
+                issued.incrementAndGet();
+                return invocation.getArgument(0);
+            });
+            SimpleCampaignService service = new SimpleCampaignService(campaignRepository, voucherService, 50, 60_000,
+                60_000);
+            AtomicLong soldOut = new AtomicLong();
+            // when
+            CompletableFuture.allOf(IntStream.range(0, 8).mapToObj(t -> CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 250; i++) {
+                    try {
+                        Voucher voucher = service.issueVoucher(campaign.getId());
+                        assertThat(voucher.getCampaignId(), is(campaign.getId()));
+                    } catch (SoldOutException e) {
+                        soldOut.incrementAndGet();
+                    }
+                }
+            })).toArray(CompletableFuture[]::new)).join();
+            // then
+            assertThat(issued.get(), is(1000L));
+            assertThat(soldOut.get(), is(1000L));
+            assertThat(campaignRepository.grantCalls.get(), lessThanOrEqualTo(1000L / 50 + 8));
+            long reserveCalls = campaignRepository.reserveCalls.get();
+            for (int i = 0; i < 100; i++) {
+                assertThrows(SoldOutException.class, () -> service.issueVoucher(campaign.getId()));
+            }
+            assertThat(campaignRepository.reserveCalls.get(), is(reserveCalls));
+        }
+
+        @DisplayName("성공 : 임대가 만료되면 남은 수량을 버리고, 다시 임대받은 만큼만 발급합니다.")
+        @Test
+        void issueAfterLeaseLost() {
+            // given
+            when(voucherService.addVoucher(any())).thenAnswer(invocation -> {
+                issued.incrementAndGet();
+                return invocation.getArgument(0);
+            });
+            SimpleCampaignService service = new SimpleCampaignService(campaignRepository, voucherService, 600, 60_000,
+                60_000);
+            service.issueVoucher(campaign.getId());
+            // when
+            campaignRepository.leases.clear();
+            service.reconcile();
+            for (int i = 0; i < 999; i++) {
+                service.issueVoucher(campaign.getId());
+            }
+            // then
+            assertThrows(SoldOutException.class, () -> service.issueVoucher(campaign.getId()));
+            assertThat(issued.get(), is(1000L));
+        }
+
+        @DisplayName("실패 : 바우처 저장에 실패하면 수량을 되돌려 다음 발급에 사용합니다.")
+        @Test
+        void issueFail() {
+            // given
+            when(voucherService.addVoucher(any()))
+                .thenThrow(new IllegalStateException("저장 실패"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+            SimpleCampaignService service = new SimpleCampaignService(campaignRepository, voucherService, 1, 60_000,
+                60_000);
+            // when
+            assertThrows(IllegalStateException.class, () -> service.issueVoucher(campaign.getId()));
+            service.issueVoucher(campaign.getId());
+            // then
+            assertThat(campaignRepository.reserveCalls.get(), is(1L));
+        }
+    }
+
+    // DB와 같은 규칙으로 발급 수와 다른 임대 수량을 뺀 만큼만 임대해 준다.
+    private class FakeCampaignRepository implements CampaignRepository {
+        private final Campaign campaign;
+        private final Map<String, Long> leases = new HashMap<>();
+        private final AtomicLong reserveCalls = new AtomicLong();
+        private final AtomicLong grantCalls = new AtomicLong();
+
+        private FakeCampaignRepository(Campaign campaign) {
+            this.campaign = campaign;
+        }
+
+        @Override
+        public Campaign save(Campaign campaign) {
+            return campaign;
+        }
+
+        @Override
+        public Campaign findById(UUID campaignId) {
+            return campaign;
+        }
+
+        @Override
+        public List<Campaign> findAll() {
+            return List.of(campaign);
+        }
+
+        @Override
+        public synchronized CampaignReservation reserve(UUID campaignId, String holder, long remaining, long amount,
+                                         long leaseMillis) {
+            reserveCalls.incrementAndGet();
+            long others = leases.entrySet().stream().filter(entry -> !entry.getKey().equals(holder))
+                .mapToLong(Map.Entry::getValue).sum();
+            long unclaimed = campaign.getStock() - issued.get() - others;
+            long granted = Math.max(0, Math.min(amount, unclaimed - remaining));
+            leases.put(holder, remaining + granted);
+            if (granted > 0) {
+                grantCalls.incrementAndGet();
+            }
+            return new CampaignReservation(granted, unclaimed);
+        }
+
+        @Override
+        public synchronized boolean renew(UUID campaignId, String holder, long remaining, long leaseMillis) {
+            if (remaining == 0) {
+                leases.remove(holder);
+                return true;
+            }
+            return leases.computeIfPresent(holder, (key, value) -> remaining) != null;
+        }
+
+        @Override
+        public int removeExpiredLeases(long leaseMillis) {
+            return 0;
+        }
+
+        @Override
+        public synchronized CampaignStock findStock(UUID campaignId, long leaseMillis) {
+            return new CampaignStock(campaign.getStock(), issued.get(),
+                leases.values().stream().mapToLong(Long::longValue).sum());
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.prgms.management.common.exception.SaveFailException;
 import com.prgms.management.customer.model.Customer;
 import com.prgms.management.customer.model.CustomerType;
 import com.prgms.management.customer.repository.CustomerRepository;
+import com.prgms.management.customer.service.CustomerSearchIndex;
 import com.prgms.management.customer.service.SimpleCustomerService;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,6 +32,9 @@ class SimpleCustomerServiceTest {
     @Mock
     private CustomerRepository customerRepository;
 
+    @Mock
+    private CustomerSearchIndex customerSearchIndex;
+
     @InjectMocks
     private SimpleCustomerService customerService;
 
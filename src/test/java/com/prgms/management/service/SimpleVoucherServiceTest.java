@@ -1,13 +1,24 @@
 package com.prgms.management.service;
 
+import com.prgms.management.common.dto.PageResponse;
 import com.prgms.management.common.exception.DeleteFailException;
 import com.prgms.management.common.exception.FindFailException;
 import com.prgms.management.common.exception.SaveFailException;
+import com.prgms.management.common.exception.WrongRequestParamException;
+import com.prgms.management.voucher.model.FixedAmountVoucher;
 import com.prgms.management.voucher.model.PercentDiscountVoucher;
+import com.prgms.management.voucher.model.StatisticsUnit;
 import com.prgms.management.voucher.model.Voucher;
+import com.prgms.management.voucher.model.VoucherChange;
+import com.prgms.management.voucher.model.VoucherChangeType;
+import com.prgms.management.voucher.model.VoucherField;
+import com.prgms.management.voucher.model.VoucherStatistics;
 import com.prgms.management.voucher.model.VoucherType;
 import com.prgms.management.voucher.repository.VoucherRepository;
 import com.prgms.management.voucher.service.SimpleVoucherService;
+import com.prgms.management.voucher.service.VoucherChangeFeed;
+import com.prgms.management.voucher.service.VoucherExistenceFilter;
+import com.prgms.management.voucher.service.VoucherSearchIndex;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -18,13 +29,18 @@ import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +50,15 @@ class SimpleVoucherServiceTest {
     @Mock
     private VoucherRepository voucherRepository;
 
+    @Mock
+    private VoucherSearchIndex voucherSearchIndex;
+
+    @Mock
+    private VoucherExistenceFilter voucherExistenceFilter;
+
+    @Mock
+    private VoucherChangeFeed voucherChangeFeed;
+
     @InjectMocks
     private SimpleVoucherService voucherService;
 
@@ -52,6 +77,7 @@ class SimpleVoucherServiceTest {
             // then
             assertThat(result.getFigure(), is(voucher.getFigure()));
             verify(voucherRepository, only()).save(voucher);
+            verify(voucherChangeFeed, only()).signal();
         }
 
         @DisplayName("실패 : 레포지토리 단에서 저장에 실패한 경우 SaveFailException 예외가 발생합니다.")
@@ -63,6 +89,7 @@ class SimpleVoucherServiceTest {
             // when, then
             assertThrows(SaveFailException.class, () -> voucherService.addVoucher(voucher));
             verify(voucherRepository, only()).save(voucher);
+            verify(voucherChangeFeed, never()).signal();
         }
     }
 
@@ -172,10 +199,125 @@ class SimpleVoucherServiceTest {
         }
     }
 
+    @DisplayName("findVoucherPage() : 바우처 페이지 조회 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class FindVoucherPageTest {
+        @DisplayName("성공 : 요청한 페이지의 바우처와 전체 개수가 반환됩니다.")
+        @Test
+        void findSuccess() {
+            // given
+            List<Voucher> expectedList = List.of(new PercentDiscountVoucher(20));
+            when(voucherRepository.findPage(2, 10)).thenReturn(expectedList);
+            when(voucherRepository.count()).thenReturn(11L);
+            // when
+            PageResponse<Voucher> result = voucherService.findVoucherPage(2, 10);
+            // then
+            assertThat(result.content(), equalTo(expectedList));
+            assertThat(result.totalPages(), is(2));
+            assertThat(result.hasNext(), is(false));
+            assertThat(result.hasPrevious(), is(true));
+        }
+
+        @DisplayName("성공 : 앞 페이지를 읽은 뒤의 다음 페이지는 OFFSET 없이 앞 페이지의 마지막 바우처 다음부터 읽습니다.")
+        @Test
+        void findNextPageByAnchor() {
+            // given
+            Voucher last = new FixedAmountVoucher(1000);
+            List<Voucher> firstPage = List.of(new PercentDiscountVoucher(20), last);
+            List<Voucher> secondPage = List.of(new PercentDiscountVoucher(30));
+            when(voucherRepository.findSlice(null, null, null, 2)).thenReturn(firstPage);
+            when(voucherRepository.findSlice(null, last.getCreatedAt(), last.getId(), 2)).thenReturn(secondPage);
+            // when
+            voucherService.findVoucherPage(1, 2);
+            PageResponse<Voucher> result = voucherService.findVoucherPage(2, 2);
+            // then
+            assertThat(result.content(), equalTo(secondPage));
+            verify(voucherRepository, never()).findPage(anyInt(), anyInt());
+        }
+    }
+
+    @DisplayName("findVoucherFields() : 바우처 필드 목록 조회 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class FindVoucherFieldsTest {
+        @DisplayName("성공 : 요청한 필드와 조건이 그대로 레포지토리에 전달됩니다.")
+        @Test
+        void findSuccess() {
+            // given
+            List<VoucherField> fields = VoucherField.of("id,name,type");
+            List<Map<String, Object>> expectedList = new ArrayList<>();
+            when(voucherRepository.findFields(fields, VoucherType.FIXED, null, null)).thenReturn(expectedList);
+            // when
+            List<Map<String, Object>> resultList = voucherService.findVoucherFields(fields, VoucherType.FIXED, null,
+                null);
+            // then
+            assertThat(resultList, equalTo(expectedList));
+            verify(voucherRepository, only()).findFields(fields, VoucherType.FIXED, null, null);
+        }
+
+        @DisplayName("실패 : 지원하지 않는 필드가 주어진 경우 WrongRequestParamException 예외가 발생합니다.")
+        @Test
+        void findFail() {
+            assertThrows(WrongRequestParamException.class, () -> VoucherField.of("id,password"));
+            verifyNoInteractions(voucherRepository);
+        }
+    }
+
+    @DisplayName("findVoucherStatistics() : 바우처 통계 조회 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class FindVoucherStatisticsTest {
+        @DisplayName("성공 : 요청한 단위의 통계가 레포지토리에서 반환됩니다.")
+        @Test
+        void findSuccess() {
+            // given
+            List<VoucherStatistics> expectedList = new ArrayList<>();
+            when(voucherRepository.findStatistics(StatisticsUnit.HOUR)).thenReturn(expectedList);
+            // when
+            List<VoucherStatistics> resultList = voucherService.findVoucherStatistics(StatisticsUnit.of("hour"));
+            // then
+            assertThat(resultList, equalTo(expectedList));
+            verify(voucherRepository, only()).findStatistics(StatisticsUnit.HOUR);
+        }
+
+        @DisplayName("실패 : 지원하지 않는 단위가 주어진 경우 WrongRequestParamException 예외가 발생합니다.")
+        @Test
+        void findFail() {
+            assertThrows(WrongRequestParamException.class, () -> StatisticsUnit.of("week"));
+        }
+    }
+
+    @DisplayName("findVoucherChanges() : 바우처 변경 이력 조회 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class FindVoucherChangesTest {
+        @DisplayName("성공 : 변경 이력을 기다리는 일은 변경 알림에 맡깁니다.")
+        @Test
+        void findSuccess() {
+            // given
+            Voucher voucher = new PercentDiscountVoucher(20);
+            CompletableFuture<List<VoucherChange>> expected = CompletableFuture.completedFuture(List.of(
+                new VoucherChange(1L, VoucherChangeType.CREATE, voucher.getId(), voucher.getCreatedAt(), voucher)));
+            when(voucherChangeFeed.await(0, 100, 10_000)).thenReturn(expected);
+            // when
+            CompletableFuture<List<VoucherChange>> result = voucherService.findVoucherChanges(0, 100, 10_000);
+            // then
+            assertThat(result, equalTo(expected));
+            verify(voucherRepository, never()).findChanges(anyLong(), anyInt());
+        }
+    }
+
     @DisplayName("findVoucherById() : ID로 바우처 조회 테스트")
     @Nested
     @TestMethodOrder(MethodOrderer.DisplayName.class)
     class FindVoucherByIdTest {
+        @BeforeEach
+        void setUp() {
+            when(voucherExistenceFilter.load(any(UUID.class), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<Voucher>>getArgument(1).get());
+        }
+
         @DisplayName("성공 : 레포지토리 단에서 아이디 조회에 성공한 경우 ID에 따른 바우처를 반환합니다.")
         @Test
         void findSuccess() {
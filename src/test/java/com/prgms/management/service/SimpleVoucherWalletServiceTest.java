@@ -0,0 +1,65 @@
+package com.prgms.management.service;
+
+import com.prgms.management.common.exception.AlreadyClaimedException;
+import com.prgms.management.common.exception.FindFailException;
+import com.prgms.management.voucher_wallet.entity.ClaimResult;
+import com.prgms.management.voucher_wallet.repository.VoucherWalletRepository;
+import com.prgms.management.voucher_wallet.service.SimpleVoucherWalletService;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@TestClassOrder(ClassOrderer.DisplayName.class)
+class SimpleVoucherWalletServiceTest {
+    @Mock
+    private VoucherWalletRepository voucherWalletRepository;
+
+    @InjectMocks
+    private SimpleVoucherWalletService voucherWalletService;
+
+    private final UUID customerId = UUID.randomUUID();
+    private final UUID voucherId = UUID.randomUUID();
+
+    @DisplayName("claimVoucher() : 바우처 지급 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class ClaimVoucherTest {
+        @DisplayName("성공 : 지급되면 예외 없이 끝납니다.")
+        @Test
+        void claimSuccess() {
+            // given
+            when(voucherWalletRepository.claim(customerId, voucherId)).thenReturn(ClaimResult.CLAIMED);
+            // when, then
+            assertDoesNotThrow(() -> voucherWalletService.claimVoucher(customerId, voucherId));
+        }
+
+        @DisplayName("실패 : 이미 지급된 바우처는 AlreadyClaimedException을 던집니다.")
+        @Test
+        void claimAlreadyClaimed() {
+            // given
+            when(voucherWalletRepository.claim(customerId, voucherId)).thenReturn(ClaimResult.ALREADY_CLAIMED);
+            // when, then
+            assertThrows(AlreadyClaimedException.class, () -> voucherWalletService.claimVoucher(customerId, voucherId));
+        }
+
+        @DisplayName("실패 : 바우처나 고객이 없으면 FindFailException을 던집니다.")
+        @Test
+        void claimNotFound() {
+            // given
+            when(voucherWalletRepository.claim(customerId, voucherId))
+                .thenReturn(ClaimResult.VOUCHER_NOT_FOUND, ClaimResult.CUSTOMER_NOT_FOUND);
+            // when, then
+            assertThrows(FindFailException.class, () -> voucherWalletService.claimVoucher(customerId, voucherId));
+            assertThrows(FindFailException.class, () -> voucherWalletService.claimVoucher(customerId, voucherId));
+        }
+    }
+}
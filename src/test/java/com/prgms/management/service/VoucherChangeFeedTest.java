@@ -0,0 +1,112 @@
+package com.prgms.management.service;
+
+import com.prgms.management.voucher.model.FixedAmountVoucher;
+import com.prgms.management.voucher.model.Voucher;
+import com.prgms.management.voucher.model.VoucherChange;
+import com.prgms.management.voucher.repository.MemoryVoucherRepository;
+import com.prgms.management.voucher.service.VoucherChangeFeed;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@TestClassOrder(ClassOrderer.DisplayName.class)
+class VoucherChangeFeedTest {
+    private MemoryVoucherRepository voucherRepository;
+    private VoucherChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        voucherRepository = new MemoryVoucherRepository();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        feed.stop();
+    }
+
+    @DisplayName("await() : 바우처 변경 대기 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class AwaitTest {
+        @DisplayName("성공 : 변경 이력이 있는 경우 기다리지 않고 바로 완료됩니다.")
+        @Test
+        void awaitSuccess() {
+            // given
+            feed = new VoucherChangeFeed(voucherRepository, 60_000);
+            feed.start();
+            Voucher voucher = voucherRepository.save(new FixedAmountVoucher(1000));
+            // when
+            CompletableFuture<List<VoucherChange>> result = feed.await(0, 10, 10_000);
+            // then
+            assertThat(result.isDone(), is(true));
+            assertThat(result.join().get(0).voucherId(), is(voucher.getId()));
+            assertThat(feed.getWaiterCount(), is(0));
+        }
+
+        @DisplayName("성공 : 이 서버에서 저장하면 조회 주기를 기다리지 않고 완료됩니다.")
+        @Test
+        void awaitSignalSuccess() throws ExecutionException, InterruptedException, TimeoutException {
+            // given
+            feed = new VoucherChangeFeed(voucherRepository, 60_000);
+            feed.start();
+            CompletableFuture<List<VoucherChange>> result = feed.await(0, 10, 10_000);
+            assertThat(feed.getWaiterCount(), is(1));
+            // when
+            Voucher voucher = voucherRepository.save(new FixedAmountVoucher(1000));
+            feed.signal();
+            // then
+            assertThat(result.get(5, TimeUnit.SECONDS).get(0).voucherId(), is(voucher.getId()));
+            assertThat(feed.getWaiterCount(), is(0));
+        }
+
+        @DisplayName("성공 : 다른 서버의 변경은 한 스레드의 주기적인 조회로 찾아, 같은 위치를 기다리는 요청에 나누어 줍니다.")
+        @Test
+        void awaitPollSuccess() throws ExecutionException, InterruptedException, TimeoutException {
+            // given
+            feed = new VoucherChangeFeed(voucherRepository, 10);
+            feed.start();
+            CompletableFuture<List<VoucherChange>> first = feed.await(0, 1, 10_000);
+            CompletableFuture<List<VoucherChange>> second = feed.await(0, 10, 10_000);
+            // when
+            voucherRepository.save(new FixedAmountVoucher(1000));
+            voucherRepository.save(new FixedAmountVoucher(2000));
+            // then
+            assertThat(first.get(5, TimeUnit.SECONDS), hasSize(1));
+            assertThat(second.get(5, TimeUnit.SECONDS), hasSize(greaterThanOrEqualTo(1)));
+        }
+
+        @DisplayName("성공 : 대기 시간 동안 변경이 없으면 빈 목록으로 완료됩니다.")
+        @Test
+        void awaitTimeout() throws ExecutionException, InterruptedException, TimeoutException {
+            // given
+            feed = new VoucherChangeFeed(voucherRepository, 10);
+            feed.start();
+            // when
+            CompletableFuture<List<VoucherChange>> result = feed.await(0, 10, 50);
+            // then
+            assertThat(result.get(5, TimeUnit.SECONDS), is(empty()));
+            assertThat(feed.getWaiterCount(), is(0));
+        }
+
+        @DisplayName("성공 : 돌려받은 future를 취소하면 대기 요청에서 빠집니다.")
+        @Test
+        void awaitCancel() {
+            // given
+            feed = new VoucherChangeFeed(voucherRepository, 60_000);
+            feed.start();
+            CompletableFuture<List<VoucherChange>> result = feed.await(0, 10, 10_000);
+            assertThat(feed.getWaiterCount(), is(1));
+            // when
+            result.cancel(false);
+            // then
+            assertThat(feed.getWaiterCount(), is(0));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.prgms.management.service;
+
+import com.prgms.management.voucher.model.FixedAmountVoucher;
+import com.prgms.management.voucher.model.Voucher;
+import com.prgms.management.voucher.repository.MemoryVoucherRepository;
+import com.prgms.management.common.exception.FindFailException;
+import com.prgms.management.voucher.service.VoucherChangeFollower;
+import com.prgms.management.voucher.service.VoucherExistenceFilter;
+import com.prgms.management.voucher.service.VoucherSearchIndex;
+import org.junit.jupiter.api.*;
+
+import java.sql.Timestamp;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@TestClassOrder(ClassOrderer.DisplayName.class)
+class VoucherChangeFollowerTest {
+    private MemoryVoucherRepository voucherRepository;
+    private VoucherSearchIndex voucherSearchIndex;
+    private VoucherExistenceFilter voucherExistenceFilter;
+    private VoucherChangeFollower follower;
+
+    @BeforeEach
+    void setUp() {
+        voucherRepository = new MemoryVoucherRepository();
+        voucherSearchIndex = new VoucherSearchIndex(voucherRepository);
+        voucherExistenceFilter = new VoucherExistenceFilter(voucherRepository, 1000, 60_000, 1000, 60_000);
+        follower = new VoucherChangeFollower(voucherRepository, voucherSearchIndex, voucherExistenceFilter, 60_000, 2);
+        follower.rebuild();
+    }
+
+    @DisplayName("follow() : 변경 이력 반영 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class FollowTest {
+        @DisplayName("성공 : 다른 곳에서 저장하거나 지운 바우처가 검색 색인에 반영됩니다.")
+        @Test
+        void followSuccess() {
+            // given
+            Voucher kept = voucherRepository.save(new FixedAmountVoucher("summer sale", 1000));
+            Voucher removed = voucherRepository.save(new FixedAmountVoucher("summer gift", 2000));
+            voucherRepository.save(new FixedAmountVoucher("winter sale", 3000));
+            voucherRepository.removeById(removed.getId());
+            // when
+            long applied = follower.follow();
+            // then
+            assertThat(applied, is(4L));
+            assertThat(follower.getCursor(), is(voucherRepository.findSettledChangeSequence()));
+            assertThat(voucherSearchIndex.search("summer", 10), contains(samePropertyValuesAs(kept)));
+        }
+
+        @DisplayName("성공 : 다른 곳에서 저장한 바우처는 존재 필터를 통과하고, 지운 바우처는 저장소에 묻지 않습니다.")
+        @Test
+        void followFeedsExistenceFilter() {
+            // given
+            Voucher saved = voucherRepository.save(new FixedAmountVoucher(1000));
+            Voucher removed = voucherRepository.save(new FixedAmountVoucher(2000));
+            voucherRepository.removeById(removed.getId());
+            // when
+            follower.follow();
+            // then
+            Voucher found = voucherExistenceFilter.load(saved.getId(), () -> voucherRepository.findById(saved.getId()));
+            assertThat(found, samePropertyValuesAs(saved));
+            Assertions.assertThrows(FindFailException.class, () -> voucherExistenceFilter.load(removed.getId(),
+                () -> Assertions.fail("저장소를 조회하면 안 됩니다.")));
+        }
+
+        @DisplayName("성공 : 만료된 바우처는 limit을 자르기 전에 빠집니다.")
+        @Test
+        void searchSkipsExpired() {
+            // given
+            long now = System.currentTimeMillis();
+            for (int i = 0; i < 3; i++) {
+                Voucher expired = new FixedAmountVoucher("coupon expired" + i, 1000);
+                expired.setExpiresAt(new Timestamp(now - 1000));
+                voucherRepository.save(expired);
+            }
+            Voucher alive = new FixedAmountVoucher("coupon alive", 1000);
+            alive.setExpiresAt(new Timestamp(now + 60_000));
+            voucherRepository.save(alive);
+            follower.follow();
+            // when
+            var found = voucherSearchIndex.search("coupon", 1);
+            // then
+            assertThat(found, contains(samePropertyValuesAs(alive)));
+        }
+    }
+}
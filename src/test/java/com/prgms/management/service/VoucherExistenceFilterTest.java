@@ -0,0 +1,152 @@
+package com.prgms.management.service;
+
+import com.prgms.management.common.exception.FindFailException;
+import com.prgms.management.common.util.UuidOrder;
+import com.prgms.management.voucher.model.FixedAmountVoucher;
+import com.prgms.management.voucher.model.Voucher;
+import com.prgms.management.voucher.repository.MemoryVoucherRepository;
+import com.prgms.management.voucher.service.VoucherExistenceFilter;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("VoucherExistenceFilter 유닛 테스트")
+class VoucherExistenceFilterTest {
+    MemoryVoucherRepository voucherRepository;
+    VoucherExistenceFilter filter;
+    AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        voucherRepository = new MemoryVoucherRepository();
+        filter = new VoucherExistenceFilter(voucherRepository, 1000, 60_000, 1000, 60_000);
+        loads = new AtomicInteger();
+    }
+
+    @DisplayName("load() : 없는 바우처 조회 차단 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class LoadTest {
+        @DisplayName("성공 : 시작할 때 있던 바우처와 이후 저장한 바우처는 저장소에서 읽습니다.")
+        @Test
+        void loadExisting() {
+            // given
+            Voucher before = voucherRepository.save(new FixedAmountVoucher(1000));
+            filter.build();
+            Voucher after = voucherRepository.save(new FixedAmountVoucher(2000));
+            filter.put(after);
+            // when
+            Voucher beforeResult = filter.load(before.getId(), () -> load(before.getId()));
+            Voucher afterResult = filter.load(after.getId(), () -> load(after.getId()));
+            // then
+            assertThat(beforeResult.getId(), is(before.getId()));
+            assertThat(afterResult.getId(), is(after.getId()));
+            assertThat(loads.get(), is(2));
+        }
+
+        @DisplayName("실패 : 필터에 없는 바우처는 저장소에 묻지 않고 FindFailException 예외가 발생합니다.")
+        @Test
+        void filteredOut() {
+            // given
+            filter.build();
+            UUID undefinedId = UUID.randomUUID();
+            // when, then
+            assertThrows(FindFailException.class, () -> filter.load(undefinedId, () -> load(undefinedId)));
+            assertThat(loads.get(), is(0));
+        }
+
+        @DisplayName("성공 : 변경 이력을 따라잡지 못해 필터가 뒤처졌을 수 있으면 필터에 없는 바우처도 저장소에서 읽습니다.")
+        @Test
+        void staleFallsThrough() {
+            // given
+            filter = new VoucherExistenceFilter(voucherRepository, 1000, 60_000, 1000, 0);
+            filter.build();
+            Voucher other = voucherRepository.save(new FixedAmountVoucher(1000));
+            // when
+            Voucher result = filter.load(other.getId(), () -> load(other.getId()));
+            // then
+            assertThat(result.getId(), is(other.getId()));
+            assertThat(loads.get(), is(1));
+        }
+
+        @DisplayName("성공 : 전체 id를 여러 번에 나누어 읽어 필터를 만듭니다.")
+        @Test
+        void buildInPages() {
+            // given
+            List<Voucher> vouchers = new ArrayList<>();
+            for (int i = 0; i < 10_001; i++) {
+                vouchers.add(new FixedAmountVoucher(1000));
+            }
+            voucherRepository.saveAll(vouchers);
+            // when
+            filter.build();
+            // then
+            Voucher last = vouchers.stream().max(Comparator.comparing(Voucher::getId, UuidOrder.BYTES)).orElseThrow();
+            assertThat(filter.load(last.getId(), () -> load(last.getId())).getId(), is(last.getId()));
+            assertThat(loads.get(), is(1));
+        }
+
+        @DisplayName("실패 : 필터를 통과했지만 없던 바우처는 유효 시간 동안 다시 묻지 않습니다.")
+        @Test
+        void negativeCached() {
+            // given
+            Voucher removed = voucherRepository.save(new FixedAmountVoucher(1000));
+            filter.build();
+            voucherRepository.removeById(removed.getId());
+            // when
+            for (int i = 0; i < 3; i++) {
+                assertThrows(FindFailException.class, () -> filter.load(removed.getId(), () -> load(removed.getId())));
+            }
+            // then
+            assertThat(loads.get(), is(1));
+        }
+
+        @DisplayName("성공 : 없다고 기억한 바우처도 다시 저장되면 저장소에서 읽습니다.")
+        @Test
+        void negativeClearedOnPut() {
+            // given
+            Voucher voucher = voucherRepository.save(new FixedAmountVoucher(1000));
+            filter.build();
+            voucherRepository.removeById(voucher.getId());
+            assertThrows(FindFailException.class, () -> filter.load(voucher.getId(), () -> load(voucher.getId())));
+            // when
+            voucherRepository.save(voucher);
+            filter.put(voucher);
+            // then
+            assertThat(filter.load(voucher.getId(), () -> load(voucher.getId())).getId(), is(voucher.getId()));
+        }
+
+        @DisplayName("성공 : 조회 도중 저장된 바우처는 없다고 기억하지 않습니다.")
+        @Test
+        void notCachedWhenSavedDuringLoad() {
+            // given
+            filter.build();
+            Voucher voucher = new FixedAmountVoucher(1000);
+            filter.put(voucher);
+            // when
+            assertThrows(FindFailException.class, () -> filter.load(voucher.getId(), () -> {
+                try {
+                    return load(voucher.getId());
+                } finally {
+                    voucherRepository.save(voucher);
+                    filter.put(voucher);
+                }
+            }));
+            // then
+            assertThat(filter.load(voucher.getId(), () -> load(voucher.getId())).getId(), is(voucher.getId()));
+        }
+    }
+
+    private Voucher load(UUID id) {
+        loads.incrementAndGet();
+        return voucherRepository.findById(id);
+    }
+}
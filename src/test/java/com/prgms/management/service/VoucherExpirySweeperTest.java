@@ -0,0 +1,91 @@
+package com.prgms.management.service;
+
+import com.prgms.management.common.exception.FindFailException;
+import com.prgms.management.voucher.model.FixedAmountVoucher;
+import com.prgms.management.voucher.model.Voucher;
+import com.prgms.management.voucher.repository.MemoryVoucherRepository;
+import com.prgms.management.voucher.repository.VoucherRepository;
+import com.prgms.management.voucher.service.SimpleVoucherService;
+import com.prgms.management.voucher.service.VoucherChangeFeed;
+import com.prgms.management.voucher.service.VoucherExistenceFilter;
+import com.prgms.management.voucher.service.VoucherExpirySweeper;
+import com.prgms.management.voucher.service.VoucherSearchIndex;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@TestClassOrder(ClassOrderer.DisplayName.class)
+class VoucherExpirySweeperTest {
+    @Mock
+    private VoucherSearchIndex voucherSearchIndex;
+
+    @DisplayName("sweep() : 만료된 바우처 정리 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class SweepTest {
+        @DisplayName("성공 : 만료된 바우처를 묶음 단위로 모두 지우고 처리 건수와 지연 시간을 기록합니다.")
+        @Test
+        void sweepSuccess() {
+            // given
+            MemoryVoucherRepository voucherRepository = new MemoryVoucherRepository();
+            long now = System.currentTimeMillis();
+            List<Voucher> expired = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                Voucher voucher = new FixedAmountVoucher(1000);
+                voucher.setExpiresAt(new Timestamp(now - 10_000 + i));
+                expired.add(voucherRepository.save(voucher));
+            }
+            Voucher alive = new FixedAmountVoucher(2000);
+            alive.setExpiresAt(new Timestamp(now + 60_000));
+            voucherRepository.save(alive);
+            VoucherExistenceFilter voucherExistenceFilter = new VoucherExistenceFilter(voucherRepository, 1000, 60_000,
+                1000, 60_000);
+            voucherExistenceFilter.build();
+            SimpleVoucherService voucherService = new SimpleVoucherService(voucherRepository, voucherSearchIndex,
+                voucherExistenceFilter, new VoucherChangeFeed(voucherRepository, 60_000));
+            VoucherExpirySweeper sweeper = new VoucherExpirySweeper(voucherService, 60_000, 2);
+            // when
+            long swept = sweeper.sweep();
+            // then
+            assertThat(swept, is(5L));
+            assertThat(voucherRepository.findAll(), contains(samePropertyValuesAs(alive)));
+            verify(voucherSearchIndex, times(5)).remove(any());
+            assertThat(sweeper.getMetrics().totalSwept(), is(5L));
+            assertThat(sweeper.getMetrics().lagMillis(), greaterThanOrEqualTo(10_000L));
+            // 지운 바우처는 존재 필터가 저장소에 묻지 않고 없다고 답한다.
+            assertThrows(FindFailException.class, () -> voucherExistenceFilter.load(expired.get(0).getId(),
+                () -> fail("저장소를 조회하면 안 됩니다.")));
+        }
+
+        @DisplayName("실패 : 정리에 실패하면 실패 횟수를 세고 다음 주기에 다시 시도합니다.")
+        @Test
+        void sweepFailure() {
+            // given
+            VoucherRepository voucherRepository = mock(VoucherRepository.class);
+            when(voucherRepository.removeExpired(any(), anyInt())).thenThrow(new IllegalStateException());
+            SimpleVoucherService voucherService = new SimpleVoucherService(voucherRepository, voucherSearchIndex,
+                mock(VoucherExistenceFilter.class), new VoucherChangeFeed(voucherRepository, 60_000));
+            VoucherExpirySweeper sweeper = new VoucherExpirySweeper(voucherService, 60_000, 2);
+            // when
+            long swept = sweeper.sweep();
+            // then
+            assertThat(swept, is(0L));
+            assertThat(sweeper.getMetrics().failedCount(), is(1L));
+            verifyNoInteractions(voucherSearchIndex);
+        }
+    }
+}
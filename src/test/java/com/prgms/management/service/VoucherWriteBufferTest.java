@@ -0,0 +1,160 @@
+package com.prgms.management.service;
+
+import com.prgms.management.common.exception.SaveFailException;
+import com.prgms.management.common.exception.TooManyRequestsException;
+import com.prgms.management.voucher.model.FixedAmountVoucher;
+import com.prgms.management.voucher.model.Voucher;
+import com.prgms.management.voucher.repository.VoucherRepository;
+import com.prgms.management.voucher.service.VoucherChangeFeed;
+import com.prgms.management.voucher.service.VoucherExistenceFilter;
+import com.prgms.management.voucher.service.VoucherSearchIndex;
+import com.prgms.management.voucher.service.VoucherWriteBuffer;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@TestClassOrder(ClassOrderer.DisplayName.class)
+class VoucherWriteBufferTest {
+
+    @Mock
+    private VoucherRepository voucherRepository;
+
+    @Mock
+    private VoucherSearchIndex voucherSearchIndex;
+
+    @Mock
+    private VoucherExistenceFilter voucherExistenceFilter;
+
+    @Mock
+    private VoucherChangeFeed voucherChangeFeed;
+
+    @DisplayName("offer() : 바우처 저장 대기열 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class OfferTest {
+        @DisplayName("성공 : 대기열에 들어간 바우처는 일괄 저장되기 전에도 조회할 수 있습니다.")
+        @Test
+        void offerSuccess() {
+            // given
+            VoucherWriteBuffer buffer = new VoucherWriteBuffer(voucherRepository, voucherSearchIndex,
+                voucherExistenceFilter, voucherChangeFeed, 10, 10, 10_000);
+            Voucher voucher = new FixedAmountVoucher(1000);
+            // when
+            buffer.offer(voucher);
+            // then
+            assertThat(buffer.findPending(voucher.getId()).orElseThrow(), equalTo(voucher));
+            assertThat(buffer.getMetrics().queueDepth(), is(1));
+            verify(voucherRepository, never()).saveAll(anyList());
+        }
+
+        @DisplayName("실패 : 대기열이 가득 찬 경우 Retry-After 초와 함께 TooManyRequestsException 예외가 발생합니다.")
+        @Test
+        void offerFail() {
+            // given
+            VoucherWriteBuffer buffer = new VoucherWriteBuffer(voucherRepository, voucherSearchIndex,
+                voucherExistenceFilter, voucherChangeFeed, 1, 10, 10_000);
+            buffer.offer(new FixedAmountVoucher(1000));
+            // when, then
+            TooManyRequestsException e = assertThrows(TooManyRequestsException.class,
+                () -> buffer.offer(new FixedAmountVoucher(1000)));
+            assertThat(e.getRetryAfterSeconds(), is(10L));
+            assertThat(buffer.getMetrics().rejectedCount(), is(1L));
+        }
+
+        @DisplayName("실패 : 종료된 뒤에는 SaveFailException 예외가 발생합니다.")
+        @Test
+        void offerAfterStop() throws InterruptedException {
+            // given
+            VoucherWriteBuffer buffer = new VoucherWriteBuffer(voucherRepository, voucherSearchIndex,
+                voucherExistenceFilter, voucherChangeFeed, 10, 10, 10);
+            buffer.start();
+            buffer.stop();
+            Voucher voucher = new FixedAmountVoucher(1000);
+            // when, then
+            assertThrows(SaveFailException.class, () -> buffer.offer(voucher));
+            assertThat(buffer.findPending(voucher.getId()).isPresent(), is(false));
+            assertThat(buffer.getMetrics().rejectedCount(), is(1L));
+        }
+    }
+
+    @DisplayName("stop() : 종료 시 대기열 비우기 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class StopTest {
+        @DisplayName("성공 : 종료 시 대기 중인 바우처가 한 번에 저장됩니다.")
+        @Test
+        void stopSuccess() throws InterruptedException {
+            // given
+            VoucherWriteBuffer buffer = new VoucherWriteBuffer(voucherRepository, voucherSearchIndex,
+                voucherExistenceFilter, voucherChangeFeed, 10, 10, 50);
+            Voucher first = new FixedAmountVoucher(1000);
+            Voucher second = new FixedAmountVoucher(2000);
+            buffer.offer(first);
+            buffer.offer(second);
+            // when
+            buffer.start();
+            buffer.stop();
+            // then
+            verify(voucherRepository, times(1)).saveAll(List.of(first, second));
+            assertThat(buffer.getMetrics().flushedCount(), is(2L));
+            assertThat(buffer.findPending(first.getId()).isPresent(), is(false));
+        }
+
+        @DisplayName("성공 : 일괄 저장에 실패한 바우처는 버리지 않고 다시 저장합니다.")
+        @Test
+        void retryAfterFailure() throws InterruptedException {
+            // given
+            VoucherWriteBuffer buffer = new VoucherWriteBuffer(voucherRepository, voucherSearchIndex,
+                voucherExistenceFilter, voucherChangeFeed, 10, 10, 10);
+            Voucher voucher = new FixedAmountVoucher(1000);
+            when(voucherRepository.saveAll(anyList()))
+                .thenThrow(new CannotGetJdbcConnectionException("연결 실패"))
+                .thenReturn(List.of(voucher));
+            buffer.offer(voucher);
+            // when
+            buffer.start();
+            while (buffer.getMetrics().flushedCount() == 0) {
+                Thread.sleep(5);
+            }
+            buffer.stop();
+            // then
+            verify(voucherRepository, times(2)).saveAll(List.of(voucher));
+            assertThat(buffer.getMetrics().failedCount(), is(1L));
+            assertThat(buffer.findPending(voucher.getId()).isPresent(), is(false));
+        }
+
+        @DisplayName("성공 : 묶음이 데이터 오류로 실패하면 한 건씩 저장하고, 이미 저장된 바우처는 저장된 것으로 봅니다.")
+        @Test
+        void saveEachAfterIntegrityFailure() throws InterruptedException {
+            // given
+            VoucherWriteBuffer buffer = new VoucherWriteBuffer(voucherRepository, voucherSearchIndex,
+                voucherExistenceFilter, voucherChangeFeed, 10, 10, 50);
+            Voucher first = new FixedAmountVoucher(1000);
+            Voucher second = new FixedAmountVoucher(2000);
+            when(voucherRepository.saveAll(anyList())).thenThrow(new DuplicateKeyException("중복"));
+            when(voucherRepository.save(first)).thenThrow(new DuplicateKeyException("중복"));
+            when(voucherRepository.save(second)).thenReturn(second);
+            buffer.offer(first);
+            buffer.offer(second);
+            // when
+            buffer.start();
+            buffer.stop();
+            // then
+            assertThat(buffer.getMetrics().flushedCount(), is(2L));
+            assertThat(buffer.findPending(first.getId()).isPresent(), is(false));
+            assertThat(buffer.findPending(second.getId()).isPresent(), is(false));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.prgms.management.util;
+
+import com.prgms.management.common.util.LatencyHistogram;
+import org.junit.jupiter.api.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@DisplayName("LatencyHistogram 유닛 테스트")
+class LatencyHistogramTest {
+    LatencyHistogram histogram;
+
+    @BeforeEach
+    void setUp() {
+        histogram = new LatencyHistogram();
+    }
+
+    @DisplayName("getValueAtPercentile() : 백분위 지연 시간 조회 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class PercentileTest {
+        @DisplayName("성공 : 백분위 값은 실제 값과 2% 이내의 오차를 가집니다.")
+        @Test
+        void percentileSuccess() {
+            for (long value = 1; value <= 100_000; value++) {
+                histogram.record(value * 1_000);
+            }
+
+            assertThat((double) histogram.getValueAtPercentile(50), closeTo(50_000_000, 1_000_000));
+            assertThat((double) histogram.getValueAtPercentile(99), closeTo(99_000_000, 1_980_000));
+            assertThat((double) histogram.getValueAtPercentile(99.9), closeTo(99_900_000, 1_998_000));
+            assertThat(histogram.getMaxValue(), is(100_000_000L));
+        }
+
+        @DisplayName("성공 : 작은 값은 정확하게 기록됩니다.")
+        @Test
+        void smallValueSuccess() {
+            histogram.record(3);
+            histogram.record(5);
+            histogram.record(100);
+
+            assertThat(histogram.getValueAtPercentile(50), is(5L));
+            assertThat(histogram.getValueAtPercentile(100), is(100L));
+            assertThat(histogram.getMean(), closeTo(36, 0.01));
+        }
+
+        @DisplayName("성공 : 기록이 없는 경우 0을 반환합니다.")
+        @Test
+        void emptySuccess() {
+            assertThat(histogram.getValueAtPercentile(99), is(0L));
+            assertThat(histogram.getTotalCount(), is(0L));
+        }
+    }
+}
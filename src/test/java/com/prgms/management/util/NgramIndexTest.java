@@ -0,0 +1,123 @@
+package com.prgms.management.util;
+
+import com.prgms.management.common.util.NgramIndex;
+import com.prgms.management.customer.model.Customer;
+import com.prgms.management.customer.model.CustomerType;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@DisplayName("NgramIndex 유닛 테스트")
+class NgramIndexTest {
+    NgramIndex<Customer> index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NgramIndex<>(Customer::getId, customer -> Arrays.asList(customer.getName(), customer.getEmail()));
+    }
+
+    @DisplayName("search() : 검색 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class SearchTest {
+        @DisplayName("성공 : 완전 일치, 앞부분 일치, 단어 앞부분 일치, 부분 일치 순으로 정렬됩니다.")
+        @Test
+        void searchRanked() {
+            Customer exact = customer("kim", "a@email.com");
+            Customer prefix = customer("kimchi", "b@email.com");
+            Customer word = customer("lee", "c@kim.com");
+            Customer substring = customer("joakim", "d@email.com");
+            index.putAll(List.of(substring, word, prefix, exact));
+
+            assertThat(index.search("KIM", 10), contains(exact, prefix, word, substring));
+        }
+
+        @DisplayName("성공 : 한글 부분 문자열로 검색되고 결과 수는 limit으로 제한됩니다.")
+        @Test
+        void searchKorean() {
+            List<Customer> customers = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                customers.add(customer("홍길동" + i, "hong" + i + "@email.com"));
+            }
+            index.putAll(customers);
+
+            assertThat(index.search("길동", 5), hasSize(5));
+            assertThat(index.search("길동4", 20), hasSize(11));
+            assertThat(index.search("동길", 10), empty());
+        }
+
+        @DisplayName("성공 : 한 글자 검색어는 단어 첫 글자에만 일치합니다.")
+        @Test
+        void searchSingleCharacter() {
+            Customer starts = customer("park", "p@email.com");
+            Customer contains = customer("lopez", "l@email.com");
+            index.putAll(List.of(starts, contains));
+
+            assertThat(index.search("p", 10), contains(starts));
+        }
+
+        @DisplayName("성공 : 조건에 맞지 않는 항목은 limit을 자르기 전에 빠지므로 결과가 limit만큼 채워집니다.")
+        @Test
+        void searchFilteredBeforeLimit() {
+            List<Customer> customers = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                customers.add(customer("kim" + i, "kim" + i + "@email.com"));
+            }
+            index.putAll(customers);
+            List<Customer> excluded = customers.subList(0, 5);
+
+            List<Customer> found = index.search("kim", 5, customer -> !excluded.contains(customer));
+
+            assertThat(found, hasSize(5));
+            assertThat(found, everyItem(not(in(excluded))));
+        }
+    }
+
+    @DisplayName("put(), remove() : 색인 변경 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class UpdateTest {
+        @DisplayName("성공 : 이름이 바뀌거나 삭제된 항목은 예전 값으로 검색되지 않습니다.")
+        @Test
+        void updateAndRemove() {
+            Customer customer = customer("choi", "choi@email.com");
+            index.put(customer);
+            customer.setName("jung");
+            index.put(customer);
+
+            assertThat(index.search("jung", 10), contains(customer));
+            assertThat(index.search("choi@", 10), contains(customer));
+            assertThat(index.search("choi", 10), contains(customer));
+            assertThat(index.size(), is(1));
+
+            index.remove(customer.getId());
+            assertThat(index.search("jung", 10), empty());
+            assertThat(index.size(), is(0));
+        }
+
+        @DisplayName("성공 : 삭제가 누적되어 색인을 다시 만든 뒤에도 남은 항목을 검색할 수 있습니다.")
+        @Test
+        void compact() {
+            List<Customer> customers = new ArrayList<>();
+            for (int i = 0; i < 3000; i++) {
+                customers.add(customer("user" + i, "user" + i + "@email.com"));
+            }
+            index.putAll(customers);
+            customers.subList(0, 2500).forEach(customer -> index.remove(customer.getId()));
+
+            assertThat(index.size(), is(500));
+            assertThat(index.search("user2999", 10), contains(customers.get(2999)));
+            assertThat(index.search("user10", 10), empty());
+        }
+    }
+
+    private static Customer customer(String name, String email) {
+        return new Customer(UUID.randomUUID(), name, CustomerType.WHITE, email, null, null);
+    }
+}
@@ -0,0 +1,179 @@
+package com.prgms.management.util;
+
+import com.prgms.management.common.exception.FindFailException;
+import com.prgms.management.common.util.SingleFlight;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("SingleFlight 유닛 테스트")
+class SingleFlightTest {
+    private static final int WAITERS = 8;
+
+    SingleFlight<String, String> singleFlight;
+    CountDownLatch release;
+    AtomicInteger loads;
+    ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        singleFlight = new SingleFlight<>(10);
+        release = new CountDownLatch(1);
+        loads = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(WAITERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @DisplayName("load() : 동시 조회 병합 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class LoadTest {
+        @DisplayName("성공 : 같은 키를 동시에 조회하면 한 번만 읽고 결과를 나누어 받습니다.")
+        @Test
+        void loadShared() throws InterruptedException {
+            // given
+            List<CompletableFuture<String>> results = startLoads(() -> "voucher");
+            // when
+            awaitWaiters();
+            release.countDown();
+            // then
+            results.forEach(result -> assertThat(result.join(), is("voucher")));
+            assertThat(loads.get(), is(1));
+            assertThat(singleFlight.getLoadCount(), is(1L));
+            assertThat(singleFlight.getCoalescedCount(), is((long) WAITERS - 1));
+            SingleFlight.KeySummary<String> hotKey = singleFlight.top(1).get(0);
+            assertThat(hotKey.key(), is("hot"));
+            assertThat(hotKey.maxWaiters(), is(WAITERS - 1));
+        }
+
+        @DisplayName("성공 : 조회가 끝난 뒤에는 결과를 보관하지 않고 다시 읽습니다.")
+        @Test
+        void loadAgain() {
+            singleFlight.load("hot", () -> "first");
+
+            assertThat(singleFlight.load("hot", () -> "second"), is("second"));
+            assertThat(singleFlight.getInFlight(), is(0));
+            assertThat(singleFlight.top(10), empty());
+        }
+
+        @DisplayName("실패 : 먼저 읽은 스레드의 예외를 기다리던 스레드도 그대로 받습니다.")
+        @Test
+        void loadFail() throws InterruptedException {
+            // given
+            List<CompletableFuture<String>> results = startLoads(() -> {
+                throw new FindFailException();
+            });
+            // when
+            awaitWaiters();
+            release.countDown();
+            // then
+            results.forEach(result -> {
+                CompletionException e = assertThrows(CompletionException.class, result::join);
+                assertThat(e.getCause(), instanceOf(FindFailException.class));
+            });
+            assertThat(loads.get(), is(1));
+        }
+    }
+
+    @DisplayName("top() : 몰리는 키 조회 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class TopTest {
+        @DisplayName("성공 : 기록할 키가 상한을 넘으면 가장 오래 몰리지 않은 키를 밀어내고 새 키를 기록합니다.")
+        @Test
+        void topEvictsColdKey() throws InterruptedException {
+            // given
+            singleFlight = new SingleFlight<>(1);
+            List<CompletableFuture<String>> cold = startLoads("cold", () -> "voucher");
+            awaitWaiters();
+            release.countDown();
+            cold.forEach(CompletableFuture::join);
+            release = new CountDownLatch(1);
+            // when
+            List<CompletableFuture<String>> hot = startLoads("hot", () -> "voucher");
+            awaitWaiters(2 * (WAITERS - 1));
+            release.countDown();
+            hot.forEach(CompletableFuture::join);
+            // then
+            List<SingleFlight.KeySummary<String>> top = singleFlight.top(10);
+            assertThat(top, hasSize(1));
+            assertThat(top.get(0).key(), is("hot"));
+        }
+    }
+
+    @DisplayName("forget() : 진행 중인 조회 분리 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class ForgetTest {
+        @DisplayName("성공 : 키를 잊은 뒤에 들어온 조회는 진행 중인 조회를 기다리지 않고 새로 읽습니다.")
+        @Test
+        void forgetSuccess() throws InterruptedException {
+            // given
+            CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> singleFlight.load("hot", () -> {
+                loads.incrementAndGet();
+                await(release);
+                return "before";
+            }), executor);
+            while (singleFlight.getInFlight() == 0) {
+                Thread.onSpinWait();
+            }
+            // when
+            singleFlight.forget("hot");
+            String second = singleFlight.load("hot", () -> "after");
+            release.countDown();
+            // then
+            assertThat(second, is("after"));
+            assertThat(first.join(), is("before"));
+        }
+    }
+
+    private List<CompletableFuture<String>> startLoads(Supplier<String> loader) {
+        return startLoads("hot", loader);
+    }
+
+    private List<CompletableFuture<String>> startLoads(String key, Supplier<String> loader) {
+        return IntStream.range(0, WAITERS)
+            .mapToObj(i -> CompletableFuture.supplyAsync(() -> singleFlight.load(key, () -> {
+                loads.incrementAndGet();
+                await(release);
+                return loader.get();
+            }), executor))
+            .toList();
+    }
+
+    private void awaitWaiters() throws InterruptedException {
+        awaitWaiters(WAITERS - 1);
+    }
+
+    private void awaitWaiters(long coalesced) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.getCoalescedCount() < coalesced && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.prgms.management.util;
+
+import com.prgms.management.common.util.StripedCounter;
+import org.junit.jupiter.api.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@DisplayName("StripedCounter 유닛 테스트")
+class StripedCounterTest {
+    StripedCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new StripedCounter(4);
+    }
+
+    @DisplayName("tryAcquire() : 수량 차감 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class TryAcquireTest {
+        @DisplayName("성공 : 칸 수로 나누어떨어지지 않는 수량도 한 스레드가 모두 꺼낼 수 있습니다.")
+        @Test
+        void acquireAll() {
+            counter.add(7);
+
+            for (int i = 0; i < 7; i++) {
+                assertThat(counter.tryAcquire(), is(true));
+            }
+            assertThat(counter.tryAcquire(), is(false));
+            assertThat(counter.sum(), is(0L));
+        }
+
+        @DisplayName("성공 : 여러 스레드가 동시에 꺼내도 넣은 수량보다 많이 꺼내지 않습니다.")
+        @Test
+        void acquireConcurrently() {
+            counter.add(10_000);
+            AtomicLong acquired = new AtomicLong();
+
+            CompletableFuture.allOf(IntStream.range(0, 8).mapToObj(t -> CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 5_000; i++) {
+                    if (counter.tryAcquire()) {
+                        acquired.incrementAndGet();
+                    }
+                }
+            })).toArray(CompletableFuture[]::new)).join();
+
+            assertThat(acquired.get(), is(10_000L));
+            assertThat(counter.sum(), is(0L));
+        }
+
+        @DisplayName("성공 : 돌려준 수량과 비운 수량이 합계에 반영됩니다.")
+        @Test
+        void releaseAndDrain() {
+            counter.add(3);
+            counter.tryAcquire();
+            counter.release();
+
+            assertThat(counter.drain(), is(3L));
+            assertThat(counter.tryAcquire(), is(false));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.prgms.management.util;
+
+import com.prgms.management.common.util.UuidBloomFilter;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@DisplayName("UuidBloomFilter 유닛 테스트")
+class UuidBloomFilterTest {
+    private static final int COUNT = 100_000;
+
+    UuidBloomFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new UuidBloomFilter(COUNT, 0.01);
+    }
+
+    @DisplayName("mightContain() : 포함 여부 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class MightContainTest {
+        @DisplayName("성공 : 넣은 값은 항상 있을 수 있는 값으로 판단합니다.")
+        @Test
+        void containsAll() {
+            List<UUID> ids = Stream.generate(UUID::randomUUID).limit(COUNT).toList();
+            ids.forEach(filter::put);
+
+            assertThat(ids.stream().allMatch(filter::mightContain), is(true));
+        }
+
+        @DisplayName("성공 : 넣지 않은 값을 잘못 판단하는 비율이 목표에 가깝습니다.")
+        @Test
+        void falsePositiveRate() {
+            Stream.generate(UUID::randomUUID).limit(COUNT).forEach(filter::put);
+
+            long falsePositives = Stream.generate(UUID::randomUUID).limit(COUNT).filter(filter::mightContain).count();
+            assertThat((double) falsePositives / COUNT, lessThan(0.02));
+        }
+
+        @DisplayName("성공 : 비어 있는 필터는 어떤 값도 포함하지 않습니다.")
+        @Test
+        void emptyFilter() {
+            assertThat(filter.mightContain(UUID.randomUUID()), is(false));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.prgms.management.util;
+
+import com.prgms.management.common.util.UuidHashMap;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@DisplayName("UuidHashMap 유닛 테스트")
+class UuidHashMapTest {
+    UuidHashMap<String> map;
+
+    @BeforeEach
+    void setUp() {
+        map = new UuidHashMap<>(4);
+    }
+
+    @DisplayName("put(), get(), remove() : 기본 동작 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class BasicTest {
+        @DisplayName("성공 : 같은 키로 저장하면 이전 값을 돌려주고 덮어씁니다.")
+        @Test
+        void putOverwrite() {
+            UUID key = UUID.randomUUID();
+
+            assertThat(map.put(key, "first"), is(nullValue()));
+            assertThat(map.put(key, "second"), is("first"));
+            assertThat(map.get(key), is("second"));
+            assertThat(map.size(), is(1));
+        }
+
+        @DisplayName("성공 : 확장과 삭제를 거쳐도 남은 키를 모두 찾을 수 있습니다.")
+        @Test
+        void removeAfterResize() {
+            List<UUID> keys = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                UUID key = UUID.randomUUID();
+                keys.add(key);
+                map.put(key, String.valueOf(i));
+            }
+            for (int i = 0; i < keys.size(); i += 3) {
+                assertThat(map.remove(keys.get(i)), is(String.valueOf(i)));
+            }
+
+            for (int i = 0; i < keys.size(); i++) {
+                assertThat(map.get(keys.get(i)), i % 3 == 0 ? is(nullValue()) : is(String.valueOf(i)));
+            }
+            assertThat(map.values(), hasSize(map.size()));
+        }
+    }
+
+    @DisplayName("동시성 테스트")
+    @Nested
+    @TestMethodOrder(MethodOrderer.DisplayName.class)
+    class ConcurrencyTest {
+        @DisplayName("성공 : 여러 스레드가 동시에 저장해도 유실되는 키가 없습니다.")
+        @Test
+        void concurrentPut() {
+            List<UUID> keys = IntStream.range(0, 20_000).mapToObj(i -> UUID.randomUUID()).toList();
+
+            CompletableFuture.allOf(IntStream.range(0, 4)
+                .mapToObj(t -> CompletableFuture.runAsync(() -> {
+                    for (int i = t; i < keys.size(); i += 4) {
+                        map.put(keys.get(i), "value");
+                    }
+                }))
+                .toArray(CompletableFuture[]::new)).join();
+
+            assertThat(map.size(), is(keys.size()));
+            assertThat(keys.stream().allMatch(map::containsKey), is(true));
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.prgms.management.util;
+
+import com.prgms.management.common.util.UuidOrder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@DisplayName("UuidOrder 유닛 테스트")
+class UuidOrderTest {
+    @DisplayName("성공 : 최상위 비트가 1인 id도 부호 없는 바이트 순서로 정렬됩니다.")
+    @Test
+    void compareAsUnsignedBytes() {
+        UUID low = UUID.fromString("7fffffff-ffff-ffff-ffff-ffffffffffff");
+        UUID high = UUID.fromString("80000000-0000-0000-0000-000000000000");
+
+        assertThat(low.compareTo(high), greaterThan(0));
+        assertThat(UuidOrder.compare(low, high), lessThan(0));
+    }
+
+    @DisplayName("성공 : 무작위 id를 정렬한 순서가 16바이트 배열을 부호 없이 비교한 순서와 같습니다.")
+    @Test
+    void sameAsByteArrayOrder() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        List<UUID> byBytes = ids.stream().sorted((left, right) -> Arrays.compareUnsigned(bytes(left), bytes(right))).toList();
+
+        assertThat(ids.stream().sorted(UuidOrder.BYTES).toList(), is(byBytes));
+    }
+
+    private static byte[] bytes(UUID id) {
+        return ByteBuffer.allocate(16).putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array();
+    }
+}